@@ -0,0 +1,218 @@
+package com.avaneesh.yodha.Eventify.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounded, thread-safe in-process cache with least-recently-used eviction and a time to live.
+ * <p>
+ * Keys are spread over segments by hash. Each segment is an access-ordered {@link LinkedHashMap} guarded by
+ * its own lock, so readers of different keys rarely contend, and evicts its least recently read entry once
+ * it holds its share of the capacity. Entries expire a fixed time after they were loaded and are dropped
+ * when they are next read.
+ * <p>
+ * A value loaded by {@link #get} is only stored if no invalidation ran while it was being loaded, so a read
+ * racing a write cannot put back a value the write has just invalidated.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the cached values.
+ */
+public class BoundedCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final String name;
+    private final int capacity;
+    private final long ttlNanos;
+    private final Segment<K, V>[] segments;
+    private final AtomicLong invalidationGeneration = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public BoundedCache(String name, int capacity, Duration ttl) {
+        this.name = name;
+        this.capacity = Math.max(1, capacity);
+        this.ttlNanos = ttl.toNanos();
+        int segmentCount = Math.min(MAX_SEGMENTS, this.capacity);
+        int segmentCapacity = (this.capacity + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity, evictions);
+        }
+    }
+
+    /**
+     * Returns the cached value of a key, loading and caching it on a miss or once the cached value expired.
+     * Concurrent misses of one key may each run the loader; the value stored first is returned by those that
+     * finish after it.
+     *
+     * @param key    The key.
+     * @param loader Loads the value of the key; its exceptions are passed on and nothing is cached.
+     * @return The cached or freshly loaded value.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            Entry<V> entry = segment.get(key);
+            if (entry != null) {
+                if (System.nanoTime() - entry.loadedAt < ttlNanos) {
+                    hits.increment();
+                    return entry.value;
+                }
+                segment.remove(key);
+                expirations.increment();
+            }
+        }
+        misses.increment();
+        long generation = invalidationGeneration.get();
+        V value = loader.apply(key);
+        synchronized (segment) {
+            Entry<V> stored = segment.get(key);
+            if (stored != null && System.nanoTime() - stored.loadedAt < ttlNanos) {
+                return stored.value;
+            }
+            if (invalidationGeneration.get() == generation) {
+                segment.put(key, new Entry<>(value, System.nanoTime()));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Passes every unexpired entry to an action. Does not count as a read of the entries, so it changes
+     * neither their eviction order nor the hit statistics.
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (Segment<K, V> segment : segments) {
+            List<Map.Entry<K, V>> live = new ArrayList<>();
+            synchronized (segment) {
+                long now = System.nanoTime();
+                segment.forEach((key, entry) -> {
+                    if (now - entry.loadedAt < ttlNanos) {
+                        live.add(Map.entry(key, entry.value));
+                    }
+                });
+            }
+            live.forEach(entry -> action.accept(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    /**
+     * Removes the cached value of a key.
+     */
+    public void invalidate(K key) {
+        invalidationGeneration.incrementAndGet();
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            if (segment.remove(key) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes every cached value that matches a predicate.
+     */
+    public void invalidateIf(Predicate<? super V> predicate) {
+        invalidationGeneration.incrementAndGet();
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                Iterator<Entry<V>> entries = segment.values().iterator();
+                while (entries.hasNext()) {
+                    if (predicate.test(entries.next().value)) {
+                        entries.remove();
+                        invalidations.increment();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every cached value.
+     */
+    public void invalidateAll() {
+        invalidateIf(value -> true);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    // --- Private Helper Methods ---
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments[((hash ^ (hash >>> 16)) & 0x7fffffff) % segments.length];
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+
+    private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+        private final int capacity;
+        private final LongAdder evictions;
+
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.avaneesh.yodha.Eventify.controllers;
 
 import com.avaneesh.yodha.Eventify.dto.response.AdminDashboardStatsDTO;
+import com.avaneesh.yodha.Eventify.dto.response.BookingConflictStatsResponse;
 import com.avaneesh.yodha.Eventify.dto.response.BookingResponse;
+import com.avaneesh.yodha.Eventify.dto.response.CacheStatsResponse;
 import com.avaneesh.yodha.Eventify.dto.response.UserResponse;
 import com.avaneesh.yodha.Eventify.services.AdminService;
 import com.avaneesh.yodha.Eventify.utils.ApiResponse;
@@ -63,4 +65,28 @@ public class AdminController {
         ApiResponse<List<BookingResponse>> response = new ApiResponse<>(true, "All bookings retrieved successfully.", bookings);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Retrieves per-event counters and histograms of the concurrency conflicts hit by bookings and payments.
+     *
+     * @return A response entity containing the conflict statistics, the most contended events first.
+     */
+    @GetMapping("/booking-conflicts")
+    public ResponseEntity<ApiResponse<List<BookingConflictStatsResponse>>> getBookingConflictStats() {
+        List<BookingConflictStatsResponse> stats = adminService.getBookingConflictStats();
+        ApiResponse<List<BookingConflictStatsResponse>> response = new ApiResponse<>(true, "Booking conflict statistics retrieved successfully.", stats);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Retrieves the hit, miss and eviction statistics of the event read caches.
+     *
+     * @return A response entity containing the statistics of each event cache.
+     */
+    @GetMapping("/event-cache")
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getEventCacheStats() {
+        List<CacheStatsResponse> stats = adminService.getEventCacheStats();
+        ApiResponse<List<CacheStatsResponse>> response = new ApiResponse<>(true, "Event cache statistics retrieved successfully.", stats);
+        return ResponseEntity.ok(response);
+    }
 }
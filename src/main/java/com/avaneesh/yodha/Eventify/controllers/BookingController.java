@@ -2,7 +2,12 @@ package com.avaneesh.yodha.Eventify.controllers;
 
 import com.avaneesh.yodha.Eventify.dto.request.BookingRequestDTO;
 import com.avaneesh.yodha.Eventify.dto.response.BookingResponse;
+import com.avaneesh.yodha.Eventify.dto.response.CursorPageResponse;
+import com.avaneesh.yodha.Eventify.enums.BookingStatus;
+import com.avaneesh.yodha.Eventify.security.UserDetailImp;
 import com.avaneesh.yodha.Eventify.services.BookingService;
+import com.avaneesh.yodha.Eventify.services.ConflictRetryExecutor;
+import com.avaneesh.yodha.Eventify.services.WaitingRoomService;
 import com.avaneesh.yodha.Eventify.utils.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -12,8 +17,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * Controller for managing event bookings.
  */
@@ -23,21 +26,39 @@ import java.util.List;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final WaitingRoomService waitingRoomService;
+    private final ConflictRetryExecutor conflictRetryExecutor;
 
-    public BookingController(BookingService bookingService) {
+    public BookingController(BookingService bookingService, WaitingRoomService waitingRoomService, ConflictRetryExecutor conflictRetryExecutor) {
         this.bookingService = bookingService;
+        this.waitingRoomService = waitingRoomService;
+        this.conflictRetryExecutor = conflictRetryExecutor;
     }
 
     /**
-     * Creates a new booking for an event.
+     * Creates a new booking for an event, either for explicit seats or for the best available block of a given size.
+     * A booking that loses a race for its seats is retried with backoff before a conflict is reported.
      *
      * @param userDetails       The details of the authenticated user making the booking.
+     * @param admissionToken    The admission token issued by the waiting room.
      * @param bookingRequestDTO The details of the booking request.
      * @return A response entity containing the created booking's details.
      */
     @PostMapping
-    public ResponseEntity<ApiResponse<BookingResponse>> createBooking(@AuthenticationPrincipal UserDetails userDetails, @Valid @RequestBody BookingRequestDTO bookingRequestDTO) {
-        BookingResponse bookingResponse = bookingService.createBooking(userDetails.getUsername(), bookingRequestDTO);
+    public ResponseEntity<ApiResponse<BookingResponse>> createBooking(@AuthenticationPrincipal UserDetails userDetails,
+                                                                      @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken,
+                                                                      @Valid @RequestBody BookingRequestDTO bookingRequestDTO) {
+        waitingRoomService.admit(bookingRequestDTO.getEventId(), userDetails.getUsername(), admissionToken);
+        BookingResponse bookingResponse;
+        try {
+            bookingResponse = conflictRetryExecutor.execute("createBooking", bookingRequestDTO.getEventId(),
+                    () -> bookingService.createBooking(userDetails.getUsername(), bookingRequestDTO));
+        } catch (RuntimeException e) {
+            // A failed booking does not spend the token
+            waitingRoomService.abandon(admissionToken);
+            throw e;
+        }
+        waitingRoomService.complete(admissionToken);
         ApiResponse<BookingResponse> response = new ApiResponse<>(true, "Booking created successfully", bookingResponse);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
@@ -56,15 +77,23 @@ public class BookingController {
     }
 
     /**
-     * Retrieves all bookings for the currently authenticated user.
+     * Retrieves the booking history of the currently authenticated user, newest first, one page at a time:
+     * pass the {@code nextCursor} of a page to get the next one.
      *
      * @param userDetails The details of the authenticated user.
-     * @return A response entity containing a list of the user's bookings.
+     * @param status      The status to filter by; every booking if omitted.
+     * @param cursor      The {@code nextCursor} of the previous page; the first page if omitted.
+     * @param pageSize    The size of the page.
+     * @return A response entity containing a page of the user's bookings.
      */
     @GetMapping("/user")
-    public ResponseEntity<ApiResponse<List<BookingResponse>>> getAllBookingsForUser(@AuthenticationPrincipal UserDetails userDetails) {
-        List<BookingResponse> bookingResponses = bookingService.getAllBookingsForUser(userDetails.getUsername());
-        ApiResponse<List<BookingResponse>> response = new ApiResponse<>(true, "Bookings for user retrieved successfully", bookingResponses);
+    public ResponseEntity<ApiResponse<CursorPageResponse<BookingResponse>>> getBookingHistory(
+            @AuthenticationPrincipal UserDetailImp userDetails,
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int pageSize) {
+        CursorPageResponse<BookingResponse> bookings = bookingService.getBookingHistory(userDetails.getId(), status, cursor, pageSize);
+        ApiResponse<CursorPageResponse<BookingResponse>> response = new ApiResponse<>(true, "Bookings for user retrieved successfully", bookings);
         return ResponseEntity.ok(response);
     }
 
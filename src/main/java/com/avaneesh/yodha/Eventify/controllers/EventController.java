@@ -1,19 +1,32 @@
 package com.avaneesh.yodha.Eventify.controllers;
 
 import com.avaneesh.yodha.Eventify.dto.request.EventRequestDTO;
+import com.avaneesh.yodha.Eventify.dto.response.AutocompleteSuggestion;
+import com.avaneesh.yodha.Eventify.dto.response.CursorPageResponse;
+import com.avaneesh.yodha.Eventify.dto.response.EventSummaryResponse;
 import com.avaneesh.yodha.Eventify.dto.response.EventsResponse;
+import com.avaneesh.yodha.Eventify.dto.response.FacetedSearchResponse;
+import com.avaneesh.yodha.Eventify.dto.response.SeatMapSnapshotResponse;
+import com.avaneesh.yodha.Eventify.services.AutocompleteService;
+import com.avaneesh.yodha.Eventify.services.EventCacheService;
 import com.avaneesh.yodha.Eventify.services.EventService;
+import com.avaneesh.yodha.Eventify.services.SeatInventoryService;
+import com.avaneesh.yodha.Eventify.services.SeatMapStreamService;
 import com.avaneesh.yodha.Eventify.utils.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Controller for managing events.
@@ -25,9 +38,19 @@ import java.time.LocalDateTime;
 public class EventController {
 
     private final EventService eventService;
+    private final SeatMapStreamService seatMapStreamService;
+    private final SeatInventoryService seatInventoryService;
+    private final AutocompleteService autocompleteService;
+    private final EventCacheService eventCacheService;
 
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, SeatMapStreamService seatMapStreamService,
+                           SeatInventoryService seatInventoryService, AutocompleteService autocompleteService,
+                           EventCacheService eventCacheService) {
         this.eventService = eventService;
+        this.seatMapStreamService = seatMapStreamService;
+        this.seatInventoryService = seatInventoryService;
+        this.autocompleteService = autocompleteService;
+        this.eventCacheService = eventCacheService;
     }
 
 
@@ -39,19 +62,59 @@ public class EventController {
     }
 
 
+    /**
+     * Lists event summaries; seats and bookings are only returned by {@code GET /events/{id}}. Answers a
+     * matching {@code If-None-Match} with {@code 304 Not Modified} without loading the page.
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<EventsResponse>>> getAllEvents(
+    public ResponseEntity<ApiResponse<Page<EventSummaryResponse>>> getAllEvents(
             @RequestParam(defaultValue = "0") int pageNo,
             @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(defaultValue = "eventTimestamp") String sortBy,
+            WebRequest webRequest) {
+        String eTag = eventCacheService.catalogETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        Page<EventSummaryResponse> events = eventService.getAllEvents(pageNo, pageSize, sortBy);
+        ApiResponse<Page<EventSummaryResponse>> response = new ApiResponse<>(true, "Events fetched successfully", events);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    /**
+     * Searches event summaries. {@code name} and {@code venue} match parts of the event name and venue, and
+     * every word of {@code q} must occur in the name, venue or description.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<Page<EventSummaryResponse>>> searchEvents(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String venue,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "0") int pageNo,
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
             @RequestParam(defaultValue = "eventTimestamp") String sortBy) {
-        Page<EventsResponse> events = eventService.getAllEvents(pageNo, pageSize, sortBy);
-        ApiResponse<Page<EventsResponse>> response = new ApiResponse<>(true, "Events fetched successfully", events);
+
+        Page<EventSummaryResponse> events = eventService.searchEvents(
+                name, venue, q, category, startDate, endDate, pageNo, pageSize, sortBy, minPrice, maxPrice);
+
+        ApiResponse<Page<EventSummaryResponse>> response = new ApiResponse<>(true, "Events fetched successfully", events);
         return ResponseEntity.ok(response);
     }
 
-    @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<EventsResponse>>> searchEvents(
+    /**
+     * Searches event summaries like {@code /events/search} and returns, next to the page, the number of
+     * matching events per category, date bucket and price band.
+     */
+    @GetMapping("/search/faceted")
+    public ResponseEntity<ApiResponse<FacetedSearchResponse>> searchEventsWithFacets(
             @RequestParam(required = false) String name,
+            @RequestParam(required = false) String venue,
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
@@ -61,20 +124,107 @@ public class EventController {
             @RequestParam(required = false) Double maxPrice,
             @RequestParam(defaultValue = "eventTimestamp") String sortBy) {
 
-        Page<EventsResponse> events = eventService.searchEvents(
-                name, category, startDate, endDate, pageNo, pageSize, sortBy, minPrice, maxPrice);
+        FacetedSearchResponse events = eventService.searchEventsWithFacets(
+                name, venue, q, category, startDate, endDate, pageNo, pageSize, sortBy, minPrice, maxPrice);
+
+        ApiResponse<FacetedSearchResponse> response = new ApiResponse<>(true, "Events fetched successfully", events);
+        return ResponseEntity.ok(response);
+    }
 
-        ApiResponse<Page<EventsResponse>> response = new ApiResponse<>(true, "Events fetched successfully", events);
+    /**
+     * Lists event summaries by cursor: pass the {@code nextCursor} of a page to get the next one. The total
+     * is only counted when {@code includeTotal} is set.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<EventSummaryResponse>>> getEventsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(defaultValue = "eventTimestamp") String sortBy,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorPageResponse<EventSummaryResponse> events = eventService.getEventsByCursor(cursor, pageSize, sortBy, includeTotal);
+        ApiResponse<CursorPageResponse<EventSummaryResponse>> response = new ApiResponse<>(true, "Events fetched successfully", events);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/search/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<EventSummaryResponse>>> searchEventsByCursor(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String venue,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(defaultValue = "eventTimestamp") String sortBy,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        CursorPageResponse<EventSummaryResponse> events = eventService.searchEventsByCursor(
+                name, venue, q, category, startDate, endDate, cursor, pageSize, sortBy, minPrice, maxPrice, includeTotal);
+
+        ApiResponse<CursorPageResponse<EventSummaryResponse>> response = new ApiResponse<>(true, "Events fetched successfully", events);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Suggests upcoming events, venues and categories with a word starting with the typed text, the events
+     * selling best and taking place soonest first. Meant to be called on every keystroke instead of
+     * {@code /events/search}.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<AutocompleteSuggestion>>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "8") int limit) {
+        List<AutocompleteSuggestion> suggestions = autocompleteService.complete(q, limit);
+        ApiResponse<List<AutocompleteSuggestion>> response = new ApiResponse<>(true, "Suggestions fetched successfully", suggestions);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Returns the details of an event. Answers a matching {@code If-None-Match} with
+     * {@code 304 Not Modified} without loading the event.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<EventsResponse>> getEventById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<EventsResponse>> getEventById(@PathVariable Long id, WebRequest webRequest) {
+        String eTag = eventCacheService.eventETag(id);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         EventsResponse event = eventService.getEventById(id);
         ApiResponse<EventsResponse> response = new ApiResponse<>(true, "Event fetched successfully", event);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    /**
+     * Returns the compact seat map of an event: the layout and price tiers once, and the seat
+     * statuses as a packed bitmap.
+     */
+    @GetMapping(value = "/{id}/seat-map", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<SeatMapSnapshotResponse>> getSeatMap(@PathVariable Long id) {
+        SeatMapSnapshotResponse seatMap = seatInventoryService.snapshot(id);
+        ApiResponse<SeatMapSnapshotResponse> response = new ApiResponse<>(true, "Seat map fetched successfully", seatMap);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Returns the seat map of an event in the binary format of {@code SeatMapBinaryEncoder}.
+     */
+    @GetMapping(value = "/{id}/seat-map", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getEncodedSeatMap(@PathVariable Long id) {
+        return ResponseEntity.ok(seatInventoryService.encodedSnapshot(id));
+    }
+
+    /**
+     * Streams the seat map of an event: an initial {@code snapshot} followed by {@code delta} messages
+     * with the seats whose status changed.
+     */
+    @GetMapping(value = "/{id}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeatMap(@PathVariable Long id) {
+        return seatMapStreamService.subscribe(id);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<String>> deleteEvent(@PathVariable Long id) {
         eventService.deleteEvent(id);
@@ -3,7 +3,9 @@ package com.avaneesh.yodha.Eventify.controllers;
 import com.avaneesh.yodha.Eventify.dto.request.PaymentRequest;
 import com.avaneesh.yodha.Eventify.dto.response.BookingResponse;
 import com.avaneesh.yodha.Eventify.dto.response.PaymentResponse;
+import com.avaneesh.yodha.Eventify.enums.BookingStatus;
 import com.avaneesh.yodha.Eventify.enums.PaymentStatus;
+import com.avaneesh.yodha.Eventify.services.ConflictRetryExecutor;
 import com.avaneesh.yodha.Eventify.services.PaymentService;
 import com.avaneesh.yodha.Eventify.utils.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,9 +22,11 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final ConflictRetryExecutor conflictRetryExecutor;
 
-    public PaymentController(PaymentService paymentService) {
+    public PaymentController(PaymentService paymentService, ConflictRetryExecutor conflictRetryExecutor) {
         this.paymentService = paymentService;
+        this.conflictRetryExecutor = conflictRetryExecutor;
     }
 
     /**
@@ -40,20 +44,23 @@ public class PaymentController {
 
     /**
      * Handles the confirmation (or failure) of a payment, typically via a webhook from a payment gateway.
+     * The webhook is retried when it races another change to the same booking or seats.
      *
      * @param paymentRequest The payment details from the gateway.
      * @return A response entity containing the updated booking status.
      */
     @PostMapping("/webhook")
     public ResponseEntity<ApiResponse<BookingResponse>> handlePaymentWebhook(@Valid @RequestBody PaymentRequest paymentRequest) {
-        BookingResponse bookingResponse;
+        Long eventId = paymentService.getEventIdForTransaction(paymentRequest.getTransactionId());
+        BookingResponse bookingResponse = conflictRetryExecutor.execute("processPaymentWebhook", eventId,
+                () -> paymentService.processPaymentWebhook(paymentRequest));
         ApiResponse<BookingResponse> apiResponse;
 
-        if (paymentRequest.getPaymentStatus() == PaymentStatus.COMPLETED) {
-            bookingResponse = paymentService.processPaymentWebhook(paymentRequest);
+        if (bookingResponse.getStatus() == BookingStatus.CONFIRMED) {
             apiResponse = new ApiResponse<>(true, "Payment confirmed and booking is complete.", bookingResponse);
+        } else if (paymentRequest.getPaymentStatus() == PaymentStatus.COMPLETED) {
+            apiResponse = new ApiResponse<>(false, "Booking is no longer pending; the payment is refunded.", bookingResponse);
         } else {
-            bookingResponse = paymentService.processPaymentWebhook(paymentRequest);
             apiResponse = new ApiResponse<>(false, "Payment failed and booking is cancelled.", bookingResponse);
         }
         return ResponseEntity.ok(apiResponse);
@@ -0,0 +1,54 @@
+package com.avaneesh.yodha.Eventify.controllers;
+
+import com.avaneesh.yodha.Eventify.dto.response.WaitingRoomTicketResponse;
+import com.avaneesh.yodha.Eventify.services.WaitingRoomService;
+import com.avaneesh.yodha.Eventify.utils.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller for the flash-sale waiting room that hands out booking admission tokens.
+ */
+@RestController
+@RequestMapping("/waiting-room")
+@Tag(name = "Waiting Room", description = "Endpoints for queueing before booking high-demand events")
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    public WaitingRoomController(WaitingRoomService waitingRoomService) {
+        this.waitingRoomService = waitingRoomService;
+    }
+
+    /**
+     * Joins the waiting room of an event.
+     *
+     * @param eventId     The ID of the event.
+     * @param userDetails The details of the authenticated user.
+     * @return A response entity containing the user's ticket and queue position.
+     */
+    @PostMapping("/events/{eventId}/tickets")
+    public ResponseEntity<ApiResponse<WaitingRoomTicketResponse>> joinWaitingRoom(@PathVariable Long eventId, @AuthenticationPrincipal UserDetails userDetails) {
+        WaitingRoomTicketResponse ticket = waitingRoomService.join(eventId, userDetails.getUsername());
+        ApiResponse<WaitingRoomTicketResponse> response = new ApiResponse<>(true, "Joined the waiting room", ticket);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    /**
+     * Polls the queue position of a ticket. Once admitted, the ticket ID is the admission token to send
+     * in the {@code X-Admission-Token} header of {@code POST /bookings}.
+     *
+     * @param ticketId The ID of the ticket.
+     * @return A response entity containing the ticket's position and admission state.
+     */
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<ApiResponse<WaitingRoomTicketResponse>> getTicket(@PathVariable String ticketId) {
+        WaitingRoomTicketResponse ticket = waitingRoomService.getTicket(ticketId);
+        ApiResponse<WaitingRoomTicketResponse> response = new ApiResponse<>(true, "Ticket status retrieved successfully", ticket);
+        return ResponseEntity.ok(response);
+    }
+}
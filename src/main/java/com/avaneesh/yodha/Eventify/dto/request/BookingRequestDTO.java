@@ -1,8 +1,8 @@
 package com.avaneesh.yodha.Eventify.dto.request;
 
 import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Data;
 
 import java.util.List;
@@ -12,7 +12,10 @@ public class BookingRequestDTO {
     @NotNull(message = "Event ID cannot be null")
     @Min(value = 1, message = "Event ID must be a positive number")
     private Long eventId;
-    @NotEmpty(message = "Seat IDs cannot be empty")
-    @NotNull(message = "Seat IDs cannot be null")
     private List<Long> seatIds;
+    private List<String> seatNumbers;
+    @Min(value = 1, message = "Seat count must be at least 1")
+    private Integer seatCount;
+    @Positive(message = "Price tier must be a positive number")
+    private Double priceTier;
 }
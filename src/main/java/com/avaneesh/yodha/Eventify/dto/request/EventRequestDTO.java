@@ -1,6 +1,7 @@
 package com.avaneesh.yodha.Eventify.dto.request;
 
 import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.SeatInventoryMode;
 import jakarta.validation.constraints.*;
 import lombok.Data;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,4 +33,6 @@ public class EventRequestDTO {
     private List<MultipartFile> images;
     @NotNull(message = "Gender cannot be blank.")
     private CategoryEnum category;
+    // Optional; events use the configured default inventory mode when omitted
+    private SeatInventoryMode inventoryMode;
 }
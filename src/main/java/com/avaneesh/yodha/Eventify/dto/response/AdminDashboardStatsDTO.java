@@ -9,5 +9,6 @@ public class AdminDashboardStatsDTO {
     private long totalUsers;
     private long totalEvents;
     private long totalBookings;
+    private long totalSeatsBooked;
     private double totalRevenue;
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.avaneesh.yodha.Eventify.dto.response;
+
+import com.avaneesh.yodha.Eventify.enums.SuggestionType;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class AutocompleteSuggestion {
+    private SuggestionType type;
+    private String text;
+    private Long eventId;
+    private LocalDateTime eventTimestamp;
+    private int upcomingEvents;
+}
@@ -0,0 +1,20 @@
+package com.avaneesh.yodha.Eventify.dto.response;
+
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class BookingConflictStatsResponse {
+    private Long eventId;
+    private long calls;
+    private long versionConflicts;
+    private long lockConflicts;
+    private long retries;
+    private long recovered;
+    private long exhausted;
+    // Number of calls by the number of attempts they took
+    private Map<Integer, Long> attemptsHistogram;
+    // Number of conflicted calls by the time they spent backing off, keyed by bucket upper bound ("<=10ms", ">1000ms")
+    private Map<String, Long> backoffHistogram;
+}
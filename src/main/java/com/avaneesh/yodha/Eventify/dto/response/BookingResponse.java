@@ -1,7 +1,5 @@
 package com.avaneesh.yodha.Eventify.dto.response;
 
-import com.avaneesh.yodha.Eventify.entities.Events;
-import com.avaneesh.yodha.Eventify.entities.Users;
 import com.avaneesh.yodha.Eventify.enums.BookingStatus;
 import lombok.Data;
 
@@ -14,7 +12,11 @@ public class BookingResponse {
     private LocalDateTime bookingTimestamp;
     private Double totalAmount;
     private BookingStatus status;
-    private Users user;
-    private Events event;
-    private List<SeatsResponse> bookedSeats;
+    private int numberOfSeats;
+    private Long userId;
+    private Long eventId;
+    private String eventName;
+    private LocalDateTime eventTimestamp;
+    private String venue;
+    private List<String> seatNumbers;
 }
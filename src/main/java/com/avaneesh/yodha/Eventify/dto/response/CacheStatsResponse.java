@@ -0,0 +1,16 @@
+package com.avaneesh.yodha.Eventify.dto.response;
+
+import lombok.Data;
+
+@Data
+public class CacheStatsResponse {
+    private String name;
+    private int size;
+    private int capacity;
+    private long hits;
+    private long misses;
+    private double hitRatio;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+}
@@ -0,0 +1,16 @@
+package com.avaneesh.yodha.Eventify.dto.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    // Opaque token of the next page, or null on the last page
+    private String nextCursor;
+    private boolean hasNext;
+    // Only counted when requested
+    private Long totalElements;
+}
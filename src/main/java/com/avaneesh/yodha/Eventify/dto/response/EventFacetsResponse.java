@@ -0,0 +1,15 @@
+package com.avaneesh.yodha.Eventify.dto.response;
+
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.DateBucket;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class EventFacetsResponse {
+    private long totalElements;
+    private Map<CategoryEnum, Long> categories;
+    private Map<DateBucket, Long> dates;
+    private Map<String, Long> priceBands;
+}
@@ -0,0 +1,20 @@
+package com.avaneesh.yodha.Eventify.dto.response;
+
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class EventSummaryResponse {
+    private Long id;
+    private String name;
+    private String description;
+    private String venue;
+    private LocalDateTime eventTimestamp;
+    private CategoryEnum category;
+    private int totalSeats;
+    private int availableSeats;
+    private Double minPrice;
+    private Double maxPrice;
+}
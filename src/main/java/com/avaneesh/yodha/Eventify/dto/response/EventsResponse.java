@@ -1,9 +1,11 @@
 package com.avaneesh.yodha.Eventify.dto.response;
 
 import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.SeatInventoryMode;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Data
@@ -13,8 +15,11 @@ public class EventsResponse {
     private String description;
     private String venue;
     private LocalDateTime eventTimestamp;
+    private int totalSeats;
+    private int availableSeats;
     private List<SeatsResponse> seats;
-    private List<BookingResponse> bookings;
+    private List<BookingResponse> bookings = new ArrayList<>();
     private List<String> imageUrls;
     private CategoryEnum category;
+    private SeatInventoryMode inventoryMode;
 }
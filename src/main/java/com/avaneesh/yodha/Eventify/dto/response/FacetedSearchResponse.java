@@ -0,0 +1,10 @@
+package com.avaneesh.yodha.Eventify.dto.response;
+
+import lombok.Data;
+import org.springframework.data.domain.Page;
+
+@Data
+public class FacetedSearchResponse {
+    private Page<EventSummaryResponse> events;
+    private EventFacetsResponse facets;
+}
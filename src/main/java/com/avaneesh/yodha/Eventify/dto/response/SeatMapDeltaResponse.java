@@ -0,0 +1,11 @@
+package com.avaneesh.yodha.Eventify.dto.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SeatMapDeltaResponse {
+    private Long eventId;
+    private List<SeatStatusDelta> changes;
+}
@@ -0,0 +1,20 @@
+package com.avaneesh.yodha.Eventify.dto.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SeatMapSnapshotResponse {
+    private Long eventId;
+    private int rows;
+    private int seatsPerRow;
+    private int capacity;
+    private List<Double> priceTiers;
+    // Index into priceTiers for every row, -1 for a row without seats
+    private int[] rowPriceTiers;
+    // Base64 of two bits per seat position (SeatStatus ordinal), four positions per byte, lowest bits first
+    private String statusBitmap;
+    // Runs of consecutive seat IDs as [firstPosition, firstSeatId, length]
+    private List<long[]> seatIdRanges;
+}
@@ -0,0 +1,15 @@
+package com.avaneesh.yodha.Eventify.dto.response;
+
+import com.avaneesh.yodha.Eventify.enums.SeatStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatStatusDelta {
+    private Long seatId;
+    private String seatNumber;
+    private SeatStatus status;
+}
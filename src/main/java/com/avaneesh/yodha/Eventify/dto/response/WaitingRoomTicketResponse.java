@@ -0,0 +1,14 @@
+package com.avaneesh.yodha.Eventify.dto.response;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+public class WaitingRoomTicketResponse {
+    private String ticketId;
+    private Long eventId;
+    private long position;
+    private boolean admitted;
+    private Instant expiresAt;
+}
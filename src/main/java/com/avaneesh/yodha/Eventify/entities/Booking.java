@@ -10,7 +10,9 @@ import java.util.List;
 
 @Data
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        // Seek index of the booking history of a user, newest first
+        @Index(name = "idx_bookings_user_booking_timestamp_id", columnList = "user_id, bookingTimestamp, id")})
 public class Booking {
 
     @Id
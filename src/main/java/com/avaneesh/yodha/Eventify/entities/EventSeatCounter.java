@@ -0,0 +1,29 @@
+package com.avaneesh.yodha.Eventify.entities;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * One slot of the sharded booked seat counter of an event. The booked seat count of an event is the
+ * sum of all its slots, so concurrent increments can land on different rows instead of contending on
+ * the {@code events} row.
+ */
+@Data
+@Entity
+@Table(name = "event_seat_counters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_event_seat_counter_slot", columnNames = {"event_id", "slot"}))
+public class EventSeatCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private int slot;
+
+    @Column(nullable = false)
+    private int bookedSeats;
+}
@@ -1,8 +1,12 @@
 package com.avaneesh.yodha.Eventify.entities;
 
 import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.SeatInventoryMode;
+import com.avaneesh.yodha.Eventify.inventory.SeatLayout;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Formula;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -10,7 +14,13 @@ import java.util.List;
 
 @Data
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        // Seek indexes of cursor pagination, one per supported sort key
+        @Index(name = "idx_events_event_timestamp_id", columnList = "eventTimestamp, id"),
+        @Index(name = "idx_events_name_id", columnList = "name, id"),
+        // Price filters of the event search
+        @Index(name = "idx_events_min_price", columnList = "minPrice"),
+        @Index(name = "idx_events_max_price", columnList = "maxPrice")})
 public class Events {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,13 +43,35 @@ public class Events {
     @Column(nullable = false)
     private int seatsPerRow;
 
-    @Column(nullable = false)
-    private int bookedSeats = 0;
+    // Seats booked before the sharded counter was introduced; never updated anymore
+    @Column(name = "booked_seats", nullable = false, updatable = false)
+    private int baselineBookedSeats = 0;
+
+    // Read path of the sharded counter maintained by EventSeatCounterService
+    @Formula("(booked_seats + (SELECT COALESCE(SUM(c.booked_seats), 0) FROM event_seat_counters c WHERE c.event_id = id))")
+    private int bookedSeats;
 
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private CategoryEnum category;
 
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'PHYSICAL'")
+    private SeatInventoryMode inventoryMode = SeatInventoryMode.PHYSICAL;
+
+    // Price of every row of the layout, in row order; the seat source of VIRTUAL events
+    @ElementCollection
+    @CollectionTable(name = "event_row_pricing", joinColumns = @JoinColumn(name = "event_id"))
+    @OrderColumn(name = "row_index")
+    @Column(name = "price", nullable = false)
+    private List<Double> rowPricing = new ArrayList<>();
+
+    // Lowest and highest row price, kept in step with rowPricing so that price filters never read seats
+    private Double minPrice;
+
+    private Double maxPrice;
+
     // One Event has Many Seats
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Seat> seats = new ArrayList<>();
@@ -53,6 +85,24 @@ public class Events {
     @Column(name = "image_url")
     private List<String> imageUrls = new ArrayList<>();
 
+    /**
+     * Describes the seating layout from the stored dimensions and row pricing, without loading any seat.
+     * @return The layout descriptor of the event.
+     */
+    public SeatLayout getLayout() {
+        return new SeatLayout(totalSeats, seatsPerRow, List.copyOf(rowPricing));
+    }
+
+    /**
+     * Replaces the row pricing of the layout and the price bounds derived from it.
+     * @param rowPricing The price of every row, in row order.
+     */
+    public void applyRowPricing(List<Double> rowPricing) {
+        this.rowPricing = new ArrayList<>(rowPricing);
+        this.minPrice = rowPricing.stream().min(Double::compare).orElse(null);
+        this.maxPrice = rowPricing.stream().max(Double::compare).orElse(null);
+    }
+
     /**
      * Calculates the number of available seats.
      * @return The number of seats that are not yet booked.
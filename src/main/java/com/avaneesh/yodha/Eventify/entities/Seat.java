@@ -7,7 +7,8 @@ import lombok.Data;
 
 @Data
 @Entity
-@Table(name = "seats")
+@Table(name = "seats", uniqueConstraints =
+        @UniqueConstraint(name = "uk_seats_event_seat_number", columnNames = {"event_id", "seat_number"}))
 public class Seat {
 
     @Id
@@ -0,0 +1,8 @@
+package com.avaneesh.yodha.Eventify.enums;
+
+public enum ConflictType {
+    // A row changed since it was read (@Version mismatch)
+    VERSION_CONFLICT,
+    // A row lock could not be acquired (lock wait timeout or deadlock victim)
+    LOCK_CONTENTION
+}
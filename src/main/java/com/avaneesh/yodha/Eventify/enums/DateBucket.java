@@ -0,0 +1,36 @@
+package com.avaneesh.yodha.Eventify.enums;
+
+import java.time.LocalDateTime;
+
+/**
+ * Date facet of event searches: when an event takes place, relative to now.
+ */
+public enum DateBucket {
+    PAST(null, 0),
+    NEXT_7_DAYS(0, 7),
+    NEXT_30_DAYS(7, 30),
+    NEXT_90_DAYS(30, 90),
+    LATER(90, null);
+
+    private final Integer fromDays;
+    private final Integer toDays;
+
+    DateBucket(Integer fromDays, Integer toDays) {
+        this.fromDays = fromDays;
+        this.toDays = toDays;
+    }
+
+    /**
+     * Returns the first moment of the bucket, or {@code null} if it is open towards the past.
+     */
+    public LocalDateTime start(LocalDateTime now) {
+        return fromDays != null ? now.plusDays(fromDays) : null;
+    }
+
+    /**
+     * Returns the moment the bucket ends, exclusive, or {@code null} if it is open towards the future.
+     */
+    public LocalDateTime end(LocalDateTime now) {
+        return toDays != null ? now.plusDays(toDays) : null;
+    }
+}
@@ -0,0 +1,8 @@
+package com.avaneesh.yodha.Eventify.enums;
+
+public enum SeatInventoryMode {
+    // Every seat of the layout is stored as a row in the seats table
+    PHYSICAL,
+    // The layout is the source of truth; only held or booked seats are stored
+    VIRTUAL
+}
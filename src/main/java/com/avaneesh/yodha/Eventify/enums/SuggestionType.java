@@ -0,0 +1,5 @@
+package com.avaneesh.yodha.Eventify.enums;
+
+public enum SuggestionType {
+    EVENT, VENUE, CATEGORY
+}
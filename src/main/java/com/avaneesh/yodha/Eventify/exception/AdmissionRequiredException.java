@@ -0,0 +1,7 @@
+package com.avaneesh.yodha.Eventify.exception;
+
+public class AdmissionRequiredException extends RuntimeException {
+    public AdmissionRequiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.avaneesh.yodha.Eventify.exception;
+
+public class ConcurrencyConflictException extends RuntimeException {
+    public ConcurrencyConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
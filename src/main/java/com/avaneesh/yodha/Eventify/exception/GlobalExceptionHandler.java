@@ -1,6 +1,7 @@
 package com.avaneesh.yodha.Eventify.exception;
 
 import com.avaneesh.yodha.Eventify.utils.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
@@ -48,6 +49,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    @ExceptionHandler(AdmissionRequiredException.class)
+    public ResponseEntity<ApiResponse<String>> handleAdmissionRequired(AdmissionRequiredException ex) {
+        ApiResponse<String> response = new ApiResponse<>(
+                false,
+                ex.getMessage(),
+                null);
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+    }
+
     @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
     public ResponseEntity<ApiResponse<String>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
         ApiResponse<String> response = new ApiResponse<>(
@@ -56,4 +66,13 @@ public class GlobalExceptionHandler {
                 null);
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
+
+    @ExceptionHandler(ConcurrencyConflictException.class)
+    public ResponseEntity<ApiResponse<String>> handleConcurrencyConflict(ConcurrencyConflictException ex) {
+        ApiResponse<String> response = new ApiResponse<>(
+                false,
+                ex.getMessage(),
+                null);
+        return ResponseEntity.status(HttpStatus.CONFLICT).header(HttpHeaders.RETRY_AFTER, "1").body(response);
+    }
 }
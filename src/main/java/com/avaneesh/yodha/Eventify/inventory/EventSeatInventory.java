@@ -0,0 +1,434 @@
+package com.avaneesh.yodha.Eventify.inventory;
+
+import com.avaneesh.yodha.Eventify.enums.SeatStatus;
+import com.avaneesh.yodha.Eventify.repository.projections.SeatStateView;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact in-memory seat map for a single event.
+ * <p>
+ * Every seat occupies a fixed position derived from its row label and number
+ * ({@code A1} is position 0, {@code B1} is position {@code seatsPerRow}, ...), and its
+ * {@link SeatStatus} is packed into two bits of a {@code long[]} bitmap. Seat ids are
+ * resolved to positions with a binary search over a sorted id array, so the whole map
+ * for a 100k-seat event fits in a couple of megabytes and never touches the database.
+ * <p>
+ * For best-available allocation, the longest run of adjacent free seats of every row is kept
+ * in a {@link RowRunIndex} over all rows and in one per price tier, so the front-most row
+ * that can seat a group is found in {@code O(log rows)}.
+ * <p>
+ * A virtual inventory ({@link #ofLayout}) is derived from the layout of the event alone: every
+ * position below {@code totalSeats} exists, row prices come from the layout, and only the held
+ * or booked seats are read from the database. Its seats are addressed by seat number only.
+ * <p>
+ * All state transitions are {@code synchronized} on the inventory, which makes a
+ * multi-seat check-and-set atomic for a single application instance.
+ */
+public class EventSeatInventory {
+
+    private static final int BITS_PER_SEAT = 2;
+    private static final int SEATS_PER_WORD = Long.SIZE / BITS_PER_SEAT;
+    private static final long STATE_MASK = 0b11L;
+    private static final SeatStatus[] STATES = SeatStatus.values();
+
+    private final Long eventId;
+    private final boolean virtual;
+    private final int seatsPerRow;
+    private final int capacity;
+    private final long[] words;
+    private final long[] seatIdByPosition;
+    private final long[] sortedSeatIds;
+    private final int[] positionBySortedIndex;
+    private final int rowCount;
+    private final Double[] rowPrices;
+    private final RowRunIndex rowRuns;
+    private final Map<Double, RowRunIndex> rowRunsByPrice = new HashMap<>();
+    private final Map<Double, int[]> rowsByPrice = new HashMap<>();
+    private final int[] priceSlotByRow;
+    private final List<Double> priceTiers = new ArrayList<>();
+    private final int[] priceTierByRow;
+    private int availableCount;
+
+    private EventSeatInventory(Long eventId, boolean virtual, int seatsPerRow, int capacity, int seatCount) {
+        this.eventId = eventId;
+        this.virtual = virtual;
+        this.seatsPerRow = seatsPerRow;
+        this.capacity = capacity;
+        this.words = new long[(capacity + SEATS_PER_WORD - 1) / SEATS_PER_WORD];
+        this.seatIdByPosition = new long[virtual ? 0 : capacity];
+        this.sortedSeatIds = new long[seatCount];
+        this.positionBySortedIndex = new int[seatCount];
+        this.rowCount = (capacity + seatsPerRow - 1) / seatsPerRow;
+        this.rowPrices = new Double[rowCount];
+        this.rowRuns = new RowRunIndex(rowCount);
+        this.priceSlotByRow = new int[rowCount];
+        this.priceTierByRow = new int[rowCount];
+    }
+
+    /**
+     * Builds an inventory from the persisted seat rows of an event.
+     *
+     * @param eventId     The ID of the event.
+     * @param seatsPerRow The number of seats in each row of the layout.
+     * @param seats       The persisted seat states of the event.
+     * @return A fully populated inventory.
+     */
+    public static EventSeatInventory of(Long eventId, int seatsPerRow, List<SeatStateView> seats) {
+        EventSeatInventory inventory = new EventSeatInventory(eventId, false, seatsPerRow, capacityFor(seatsPerRow, seats), seats.size());
+        long[][] idAndPosition = new long[seats.size()][];
+        int index = 0;
+        for (SeatStateView seat : seats) {
+            int position = positionOf(seat.getSeatNumber(), seatsPerRow);
+            inventory.seatIdByPosition[position] = seat.getId();
+            inventory.rowPrices[position / seatsPerRow] = seat.getSeatPricing();
+            inventory.write(position, seat.getStatus());
+            if (seat.getStatus() == SeatStatus.AVAILABLE) {
+                inventory.availableCount++;
+            }
+            idAndPosition[index++] = new long[]{seat.getId(), position};
+        }
+        // Positions without a persisted seat (a ragged last row) can never be claimed.
+        for (int position = 0; position < inventory.capacity; position++) {
+            if (inventory.seatIdByPosition[position] == 0) {
+                inventory.write(position, SeatStatus.BOOKED);
+            }
+        }
+        Arrays.sort(idAndPosition, (a, b) -> Long.compare(a[0], b[0]));
+        for (int i = 0; i < idAndPosition.length; i++) {
+            inventory.sortedSeatIds[i] = idAndPosition[i][0];
+            inventory.positionBySortedIndex[i] = (int) idAndPosition[i][1];
+        }
+        inventory.buildRowIndexes();
+        return inventory;
+    }
+
+    /**
+     * Builds a virtual inventory from the layout of an event and the seats it has stored.
+     *
+     * @param eventId     The ID of the event.
+     * @param totalSeats  The number of seats in the layout.
+     * @param seatsPerRow The number of seats in each row of the layout.
+     * @param rowPricing  The price of every row, in row order.
+     * @param storedSeats The held or booked seats of the event.
+     * @return A fully populated inventory in which every unstored seat is available.
+     */
+    public static EventSeatInventory ofLayout(Long eventId, int totalSeats, int seatsPerRow,
+                                              List<Double> rowPricing, List<SeatStateView> storedSeats) {
+        EventSeatInventory inventory = new EventSeatInventory(eventId, true, seatsPerRow, totalSeats, 0);
+        for (int row = 0; row < inventory.rowCount && row < rowPricing.size(); row++) {
+            inventory.rowPrices[row] = rowPricing.get(row);
+        }
+        inventory.availableCount = totalSeats;
+        for (SeatStateView seat : storedSeats) {
+            int position = positionOf(seat.getSeatNumber(), seatsPerRow);
+            if (position < totalSeats && seat.getStatus() != SeatStatus.AVAILABLE) {
+                inventory.write(position, seat.getStatus());
+                inventory.availableCount--;
+            }
+        }
+        inventory.buildRowIndexes();
+        return inventory;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public int getSeatsPerRow() {
+        return seatsPerRow;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the distinct row prices of the event in row order.
+     */
+    public List<Double> getPriceTiers() {
+        return List.copyOf(priceTiers);
+    }
+
+    /**
+     * Returns, for every row, the index of its price in {@link #getPriceTiers()}, or {@code -1} for a row without seats.
+     */
+    public int[] priceTierByRow() {
+        return priceTierByRow.clone();
+    }
+
+    public synchronized int getAvailableCount() {
+        return availableCount;
+    }
+
+    /**
+     * Resolves a seat id to its position in the layout.
+     *
+     * @param seatId The seat ID.
+     * @return The position of the seat, or {@code -1} if the seat does not belong to this event.
+     */
+    public int positionOf(long seatId) {
+        int index = Arrays.binarySearch(sortedSeatIds, seatId);
+        return index >= 0 ? positionBySortedIndex[index] : -1;
+    }
+
+    /**
+     * Resolves a seat number ({@code A1}, {@code B12}, ...) to its position in the layout.
+     *
+     * @param seatNumber The seat number.
+     * @return The position of the seat, or {@code -1} if the layout has no such seat.
+     */
+    public int positionOf(String seatNumber) {
+        int position = SeatLayout.positionOf(seatNumber, seatsPerRow);
+        return hasSeatAt(position) ? position : -1;
+    }
+
+    /**
+     * Returns whether the layout has a seat at the position; physical inventories may have gaps.
+     */
+    public boolean hasSeatAt(int position) {
+        return position >= 0 && position < capacity && (virtual || seatIdByPosition[position] != 0);
+    }
+
+    /**
+     * Returns the ID of the stored seat at a position, or {@code 0} if there is none or the inventory is virtual.
+     */
+    public long seatIdAt(int position) {
+        return virtual ? 0 : seatIdByPosition[position];
+    }
+
+    /**
+     * Returns the price of the row a position belongs to.
+     */
+    public Double priceAt(int position) {
+        return rowPrices[position / seatsPerRow];
+    }
+
+    /**
+     * Returns the human-readable seat number ({@code A1}, {@code B12}, ...) of a position.
+     */
+    public String seatNumberAt(int position) {
+        return SeatLayout.seatNumber(position / seatsPerRow, position % seatsPerRow);
+    }
+
+    public synchronized SeatStatus statusAt(int position) {
+        return read(position);
+    }
+
+    /**
+     * Returns the first position in {@code positions} that is not in the {@code expected} state.
+     *
+     * @return The offending position, or {@code -1} if every position matches.
+     */
+    public synchronized int firstNotIn(int[] positions, SeatStatus expected) {
+        for (int position : positions) {
+            if (read(position) != expected) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Atomically moves every position from {@code expected} to {@code next}. Either all
+     * positions are transitioned or none are.
+     *
+     * @return {@code true} if the transition was applied.
+     */
+    public synchronized boolean compareAndSet(int[] positions, SeatStatus expected, SeatStatus next) {
+        if (firstNotIn(positions, expected) >= 0) {
+            return false;
+        }
+        set(positions, next);
+        return true;
+    }
+
+    /**
+     * Unconditionally moves every position to {@code next}.
+     */
+    public synchronized void set(int[] positions, SeatStatus next) {
+        for (int position : positions) {
+            SeatStatus previous = read(position);
+            if (previous == SeatStatus.AVAILABLE && next != SeatStatus.AVAILABLE) {
+                availableCount--;
+            } else if (previous != SeatStatus.AVAILABLE && next == SeatStatus.AVAILABLE) {
+                availableCount++;
+            }
+            write(position, next);
+        }
+        int refreshedRow = -1;
+        for (int position : positions) {
+            int row = position / seatsPerRow;
+            if (row != refreshedRow) {
+                refreshRow(row);
+                refreshedRow = row;
+            }
+        }
+    }
+
+    /**
+     * Copies the status bitmap: two bits per position holding the {@link SeatStatus} ordinal,
+     * four positions per byte starting with the lowest bits.
+     *
+     * @return The packed statuses of all {@link #getCapacity()} positions.
+     */
+    public synchronized byte[] statusBitmap() {
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+        return Arrays.copyOf(buffer.array(), (capacity + 3) / 4);
+    }
+
+    /**
+     * Describes the position-to-seat-id mapping as runs of consecutive ids, which is usually a
+     * single run per event because seats are inserted in layout order.
+     *
+     * @return Runs of {@code [firstPosition, firstSeatId, length]}; positions without a seat are skipped,
+     * and a virtual inventory has none.
+     */
+    public List<long[]> seatIdRanges() {
+        List<long[]> ranges = new ArrayList<>();
+        long[] current = null;
+        for (int position = 0; position < seatIdByPosition.length; position++) {
+            long seatId = seatIdByPosition[position];
+            if (seatId == 0) {
+                current = null;
+            } else if (current != null && current[1] + current[2] == seatId) {
+                current[2]++;
+            } else {
+                current = new long[]{position, seatId, 1};
+                ranges.add(current);
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * Finds the best block of {@code count} adjacent available seats and moves it to LOCKED.
+     * The best block is the leftmost fitting run of the front-most row that can seat the whole
+     * group, optionally restricted to rows of one price tier.
+     *
+     * @param count     The number of adjacent seats required.
+     * @param priceTier The seat price of the rows to allocate from, or {@code null} for any row.
+     * @return The locked positions, or {@code null} if no row has a large enough free run.
+     */
+    public synchronized int[] claimBestAvailable(int count, Double priceTier) {
+        if (count < 1 || count > seatsPerRow) {
+            return null;
+        }
+        int row;
+        if (priceTier == null) {
+            row = rowRuns.firstAtLeast(count);
+        } else {
+            RowRunIndex tierRuns = rowRunsByPrice.get(priceTier);
+            int slot = tierRuns != null ? tierRuns.firstAtLeast(count) : -1;
+            row = slot >= 0 ? rowsByPrice.get(priceTier)[slot] : -1;
+        }
+        if (row < 0) {
+            return null;
+        }
+        int[] positions = new int[count];
+        int start = firstRunStart(row, count);
+        for (int i = 0; i < count; i++) {
+            positions[i] = start + i;
+        }
+        set(positions, SeatStatus.LOCKED);
+        return positions;
+    }
+
+    // --- Private Helper Methods ---
+
+    private void buildRowIndexes() {
+        Map<Double, Integer> rowsPerPrice = new HashMap<>();
+        for (int row = 0; row < rowCount; row++) {
+            priceTierByRow[row] = -1;
+            if (rowPrices[row] != null) {
+                priceSlotByRow[row] = rowsPerPrice.merge(rowPrices[row], 1, Integer::sum) - 1;
+                if (!priceTiers.contains(rowPrices[row])) {
+                    priceTiers.add(rowPrices[row]);
+                }
+                priceTierByRow[row] = priceTiers.indexOf(rowPrices[row]);
+            }
+        }
+        rowsPerPrice.forEach((price, rows) -> {
+            rowRunsByPrice.put(price, new RowRunIndex(rows));
+            rowsByPrice.put(price, new int[rows]);
+        });
+        for (int row = 0; row < rowCount; row++) {
+            if (rowPrices[row] != null) {
+                rowsByPrice.get(rowPrices[row])[priceSlotByRow[row]] = row;
+            }
+            refreshRow(row);
+        }
+    }
+
+    private void refreshRow(int row) {
+        int longestRun = 0;
+        int run = 0;
+        for (int position = row * seatsPerRow; position < rowEnd(row); position++) {
+            run = read(position) == SeatStatus.AVAILABLE ? run + 1 : 0;
+            longestRun = Math.max(longestRun, run);
+        }
+        rowRuns.update(row, longestRun);
+        if (rowPrices[row] != null) {
+            rowRunsByPrice.get(rowPrices[row]).update(priceSlotByRow[row], longestRun);
+        }
+    }
+
+    private int firstRunStart(int row, int count) {
+        int run = 0;
+        for (int position = row * seatsPerRow; position < rowEnd(row); position++) {
+            run = read(position) == SeatStatus.AVAILABLE ? run + 1 : 0;
+            if (run == count) {
+                return position - count + 1;
+            }
+        }
+        throw new IllegalStateException("Row index of event " + eventId + " is out of sync with its seat map.");
+    }
+
+    private int rowEnd(int row) {
+        return Math.min(capacity, (row + 1) * seatsPerRow);
+    }
+
+    private SeatStatus read(int position) {
+        int shift = (position % SEATS_PER_WORD) * BITS_PER_SEAT;
+        return STATES[(int) ((words[position / SEATS_PER_WORD] >>> shift) & STATE_MASK)];
+    }
+
+    private void write(int position, SeatStatus status) {
+        int word = position / SEATS_PER_WORD;
+        int shift = (position % SEATS_PER_WORD) * BITS_PER_SEAT;
+        words[word] = (words[word] & ~(STATE_MASK << shift)) | ((long) status.ordinal() << shift);
+    }
+
+    private static int capacityFor(int seatsPerRow, List<SeatStateView> seats) {
+        int capacity = 0;
+        for (SeatStateView seat : seats) {
+            capacity = Math.max(capacity, positionOf(seat.getSeatNumber(), seatsPerRow) + 1);
+        }
+        return capacity;
+    }
+
+    private static int positionOf(String seatNumber, int seatsPerRow) {
+        int position = SeatLayout.positionOf(seatNumber, seatsPerRow);
+        if (position < 0) {
+            throw new IllegalStateException("Seat number " + seatNumber + " does not fit a layout of " + seatsPerRow + " seats per row.");
+        }
+        return position;
+    }
+}
@@ -0,0 +1,49 @@
+package com.avaneesh.yodha.Eventify.inventory;
+
+/**
+ * Max segment tree over the longest run of adjacent free seats of each row in a set of rows.
+ * <p>
+ * Updating the run of one row and finding the front-most row whose longest run can hold a
+ * block of a given size both take {@code O(log rows)}.
+ */
+final class RowRunIndex {
+
+    private final int leaves;
+    private final int[] tree;
+
+    RowRunIndex(int slots) {
+        int leaves = 1;
+        while (leaves < slots) {
+            leaves <<= 1;
+        }
+        this.leaves = leaves;
+        this.tree = new int[2 * leaves];
+    }
+
+    /**
+     * Records the longest free run of the row stored in {@code slot}.
+     */
+    void update(int slot, int longestRun) {
+        int node = leaves + slot;
+        tree[node] = longestRun;
+        for (node >>= 1; node > 0; node >>= 1) {
+            tree[node] = Math.max(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Returns the lowest slot whose longest free run is at least {@code minRun}.
+     *
+     * @return The slot, or {@code -1} if no row can hold a block of that size.
+     */
+    int firstAtLeast(int minRun) {
+        if (tree[1] < minRun) {
+            return -1;
+        }
+        int node = 1;
+        while (node < leaves) {
+            node = tree[2 * node] >= minRun ? 2 * node : 2 * node + 1;
+        }
+        return node - leaves;
+    }
+}
@@ -0,0 +1,100 @@
+package com.avaneesh.yodha.Eventify.inventory;
+
+import java.util.List;
+
+/**
+ * Descriptor of an event's seating layout: the seats are filled row by row, {@code seatsPerRow} at a
+ * time, and every seat of a row has the row's price. A seat is identified by its row and its index in
+ * the row, which gives the seat numbers {@code A1..An}, {@code B1..Bn}, ... Rows past {@code Z} continue
+ * with {@code AA}, {@code AB}, ..., {@code ZZ}, {@code AAA}, ..., so every row label is made of upper case
+ * letters only and no two labels compare equal under a case-insensitive collation.
+ *
+ * @param totalSeats  The number of seats in the layout.
+ * @param seatsPerRow The number of seats in each row; the last row may be shorter.
+ * @param rowPricing  The price of every row, in row order, or an empty list if it is not known.
+ */
+public record SeatLayout(int totalSeats, int seatsPerRow, List<Double> rowPricing) {
+
+    public int rowCount() {
+        return (totalSeats + seatsPerRow - 1) / seatsPerRow;
+    }
+
+    /**
+     * Returns the number of seats of a row, which is {@code 0} for a row past the end of the layout.
+     */
+    public int seatsInRow(int row) {
+        return Math.max(0, Math.min(seatsPerRow, totalSeats - row * seatsPerRow));
+    }
+
+    /**
+     * Returns the price of a row, or {@code null} if it is not known.
+     */
+    public Double priceOf(int row) {
+        return row < rowPricing.size() ? rowPricing.get(row) : null;
+    }
+
+    /**
+     * Checks whether this layout differs from a stored one. Row prices are only compared when the stored
+     * layout knows them; events created before row pricing was stored are compared by their dimensions.
+     *
+     * @param stored The layout currently stored for the event.
+     * @return {@code true} if applying this layout would change the seats of the event.
+     */
+    public boolean differsFrom(SeatLayout stored) {
+        return totalSeats != stored.totalSeats || seatsPerRow != stored.seatsPerRow
+                || !stored.rowPricing.isEmpty() && !rowPricing.equals(stored.rowPricing);
+    }
+
+    /**
+     * Returns the row label that prefixes the seat numbers of a row: {@code A} to {@code Z}, then
+     * {@code AA}, {@code AB}, ... like spreadsheet columns.
+     */
+    public static String rowKey(int row) {
+        StringBuilder key = new StringBuilder(2);
+        for (int remaining = row + 1; remaining > 0; remaining = (remaining - 1) / 26) {
+            key.append((char) ('A' + (remaining - 1) % 26));
+        }
+        return key.reverse().toString();
+    }
+
+    /**
+     * Returns the seat number of a seat, e.g. {@code B12} for the twelfth seat of the second row.
+     */
+    public static String seatNumber(int row, int seatInRow) {
+        return rowKey(row) + (seatInRow + 1);
+    }
+
+    /**
+     * Resolves a seat number to its position in a layout of {@code seatsPerRow} seats per row, the inverse
+     * of {@link #seatNumber}.
+     *
+     * @param seatNumber  The seat number, e.g. {@code AB7}.
+     * @param seatsPerRow The number of seats in each row.
+     * @return The position of the seat, or {@code -1} if the seat number is malformed or its index in the
+     *         row exceeds {@code seatsPerRow}.
+     */
+    public static int positionOf(String seatNumber, int seatsPerRow) {
+        if (seatNumber == null) {
+            return -1;
+        }
+        long row = 0;
+        int digits = 0;
+        while (digits < seatNumber.length() && seatNumber.charAt(digits) >= 'A' && seatNumber.charAt(digits) <= 'Z') {
+            row = row * 26 + seatNumber.charAt(digits) - 'A' + 1;
+            digits++;
+        }
+        if (digits == 0 || digits > 6 || digits == seatNumber.length() || seatNumber.length() - digits > 9) {
+            return -1;
+        }
+        int seatInRow = 0;
+        for (int i = digits; i < seatNumber.length(); i++) {
+            char digit = seatNumber.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+            seatInRow = seatInRow * 10 + digit - '0';
+        }
+        long position = (row - 1) * seatsPerRow + seatInRow - 1;
+        return seatInRow >= 1 && seatInRow <= seatsPerRow && position <= Integer.MAX_VALUE ? (int) position : -1;
+    }
+}
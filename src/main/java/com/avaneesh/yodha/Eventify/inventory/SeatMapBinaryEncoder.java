@@ -0,0 +1,57 @@
+package com.avaneesh.yodha.Eventify.inventory;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Encodes the seat map of an event into the {@code application/octet-stream} format served by
+ * {@code GET /events/{id}/seat-map}. All numbers are big-endian:
+ * <pre>
+ * byte    version (1)
+ * long    eventId
+ * int     rows, seatsPerRow, capacity
+ * short   tierCount, followed by tierCount double prices
+ * short[] price tier index of each row (-1 for a row without seats)
+ * int     rangeCount, followed by rangeCount runs of (int firstPosition, long firstSeatId, int length)
+ * byte[]  status bitmap, two bits per position holding the SeatStatus ordinal, lowest bits first
+ * </pre>
+ */
+public final class SeatMapBinaryEncoder {
+
+    private static final byte VERSION = 1;
+
+    private SeatMapBinaryEncoder() {
+    }
+
+    public static byte[] encode(EventSeatInventory inventory) {
+        List<Double> priceTiers = inventory.getPriceTiers();
+        int[] priceTierByRow = inventory.priceTierByRow();
+        List<long[]> seatIdRanges = inventory.seatIdRanges();
+        byte[] statusBitmap = inventory.statusBitmap();
+
+        int size = 1 + Long.BYTES + 3 * Integer.BYTES
+                + Short.BYTES + priceTiers.size() * Double.BYTES
+                + priceTierByRow.length * Short.BYTES
+                + Integer.BYTES + seatIdRanges.size() * (2 * Integer.BYTES + Long.BYTES)
+                + statusBitmap.length;
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(VERSION);
+        buffer.putLong(inventory.getEventId());
+        buffer.putInt(inventory.getRowCount());
+        buffer.putInt(inventory.getSeatsPerRow());
+        buffer.putInt(inventory.getCapacity());
+        buffer.putShort((short) priceTiers.size());
+        priceTiers.forEach(buffer::putDouble);
+        for (int tier : priceTierByRow) {
+            buffer.putShort((short) tier);
+        }
+        buffer.putInt(seatIdRanges.size());
+        for (long[] range : seatIdRanges) {
+            buffer.putInt((int) range[0]);
+            buffer.putLong(range[1]);
+            buffer.putInt((int) range[2]);
+        }
+        buffer.put(statusBitmap);
+        return buffer.array();
+    }
+}
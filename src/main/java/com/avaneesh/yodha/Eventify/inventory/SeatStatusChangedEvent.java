@@ -0,0 +1,16 @@
+package com.avaneesh.yodha.Eventify.inventory;
+
+import com.avaneesh.yodha.Eventify.enums.SeatStatus;
+
+import java.util.List;
+
+/**
+ * Application event published once a transaction that moved seats of an event to a new status has committed.
+ *
+ * @param eventId     The ID of the event the seats belong to.
+ * @param seatIds     The IDs of the stored seat rows that changed, in the order of {@code seatNumbers}.
+ * @param seatNumbers The seat numbers of the seats that changed.
+ * @param status      The new status of the seats.
+ */
+public record SeatStatusChangedEvent(Long eventId, List<Long> seatIds, List<String> seatNumbers, SeatStatus status) {
+}
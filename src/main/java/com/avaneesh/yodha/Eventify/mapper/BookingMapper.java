@@ -2,14 +2,30 @@ package com.avaneesh.yodha.Eventify.mapper;
 
 import com.avaneesh.yodha.Eventify.dto.response.BookingResponse;
 import com.avaneesh.yodha.Eventify.entities.Booking;
+import com.avaneesh.yodha.Eventify.entities.Seat;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
-@Mapper(componentModel = "spring", uses = {SeatMapper.class}) // uses is for nested mappings
+@Mapper(componentModel = "spring")
 public interface BookingMapper {
+
+    /**
+     * Flattens a booking into its response. Only the ID of the user is read, which a lazy user reference
+     * holds without being loaded; the event and seats should be fetched with the booking.
+     */
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "eventId", source = "event.id")
+    @Mapping(target = "eventName", source = "event.name")
+    @Mapping(target = "eventTimestamp", source = "event.eventTimestamp")
+    @Mapping(target = "venue", source = "event.venue")
+    @Mapping(target = "seatNumbers", source = "bookedSeats")
     BookingResponse toBookingResponse(Booking booking);
 
     List<BookingResponse> toBookingResponseList(List<Booking> bookings);
 
-}
\ No newline at end of file
+    default String toSeatNumber(Seat seat) {
+        return seat.getSeatNumber();
+    }
+}
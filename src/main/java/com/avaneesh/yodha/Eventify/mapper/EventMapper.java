@@ -1,6 +1,7 @@
 package com.avaneesh.yodha.Eventify.mapper;
 
 import com.avaneesh.yodha.Eventify.dto.request.EventRequestDTO;
+import com.avaneesh.yodha.Eventify.dto.response.EventSummaryResponse;
 import com.avaneesh.yodha.Eventify.dto.response.EventsResponse;
 import com.avaneesh.yodha.Eventify.entities.Events;
 import org.mapstruct.Mapper;
@@ -13,14 +14,27 @@ public interface EventMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "seats", ignore = true)
     @Mapping(target = "bookings", ignore = true)
-    @Mapping(target = "bookedSeats", constant = "0") // Set initially to 0
+    @Mapping(target = "bookedSeats", ignore = true)
+    @Mapping(target = "baselineBookedSeats", constant = "0") // Set initially to 0
+    @Mapping(target = "rowPricing", ignore = true) // Set with the price bounds through Events.applyRowPricing
+    @Mapping(target = "minPrice", ignore = true)
+    @Mapping(target = "maxPrice", ignore = true)
+    @Mapping(target = "inventoryMode", ignore = true) // Resolved against the configured default by EventService
     Events toEvent(EventRequestDTO eventRequestDTO);
 
+    @Mapping(target = "bookings", ignore = true) // Loaded in one query by EventService
     EventsResponse toEventResponse(Events event);
 
+    EventSummaryResponse toEventSummary(Events event);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "seats", ignore = true)
     @Mapping(target = "bookings", ignore = true)
     @Mapping(target = "bookedSeats", ignore = true)
+    @Mapping(target = "baselineBookedSeats", ignore = true)
+    @Mapping(target = "rowPricing", ignore = true)
+    @Mapping(target = "minPrice", ignore = true)
+    @Mapping(target = "maxPrice", ignore = true)
+    @Mapping(target = "inventoryMode", ignore = true)
     void updateEventFromDto(EventRequestDTO dto, @MappingTarget Events entity);
 }
@@ -2,12 +2,38 @@ package com.avaneesh.yodha.Eventify.mapper;
 
 import com.avaneesh.yodha.Eventify.dto.response.SeatsResponse;
 import com.avaneesh.yodha.Eventify.entities.Seat;
+import com.avaneesh.yodha.Eventify.inventory.EventSeatInventory;
 import org.mapstruct.Mapper;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface SeatMapper {
     SeatsResponse toSeatsResponse(Seat seat);
     List<SeatsResponse> toSeatsResponseList(List<Seat> seats);
-}
\ No newline at end of file
+
+    /**
+     * Lists every seat of an event's layout from its in-memory inventory, which is how the seats of a
+     * VIRTUAL event are read: only its held or booked seats are stored, so unstored seats have no ID.
+     *
+     * @param inventory The inventory of the event.
+     * @return The seats in layout order.
+     */
+    default List<SeatsResponse> toSeatsResponseList(EventSeatInventory inventory) {
+        List<SeatsResponse> seats = new ArrayList<>(inventory.getCapacity());
+        for (int position = 0; position < inventory.getCapacity(); position++) {
+            if (!inventory.hasSeatAt(position)) {
+                continue;
+            }
+            long seatId = inventory.seatIdAt(position);
+            SeatsResponse seat = new SeatsResponse();
+            seat.setId(seatId != 0 ? seatId : null);
+            seat.setSeatNumber(inventory.seatNumberAt(position));
+            seat.setStatus(inventory.statusAt(position));
+            seat.setSeatPricing(inventory.priceAt(position));
+            seats.add(seat);
+        }
+        return seats;
+    }
+}
@@ -1,21 +1,96 @@
 package com.avaneesh.yodha.Eventify.repository;
 
 import com.avaneesh.yodha.Eventify.entities.Booking;
-import com.avaneesh.yodha.Eventify.entities.Users;
 import com.avaneesh.yodha.Eventify.enums.BookingStatus;
+import com.avaneesh.yodha.Eventify.repository.projections.PendingHoldView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findAllByUser(Users user);
+    /**
+     * Loads a booking with everything its cancellation reads: the user to check ownership against, the
+     * payment to refund, and the event and seats to release.
+     */
+    @EntityGraph(attributePaths = {"user", "event", "payment", "bookedSeats"})
+    Optional<Booking> findForCancellationById(Long id);
 
-    List<Booking> findAllByStatusAndBookingTimestampBefore(BookingStatus status, LocalDateTime cutoff);
+    /**
+     * Loads a booking with its payment, which starting a payment checks for.
+     */
+    @EntityGraph(attributePaths = {"payment"})
+    Optional<Booking> findWithPaymentById(Long id);
+
+    /**
+     * Loads a booking together with its event and seats, everything its response shows, in one query. The
+     * payment is fetched as well, as the inverse side of a one-to-one cannot be lazy and would otherwise be
+     * loaded by a query per booking.
+     */
+    @Query("SELECT b FROM Booking b JOIN FETCH b.event LEFT JOIN FETCH b.payment LEFT JOIN FETCH b.bookedSeats s WHERE b.id = :id ORDER BY s.id")
+    Optional<Booking> findWithEventAndSeatsById(@Param("id") Long id);
+
+    /**
+     * Finds the IDs of the first page of a user's booking history, newest first, on the
+     * {@code (user_id, booking_timestamp, id)} index.
+     *
+     * @param status The status to filter by, or {@code null} for every booking.
+     */
+    @Query("SELECT b.id FROM Booking b WHERE b.user.id = :userId AND (:status IS NULL OR b.status = :status) " +
+            "ORDER BY b.bookingTimestamp DESC, b.id DESC")
+    List<Long> findHistoryIds(@Param("userId") Long userId, @Param("status") BookingStatus status, Limit limit);
+
+    /**
+     * Finds the IDs of the next page of a user's booking history, seeking past the last booking of the
+     * previous page instead of skipping the rows before it.
+     */
+    @Query("SELECT b.id FROM Booking b WHERE b.user.id = :userId AND (:status IS NULL OR b.status = :status) " +
+            "AND (b.bookingTimestamp < :timestamp OR b.bookingTimestamp = :timestamp AND b.id < :id) " +
+            "ORDER BY b.bookingTimestamp DESC, b.id DESC")
+    List<Long> findHistoryIdsAfter(@Param("userId") Long userId, @Param("status") BookingStatus status,
+                                   @Param("timestamp") LocalDateTime timestamp, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.event LEFT JOIN FETCH b.payment LEFT JOIN FETCH b.bookedSeats s " +
+            "WHERE b.id IN :ids ORDER BY b.bookingTimestamp DESC, b.id DESC, s.id")
+    List<Booking> findAllWithEventAndSeatsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.event LEFT JOIN FETCH b.payment LEFT JOIN FETCH b.bookedSeats s ORDER BY b.id, s.id")
+    List<Booking> findAllWithEventAndSeats();
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.event LEFT JOIN FETCH b.payment LEFT JOIN FETCH b.bookedSeats s WHERE b.event.id = :eventId ORDER BY b.id, s.id")
+    List<Booking> findAllWithEventAndSeatsByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Locks the next chunk of expired PENDING bookings of one sweep partition. Bookings are partitioned by
+     * {@code id % partitions} so parallel sweep workers never contend for the same rows, and each chunk
+     * resumes the primary key scan after the last id of the previous chunk.
+     *
+     * @return The IDs of the locked bookings, in ascending order.
+     */
+    @Query(value = "SELECT id FROM bookings WHERE id > :afterId AND status = 'PENDING' AND booking_timestamp < :cutoff " +
+            "AND MOD(id, :partitions) = :partition ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> lockExpiredPendingBookingIds(@Param("cutoff") LocalDateTime cutoff, @Param("partitions") int partitions,
+                                            @Param("partition") int partition, @Param("afterId") long afterId,
+                                            @Param("limit") int limit);
+
+    @Query(value = "SELECT id FROM bookings WHERE id = :id AND status = 'PENDING' FOR UPDATE", nativeQuery = true)
+    List<Long> lockPendingBookingId(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = com.avaneesh.yodha.Eventify.enums.BookingStatus.CANCELLED WHERE b.id IN :ids")
+    int cancelAllByIds(@Param("ids") List<Long> ids);
+
+    @Query("SELECT b.id AS id, b.bookingTimestamp AS bookingTimestamp FROM Booking b WHERE b.status = :status")
+    List<PendingHoldView> findHoldsByStatus(@Param("status") BookingStatus status);
 
     @Query("SELECT COALESCE(SUM(b.totalAmount), 0.0) FROM Booking b WHERE b.status = :status")
     double sumTotalAmountByStatus(@Param("status") BookingStatus status);
@@ -0,0 +1,49 @@
+package com.avaneesh.yodha.Eventify.repository;
+
+import com.avaneesh.yodha.Eventify.dto.response.BookingResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of a booking in a user's booking history, which is sorted by {@code (bookingTimestamp, id)},
+ * newest first: the last booking of a cursor page, from which the next page seeks. Encoded into the opaque
+ * cursor token handed to clients.
+ *
+ * @param bookingTimestamp The time the booking was made.
+ * @param id               The ID of the booking, which breaks ties between equal timestamps.
+ */
+public record BookingSeekKey(LocalDateTime bookingTimestamp, Long id) {
+
+    public static BookingSeekKey of(BookingResponse booking) {
+        return new BookingSeekKey(booking.getBookingTimestamp(), booking.getId());
+    }
+
+    /**
+     * Decodes a cursor token of a booking history.
+     *
+     * @param token The token returned as {@code nextCursor} of the previous page.
+     * @return The seek key the token encodes.
+     * @throws IllegalArgumentException if the token is malformed.
+     */
+    public static BookingSeekKey decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\n", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+            return new BookingSeekKey(LocalDateTime.parse(parts[1]), Long.valueOf(parts[0]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor.", e);
+        }
+    }
+
+    /**
+     * Encodes this seek key into an opaque, URL-safe cursor token.
+     */
+    public String encode() {
+        String value = id + "\n" + bookingTimestamp;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,14 +1,63 @@
 package com.avaneesh.yodha.Eventify.repository;
 
 import com.avaneesh.yodha.Eventify.entities.Events;
+import com.avaneesh.yodha.Eventify.repository.projections.EventRankView;
+import com.avaneesh.yodha.Eventify.repository.projections.EventTextView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface EventRepository extends JpaRepository<Events, Long>, JpaSpecificationExecutor<Events> {
-    Page<Events> findByVenueContaining(String venue,Pageable pageable);
+public interface EventRepository extends JpaRepository<Events, Long>, JpaSpecificationExecutor<Events>, EventSummaryRepository {
     Page<Events> findAll(Pageable pageable);
+
+    /**
+     * Loads an event with its seats for its details response. The images and bookings are further bags,
+     * which cannot be fetched in the same query, so they are loaded by one query each.
+     */
+    @EntityGraph(attributePaths = {"seats"})
+    Optional<Events> findForDetailsById(Long id);
+
+    List<Events> findAllByEventTimestampAfter(LocalDateTime timestamp);
+
+    boolean existsByIdAndEventTimestampAfter(Long id, LocalDateTime timestamp);
+
+    @Query("SELECT e.id AS id, e.name AS name, e.venue AS venue, e.description AS description FROM Events e")
+    List<EventTextView> findAllText();
+
+    @Query("SELECT e.id AS id, e.name AS name, e.venue AS venue, e.category AS category, e.eventTimestamp AS eventTimestamp, " +
+            "e.bookedSeats AS bookedSeats FROM Events e WHERE e.eventTimestamp > :now")
+    List<EventRankView> findUpcomingRanks(@Param("now") LocalDateTime now);
+
+    @Query("SELECT p FROM Events e JOIN e.rowPricing p WHERE e.id = :eventId ORDER BY INDEX(p)")
+    List<Double> findRowPricingById(@Param("eventId") Long eventId);
+
+    @Modifying
+    @Query(value = "UPDATE events e SET " +
+            "min_price = COALESCE((SELECT MIN(p.price) FROM event_row_pricing p WHERE p.event_id = e.id), " +
+            "(SELECT MIN(s.seat_pricing) FROM seats s WHERE s.event_id = e.id)), " +
+            "max_price = COALESCE((SELECT MAX(p.price) FROM event_row_pricing p WHERE p.event_id = e.id), " +
+            "(SELECT MAX(s.seat_pricing) FROM seats s WHERE s.event_id = e.id)) " +
+            "WHERE e.min_price IS NULL", nativeQuery = true)
+    int backfillPriceBounds();
+
+    @Query("SELECT e.baselineBookedSeats FROM Events e WHERE e.id = :eventId")
+    int findBaselineBookedSeatsById(@Param("eventId") Long eventId);
+
+    @Query("SELECT COALESCE(SUM(e.baselineBookedSeats), 0) FROM Events e")
+    long sumBaselineBookedSeats();
+
+    @Query("SELECT e.id FROM Events e WHERE e.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
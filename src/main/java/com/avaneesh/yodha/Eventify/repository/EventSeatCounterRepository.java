@@ -0,0 +1,61 @@
+package com.avaneesh.yodha.Eventify.repository;
+
+import com.avaneesh.yodha.Eventify.entities.EventSeatCounter;
+import com.avaneesh.yodha.Eventify.repository.projections.SeatCountDriftView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EventSeatCounterRepository extends JpaRepository<EventSeatCounter, Long> {
+
+    /**
+     * Atomically adds {@code delta} to one counter slot of an event, creating the slot on first use.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO event_seat_counters (event_id, slot, booked_seats) VALUES (:eventId, :slot, :delta) " +
+            "ON DUPLICATE KEY UPDATE booked_seats = booked_seats + :delta", nativeQuery = true)
+    int increment(@Param("eventId") Long eventId, @Param("slot") int slot, @Param("delta") int delta);
+
+    @Query("SELECT COALESCE(SUM(c.bookedSeats), 0) FROM EventSeatCounter c WHERE c.eventId = :eventId")
+    long sumBookedSeatsByEventId(@Param("eventId") Long eventId);
+
+    // Ignores the slots of deleted events that a late flush may have re-created
+    @Query("SELECT COALESCE(SUM(c.bookedSeats), 0) FROM EventSeatCounter c WHERE c.eventId IN (SELECT e.id FROM Events e)")
+    long sumBookedSeats();
+
+    /**
+     * Finds the events of one sequencer lane, taking place after {@code since}, whose booked seat count does
+     * not match the number of LOCKED or BOOKED seats they hold.
+     */
+    @Query(value = DRIFT_SELECT + "FROM events e WHERE MOD(e.id, :lanes) = :lane AND e.event_timestamp > :since) d " + DRIFT_FILTER,
+            nativeQuery = true)
+    List<SeatCountDriftView> findDrifts(@Param("lanes") int lanes, @Param("lane") int lane, @Param("since") LocalDateTime since);
+
+    /**
+     * Finds which of the given events have a booked seat count that does not match the seats they hold.
+     */
+    @Query(value = DRIFT_SELECT + "FROM events e WHERE e.id IN (:eventIds)) d " + DRIFT_FILTER, nativeQuery = true)
+    List<SeatCountDriftView> findDriftsByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM event_seat_counters WHERE event_id NOT IN (SELECT id FROM events)", nativeQuery = true)
+    int deleteOrphans();
+
+    String DRIFT_SELECT = "SELECT d.event_id AS eventId, d.held_seats AS heldSeats, d.counted_seats AS countedSeats FROM (" +
+            "SELECT e.id AS event_id, " +
+            "(SELECT COUNT(*) FROM seats s WHERE s.event_id = e.id AND s.status <> 'AVAILABLE') AS held_seats, " +
+            "e.booked_seats + (SELECT COALESCE(SUM(c.booked_seats), 0) FROM event_seat_counters c WHERE c.event_id = e.id) AS counted_seats ";
+
+    String DRIFT_FILTER = "WHERE d.held_seats <> d.counted_seats";
+
+    @Modifying
+    @Query("DELETE FROM EventSeatCounter c WHERE c.eventId = :eventId")
+    void deleteAllByEventId(@Param("eventId") Long eventId);
+}
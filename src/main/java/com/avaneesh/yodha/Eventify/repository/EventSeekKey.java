@@ -0,0 +1,90 @@
+package com.avaneesh.yodha.Eventify.repository;
+
+import com.avaneesh.yodha.Eventify.dto.response.EventSummaryResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Position of an event in a listing sorted by {@code (sortBy, id)}, descending: the last event of a cursor
+ * page, from which the next page seeks. Encoded into the opaque cursor token handed to clients.
+ *
+ * @param sortBy    The sort key of the listing.
+ * @param sortValue The sort key value of the event.
+ * @param id        The ID of the event, which breaks ties between equal sort key values.
+ */
+public record EventSeekKey(String sortBy, Comparable<?> sortValue, Long id) {
+
+    // Sort keys backed by a (sortKey, id) index
+    private static final Map<String, SortKey> SORT_KEYS = Map.of(
+            "eventTimestamp", new SortKey(EventSummaryResponse::getEventTimestamp, LocalDateTime::parse),
+            "name", new SortKey(EventSummaryResponse::getName, value -> value),
+            "id", new SortKey(EventSummaryResponse::getId, Long::valueOf));
+
+    /**
+     * Returns the position of an event in a listing.
+     *
+     * @param summary The event.
+     * @param sortBy  The sort key of the listing.
+     * @return The seek key of the event.
+     */
+    public static EventSeekKey of(EventSummaryResponse summary, String sortBy) {
+        requireSupported(sortBy);
+        return new EventSeekKey(sortBy, SORT_KEYS.get(sortBy).value().apply(summary), summary.getId());
+    }
+
+    /**
+     * Checks that a listing can be paged by cursor when sorted by a field.
+     *
+     * @param sortBy The sort key.
+     * @throws IllegalArgumentException if the field has no seek index.
+     */
+    public static void requireSupported(String sortBy) {
+        if (!SORT_KEYS.containsKey(sortBy)) {
+            throw new IllegalArgumentException("Cursor pagination can only sort by " + String.join(", ", SORT_KEYS.keySet()) + ".");
+        }
+    }
+
+    /**
+     * Decodes a cursor token of a listing.
+     *
+     * @param token  The token returned as {@code nextCursor} of the previous page.
+     * @param sortBy The sort key of the listing, which must be the one the token was issued for.
+     * @return The seek key the token encodes.
+     * @throws IllegalArgumentException if the token is malformed or belongs to another sort order.
+     */
+    public static EventSeekKey decode(String token, String sortBy) {
+        requireSupported(sortBy);
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\n", 3);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor.", e);
+        }
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+        if (!parts[0].equals(sortBy)) {
+            throw new IllegalArgumentException("The cursor does not belong to a listing sorted by " + sortBy + ".");
+        }
+        try {
+            return new EventSeekKey(sortBy, SORT_KEYS.get(sortBy).parser().apply(parts[2]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor.", e);
+        }
+    }
+
+    /**
+     * Encodes this seek key into an opaque, URL-safe cursor token.
+     */
+    public String encode() {
+        String value = sortBy + "\n" + id + "\n" + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record SortKey(Function<EventSummaryResponse, Comparable<?>> value, Function<String, Comparable<?>> parser) {
+    }
+}
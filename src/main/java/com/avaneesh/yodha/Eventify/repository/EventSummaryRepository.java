@@ -0,0 +1,66 @@
+package com.avaneesh.yodha.Eventify.repository;
+
+import com.avaneesh.yodha.Eventify.dto.response.EventFacetsResponse;
+import com.avaneesh.yodha.Eventify.dto.response.EventSummaryResponse;
+import com.avaneesh.yodha.Eventify.entities.Events;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Listing queries that read event summaries instead of {@code Events} entities.
+ */
+public interface EventSummaryRepository {
+
+    /**
+     * Reads a page of event summaries in one query: the listing columns, the committed booked seat count
+     * and the stored price bounds. No seat, booking or image is loaded.
+     *
+     * @param spec     The filter, or {@code null} to list every event.
+     * @param pageable The page and sort order.
+     * @return A page of event summaries whose available seat count excludes sequenced but uncommitted changes.
+     */
+    Page<EventSummaryResponse> findSummaries(Specification<Events> spec, Pageable pageable);
+
+    /**
+     * Reads the event summaries that follow a position in a listing sorted by {@code (sortBy, id)} descending.
+     * The position is sought through the {@code (sortKey, id)} index, so every page costs the same however
+     * deep it is.
+     *
+     * @param spec   The filter, or {@code null} to list every event.
+     * @param sortBy The sort key, one of those supported by {@link EventSeekKey}.
+     * @param after  The last event of the previous page, or {@code null} for the first page.
+     * @param limit  The maximum number of summaries to read.
+     * @return The summaries, in listing order.
+     */
+    List<EventSummaryResponse> findSummariesAfter(Specification<Events> spec, String sortBy, EventSeekKey after, int limit);
+
+    /**
+     * Counts the events that match a filter.
+     *
+     * @param spec The filter, or {@code null} to count every event.
+     * @return The number of matching events.
+     */
+    long countSummaries(Specification<Events> spec);
+
+    /**
+     * Counts the events of every category, date bucket and price band in a single aggregate query. Each
+     * facet is counted under every filter but its own, so that its counts tell how many events choosing
+     * another value of the facet would find; the total applies every filter.
+     *
+     * @param filter          The filter every count applies, or {@code null}.
+     * @param categoryFilter  The category filter.
+     * @param dateFilter      The date filter.
+     * @param priceFilter     The price filter.
+     * @param now             The moment the date buckets are relative to.
+     * @param priceBandBounds The ascending prices that separate the price bands; an event is counted in the
+     *                        band of its lowest price.
+     * @return The facet counts.
+     */
+    EventFacetsResponse countFacets(Specification<Events> filter, Specification<Events> categoryFilter,
+                                    Specification<Events> dateFilter, Specification<Events> priceFilter,
+                                    LocalDateTime now, List<Double> priceBandBounds);
+}
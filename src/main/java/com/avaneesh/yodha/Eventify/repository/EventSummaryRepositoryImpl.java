@@ -0,0 +1,288 @@
+package com.avaneesh.yodha.Eventify.repository;
+
+import com.avaneesh.yodha.Eventify.dto.response.EventFacetsResponse;
+import com.avaneesh.yodha.Eventify.dto.response.EventSummaryResponse;
+import com.avaneesh.yodha.Eventify.entities.Events;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.DateBucket;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Filtered listings are built with the Criteria API so that they can apply a {@link Specification}. Criteria
+ * queries are translated to SQL again on every execution, which costs more than the indexed query itself,
+ * so unfiltered listings run the same query as a JPQL string, whose translation Hibernate caches.
+ */
+public class EventSummaryRepositoryImpl implements EventSummaryRepository {
+
+    private static final String SUMMARY_JPQL = "SELECT e.id, e.name, e.description, e.venue, e.eventTimestamp, e.category, e.totalSeats, e.bookedSeats, "
+            + "e.minPrice, e.maxPrice FROM Events e";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<EventSummaryResponse> findSummaries(Specification<Events> spec, Pageable pageable) {
+        if (spec == null) {
+            List<EventSummaryResponse> content = entityManager.createQuery(SUMMARY_JPQL + orderBy(pageable.getSort()), Tuple.class)
+                    .setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize())
+                    .getResultList().stream()
+                    .map(EventSummaryRepositoryImpl::toSummary)
+                    .toList();
+            return PageableExecutionUtils.getPage(content, pageable, () -> countSummaries(null));
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Events> event = selectSummaries(query, cb);
+        Predicate predicate = spec != null ? spec.toPredicate(event, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(orders(pageable.getSort(), event, cb));
+
+        List<EventSummaryResponse> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList().stream()
+                .map(EventSummaryRepositoryImpl::toSummary)
+                .toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> countSummaries(spec));
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<EventSummaryResponse> findSummariesAfter(Specification<Events> spec, String sortBy, EventSeekKey after, int limit) {
+        if (spec == null) {
+            String sortKey = "e." + attribute(sortBy);
+            TypedQuery<Tuple> query = after == null
+                    ? entityManager.createQuery(SUMMARY_JPQL + orderBy(Sort.by(Sort.Direction.DESC, sortBy)), Tuple.class)
+                    : entityManager.createQuery(SUMMARY_JPQL + " WHERE " + sortKey + " <= :value AND (" + sortKey + " < :value OR "
+                            + sortKey + " = :value AND e.id < :id)" + orderBy(Sort.by(Sort.Direction.DESC, sortBy)), Tuple.class)
+                    .setParameter("value", after.sortValue())
+                    .setParameter("id", after.id());
+            return query.setMaxResults(limit).getResultList().stream()
+                    .map(EventSummaryRepositoryImpl::toSummary)
+                    .toList();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Events> event = selectSummaries(query, cb);
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate predicate = spec != null ? spec.toPredicate(event, query, cb) : null;
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (after != null) {
+            // (sortKey, id) < (lastSortKey, lastId), spelled out as row value comparisons are not portable;
+            // the redundant sortKey <= lastSortKey bound lets the database range-scan the index in order
+            Expression<Comparable> sortKey = event.get(sortBy);
+            Comparable value = after.sortValue();
+            predicates.add(cb.lessThanOrEqualTo(sortKey, value));
+            predicates.add(cb.or(
+                    cb.lessThan(sortKey, value),
+                    cb.and(cb.equal(sortKey, value), cb.lessThan(event.get("id"), after.id()))));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(orders(Sort.by(Sort.Direction.DESC, sortBy), event, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(EventSummaryRepositoryImpl::toSummary)
+                .toList();
+    }
+
+    @Override
+    public long countSummaries(Specification<Events> spec) {
+        if (spec == null) {
+            return entityManager.createQuery("SELECT COUNT(e) FROM Events e", Long.class).getSingleResult();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Events> event = query.from(Events.class);
+        Predicate predicate = spec != null ? spec.toPredicate(event, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(query.isDistinct() ? cb.countDistinct(event) : cb.count(event));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public EventFacetsResponse countFacets(Specification<Events> filter, Specification<Events> categoryFilter,
+                                           Specification<Events> dateFilter, Specification<Events> priceFilter,
+                                           LocalDateTime now, List<Double> priceBandBounds) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Events> event = query.from(Events.class);
+        // Every count is a conditional sum over the same rows, so one scan yields them all
+        List<Selection<?>> counts = new ArrayList<>();
+        counts.add(countIf(cb, predicate(categoryFilter, event, query, cb), predicate(dateFilter, event, query, cb),
+                predicate(priceFilter, event, query, cb)));
+        for (CategoryEnum category : CategoryEnum.values()) {
+            counts.add(countIf(cb, cb.equal(event.get("category"), category), predicate(dateFilter, event, query, cb),
+                    predicate(priceFilter, event, query, cb)));
+        }
+        for (DateBucket bucket : DateBucket.values()) {
+            counts.add(countIf(cb, inBucket(bucket, now, event, cb), predicate(categoryFilter, event, query, cb),
+                    predicate(priceFilter, event, query, cb)));
+        }
+        for (int band = 0; band <= priceBandBounds.size(); band++) {
+            counts.add(countIf(cb, inPriceBand(band, priceBandBounds, event, cb), predicate(categoryFilter, event, query, cb),
+                    predicate(dateFilter, event, query, cb)));
+        }
+        query.multiselect(counts).where(predicate(filter, event, query, cb));
+        Tuple row = entityManager.createQuery(query).getSingleResult();
+
+        int column = 0;
+        EventFacetsResponse facets = new EventFacetsResponse();
+        facets.setTotalElements(count(row, column++));
+        Map<CategoryEnum, Long> categories = new LinkedHashMap<>();
+        for (CategoryEnum category : CategoryEnum.values()) {
+            categories.put(category, count(row, column++));
+        }
+        facets.setCategories(categories);
+        Map<DateBucket, Long> dates = new LinkedHashMap<>();
+        for (DateBucket bucket : DateBucket.values()) {
+            dates.put(bucket, count(row, column++));
+        }
+        facets.setDates(dates);
+        Map<String, Long> priceBands = new LinkedHashMap<>();
+        for (int band = 0; band <= priceBandBounds.size(); band++) {
+            priceBands.put(priceBandLabel(band, priceBandBounds), count(row, column++));
+        }
+        facets.setPriceBands(priceBands);
+        return facets;
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Applies a specification, treating a missing one or a missing predicate as no restriction.
+     */
+    private static Predicate predicate(Specification<Events> spec, Root<Events> event, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        Predicate predicate = spec != null ? spec.toPredicate(event, query, cb) : null;
+        return predicate != null ? predicate : cb.conjunction();
+    }
+
+    private static Expression<Long> countIf(CriteriaBuilder cb, Predicate... conditions) {
+        return cb.sum(cb.<Long>selectCase().when(cb.and(conditions), 1L).otherwise(0L));
+    }
+
+    private static Predicate inBucket(DateBucket bucket, LocalDateTime now, Root<Events> event, CriteriaBuilder cb) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (bucket.start(now) != null) {
+            predicates.add(cb.greaterThanOrEqualTo(event.get("eventTimestamp"), bucket.start(now)));
+        }
+        if (bucket.end(now) != null) {
+            predicates.add(cb.lessThan(event.get("eventTimestamp"), bucket.end(now)));
+        }
+        return cb.and(predicates.toArray(new Predicate[0]));
+    }
+
+    /**
+     * Band {@code i} holds the events whose lowest price is at least bound {@code i - 1} and below bound
+     * {@code i}; the first band is open below and the last one open above.
+     */
+    private static Predicate inPriceBand(int band, List<Double> bounds, Root<Events> event, CriteriaBuilder cb) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isNotNull(event.get("minPrice")));
+        if (band > 0) {
+            predicates.add(cb.greaterThanOrEqualTo(event.get("minPrice"), bounds.get(band - 1)));
+        }
+        if (band < bounds.size()) {
+            predicates.add(cb.lessThan(event.get("minPrice"), bounds.get(band)));
+        }
+        return cb.and(predicates.toArray(new Predicate[0]));
+    }
+
+    private static String priceBandLabel(int band, List<Double> bounds) {
+        String lower = band > 0 ? price(bounds.get(band - 1)) : "0";
+        return band < bounds.size() ? lower + "-" + price(bounds.get(band)) : lower + "+";
+    }
+
+    private static String price(double price) {
+        return BigDecimal.valueOf(price).stripTrailingZeros().toPlainString();
+    }
+
+    private static long count(Tuple row, int column) {
+        Number count = row.get(column, Number.class);
+        return count != null ? count.longValue() : 0; // SUM over no rows is NULL
+    }
+
+    private static Root<Events> selectSummaries(CriteriaQuery<Tuple> query, CriteriaBuilder cb) {
+        Root<Events> event = query.from(Events.class);
+        query.multiselect(
+                event.get("id"), event.get("name"), event.get("description"), event.get("venue"),
+                event.get("eventTimestamp"), event.get("category"), event.get("totalSeats"), event.get("bookedSeats"),
+                event.get("minPrice"), event.get("maxPrice"));
+        return event;
+    }
+
+    /**
+     * Renders an ORDER BY clause with the same {@code id} tie-breaker as {@link #orders}. Sort properties are
+     * checked against the entity's attributes, as they end up in the query text.
+     */
+    private String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add("e." + attribute(order.getProperty()) + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        if (sort.getOrderFor("id") == null) {
+            orders.add("e.id DESC");
+        }
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    private String attribute(String property) {
+        return entityManager.getMetamodel().entity(Events.class).getAttribute(property).getName();
+    }
+
+    private static List<Order> orders(Sort sort, Root<Events> event, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(order.isAscending() ? cb.asc(event.get(order.getProperty())) : cb.desc(event.get(order.getProperty())));
+        }
+        if (sort.getOrderFor("id") == null) {
+            orders.add(cb.desc(event.get("id"))); // Keeps events with equal sort keys on a stable page
+        }
+        return orders;
+    }
+
+    private static EventSummaryResponse toSummary(Tuple row) {
+        EventSummaryResponse summary = new EventSummaryResponse();
+        summary.setId(row.get(0, Long.class));
+        summary.setName(row.get(1, String.class));
+        summary.setDescription(row.get(2, String.class));
+        summary.setVenue(row.get(3, String.class));
+        summary.setEventTimestamp(row.get(4, LocalDateTime.class));
+        summary.setCategory(row.get(5, CategoryEnum.class));
+        summary.setTotalSeats(row.get(6, Integer.class));
+        summary.setAvailableSeats(row.get(6, Integer.class) - row.get(7, Integer.class));
+        summary.setMinPrice(row.get(8, Double.class));
+        summary.setMaxPrice(row.get(9, Double.class));
+        return summary;
+    }
+}
@@ -1,12 +1,23 @@
 package com.avaneesh.yodha.Eventify.repository;
 
 import com.avaneesh.yodha.Eventify.entities.Payments;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payments, Long> {
-    Optional<Payments> findByTransactionId(String transactionId);
-}
\ No newline at end of file
+    /**
+     * Loads a payment with everything confirming or failing it reads: the booking with its event and seats
+     * to update, and the user and event that the notification mail is rendered from.
+     */
+    @EntityGraph(attributePaths = {"booking", "booking.user", "booking.event", "booking.bookedSeats"})
+    Optional<Payments> findForConfirmationByTransactionId(String transactionId);
+
+    @Query("SELECT p.booking.event.id FROM Payments p WHERE p.transactionId = :transactionId")
+    Optional<Long> findEventIdByTransactionId(@Param("transactionId") String transactionId);
+}
@@ -0,0 +1,172 @@
+package com.avaneesh.yodha.Eventify.repository;
+
+import com.avaneesh.yodha.Eventify.inventory.SeatLayout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Writes the seat layout of an event straight to the {@code seats} table.
+ * <p>
+ * {@code Seat} ids use {@code GenerationType.IDENTITY}, so saving seat entities through JPA costs one
+ * INSERT round trip per seat and keeps every seat managed in the persistence context. This writer
+ * instead generates the rows on the fly and sends them as multi-row INSERT statements of a bounded
+ * number of rows, joining the surrounding transaction. Layout changes are written as a diff: only the
+ * seats that leave or join the layout are deleted or inserted, and the seats of rows whose price changed
+ * are repriced with one UPDATE per new price. Every statement names its seats by their exact seat numbers.
+ */
+@Repository
+public class SeatBulkWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO seats (seat_number, status, event_id, seat_pricing, version) VALUES ";
+    private static final String ROW_VALUES = "(?, 'AVAILABLE', ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final String fullChunkSql;
+
+    public SeatBulkWriter(JdbcTemplate jdbcTemplate, @Value("${app.seat-writer.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.fullChunkSql = insertSql(chunkSize);
+    }
+
+    /**
+     * Inserts the AVAILABLE seats {@code A1..An}, {@code B1..Bn}, ... of an event, priced per row.
+     *
+     * @param eventId     The ID of the event.
+     * @param totalSeats  The number of seats to create.
+     * @param seatsPerRow The number of seats in each row.
+     * @param rowPricing  The seat price of each row.
+     */
+    public void insertLayout(Long eventId, int totalSeats, int seatsPerRow, List<Double> rowPricing) {
+        insertSeats(eventId, totalSeats,
+                position -> SeatLayout.seatNumber(position / seatsPerRow, position % seatsPerRow),
+                position -> rowPricing.get(position / seatsPerRow));
+    }
+
+    /**
+     * Moves the stored seats of an event from one layout to another. Seats are matched by row and index
+     * in the row, so seats present in both layouts keep their rows; only the rest is deleted or inserted.
+     *
+     * @param eventId The ID of the event.
+     * @param current The layout the stored seats were generated from.
+     * @param target  The new layout; its row pricing must be complete.
+     * @return The number of seat rows deleted, repriced and inserted, in total.
+     */
+    public int applyLayoutChange(Long eventId, SeatLayout current, SeatLayout target) {
+        List<String> removedSeats = new ArrayList<>();
+        Map<Double, List<String>> repricedSeatsByPrice = new LinkedHashMap<>();
+        List<String> addedSeats = new ArrayList<>();
+        List<Double> addedPrices = new ArrayList<>();
+        int rows = Math.max(current.rowCount(), target.rowCount());
+        for (int row = 0; row < rows; row++) {
+            int before = current.seatsInRow(row);
+            int after = target.seatsInRow(row);
+            for (int seatInRow = after; seatInRow < before; seatInRow++) {
+                removedSeats.add(SeatLayout.seatNumber(row, seatInRow));
+            }
+            int kept = Math.min(before, after);
+            if (kept > 0 && !Objects.equals(current.priceOf(row), target.priceOf(row))) {
+                List<String> repricedSeats = repricedSeatsByPrice.computeIfAbsent(target.priceOf(row), price -> new ArrayList<>());
+                for (int seatInRow = 0; seatInRow < kept; seatInRow++) {
+                    repricedSeats.add(SeatLayout.seatNumber(row, seatInRow));
+                }
+            }
+            for (int seatInRow = before; seatInRow < after; seatInRow++) {
+                addedSeats.add(SeatLayout.seatNumber(row, seatInRow));
+                addedPrices.add(target.priceOf(row));
+            }
+        }
+        int changed = 0;
+        for (Map.Entry<Double, List<String>> price : repricedSeatsByPrice.entrySet()) {
+            changed += repriceSeats(eventId, price.getKey(), price.getValue());
+        }
+        changed += deleteSeats(eventId, removedSeats);
+        insertSeats(eventId, addedSeats.size(), addedSeats::get, addedPrices::get);
+        return changed + addedSeats.size();
+    }
+
+    // --- Private Helper Methods ---
+
+    private void insertSeats(Long eventId, int count, IntFunction<String> seatNumberAt, IntFunction<Double> priceAt) {
+        for (int first = 0; first < count; first += chunkSize) {
+            int rows = Math.min(chunkSize, count - first);
+            String sql = rows == chunkSize ? fullChunkSql : insertSql(rows);
+            int firstIndex = first;
+            jdbcTemplate.update(sql, statement -> {
+                int parameter = 1;
+                for (int index = firstIndex; index < firstIndex + rows; index++) {
+                    statement.setString(parameter++, seatNumberAt.apply(index));
+                    statement.setLong(parameter++, eventId);
+                    statement.setDouble(parameter++, priceAt.apply(index));
+                }
+            });
+        }
+    }
+
+    /**
+     * Deletes seats by their exact seat numbers, a chunk per statement, on the (event_id, seat_number) index.
+     */
+    private int deleteSeats(Long eventId, List<String> seatNumbers) {
+        int deleted = 0;
+        for (int first = 0; first < seatNumbers.size(); first += chunkSize) {
+            List<String> chunk = seatNumbers.subList(first, Math.min(seatNumbers.size(), first + chunkSize));
+            String sql = "DELETE FROM seats WHERE event_id = ? AND seat_number IN (" + placeholders(chunk.size()) + ")";
+            deleted += jdbcTemplate.update(sql, statement -> {
+                int parameter = 1;
+                statement.setLong(parameter++, eventId);
+                for (String seatNumber : chunk) {
+                    statement.setString(parameter++, seatNumber);
+                }
+            });
+        }
+        return deleted;
+    }
+
+    /**
+     * Sets the price of seats by their exact seat numbers, a chunk per statement, on the (event_id, seat_number) index.
+     */
+    private int repriceSeats(Long eventId, Double price, List<String> seatNumbers) {
+        int repriced = 0;
+        for (int first = 0; first < seatNumbers.size(); first += chunkSize) {
+            List<String> chunk = seatNumbers.subList(first, Math.min(seatNumbers.size(), first + chunkSize));
+            String sql = "UPDATE seats SET seat_pricing = ?, version = version + 1 WHERE event_id = ? AND seat_number IN ("
+                    + placeholders(chunk.size()) + ")";
+            repriced += jdbcTemplate.update(sql, statement -> {
+                int parameter = 1;
+                statement.setDouble(parameter++, price);
+                statement.setLong(parameter++, eventId);
+                for (String seatNumber : chunk) {
+                    statement.setString(parameter++, seatNumber);
+                }
+            });
+        }
+        return repriced;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_VALUES.length() + 1));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(ROW_VALUES);
+        }
+        return sql.toString();
+    }
+}
@@ -1,12 +1,73 @@
 package com.avaneesh.yodha.Eventify.repository;
 
+import com.avaneesh.yodha.Eventify.entities.Booking;
 import com.avaneesh.yodha.Eventify.entities.Events;
 import com.avaneesh.yodha.Eventify.entities.Seat;
+import com.avaneesh.yodha.Eventify.repository.projections.SeatOwnerView;
+import com.avaneesh.yodha.Eventify.repository.projections.SeatStateView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface SeatRepository extends JpaRepository<Seat,Long> {
+
+    @Query("SELECT s.id AS id, s.seatNumber AS seatNumber, s.status AS status, s.seatPricing AS seatPricing " +
+            "FROM Seat s WHERE s.event.id = :eventId")
+    List<SeatStateView> findSeatStatesByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Atomically locks a group of seats for a booking in a single statement. Only seats of the given
+     * event that are still AVAILABLE are claimed, so callers must compare the returned row count with
+     * the number of requested seats and roll back if they differ.
+     *
+     * @return The number of seats that were claimed.
+     */
+    @Modifying
+    @Query("UPDATE Seat s SET s.status = com.avaneesh.yodha.Eventify.enums.SeatStatus.LOCKED, " +
+            "s.booking = :booking, s.version = s.version + 1 " +
+            "WHERE s.id IN :seatIds AND s.event.id = :eventId " +
+            "AND s.status = com.avaneesh.yodha.Eventify.enums.SeatStatus.AVAILABLE")
+    int claimAvailableSeats(@Param("seatIds") List<Long> seatIds, @Param("eventId") Long eventId,
+                            @Param("booking") Booking booking);
+
+    /**
+     * Finds which of a group of seats that {@link #claimAvailableSeats} failed to claim for a booking are held
+     * or booked by someone else.
+     */
+    @Query("SELECT s.id AS id, s.seatNumber AS seatNumber, s.status AS status, s.seatPricing AS seatPricing " +
+            "FROM Seat s WHERE s.id IN :seatIds AND s.status <> com.avaneesh.yodha.Eventify.enums.SeatStatus.AVAILABLE " +
+            "AND (s.booking IS NULL OR s.booking.id <> :bookingId)")
+    List<SeatStateView> findSeatsTakenFrom(@Param("seatIds") List<Long> seatIds, @Param("bookingId") Long bookingId);
+
+    @Query("SELECT s.id AS id, s.seatNumber AS seatNumber, s.event.id AS eventId FROM Seat s WHERE s.booking.id IN :bookingIds")
+    List<SeatOwnerView> findSeatOwnersByBookingIds(@Param("bookingIds") List<Long> bookingIds);
+
+    /**
+     * Returns every seat of a PHYSICAL event held by the given bookings to the pool of available seats in a single statement.
+     *
+     * @return The number of seats that were released.
+     */
+    @Modifying
+    @Query("UPDATE Seat s SET s.status = com.avaneesh.yodha.Eventify.enums.SeatStatus.AVAILABLE, " +
+            "s.booking = null, s.version = s.version + 1 WHERE s.booking.id IN :bookingIds " +
+            "AND s.event.id IN (SELECT e.id FROM Events e " +
+            "WHERE e.inventoryMode = com.avaneesh.yodha.Eventify.enums.SeatInventoryMode.PHYSICAL)")
+    int releaseAllByBookingIds(@Param("bookingIds") List<Long> bookingIds);
+
+    /**
+     * Deletes every seat of a VIRTUAL event held by the given bookings in a single statement; the
+     * layout of such an event already describes its available seats.
+     *
+     * @return The number of seats that were deleted.
+     */
+    @Modifying
+    @Query("DELETE FROM Seat s WHERE s.booking.id IN :bookingIds " +
+            "AND s.event.id IN (SELECT e.id FROM Events e " +
+            "WHERE e.inventoryMode = com.avaneesh.yodha.Eventify.enums.SeatInventoryMode.VIRTUAL)")
+    int deleteVirtualSeatsByBookingIds(@Param("bookingIds") List<Long> bookingIds);
 }
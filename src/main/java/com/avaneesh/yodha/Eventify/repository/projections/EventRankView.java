@@ -0,0 +1,22 @@
+package com.avaneesh.yodha.Eventify.repository.projections;
+
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of an upcoming event used to rank autocomplete suggestions.
+ */
+public interface EventRankView {
+    Long getId();
+
+    String getName();
+
+    String getVenue();
+
+    CategoryEnum getCategory();
+
+    LocalDateTime getEventTimestamp();
+
+    int getBookedSeats();
+}
@@ -0,0 +1,14 @@
+package com.avaneesh.yodha.Eventify.repository.projections;
+
+/**
+ * Projection of the searchable text of an event used to build the event text index.
+ */
+public interface EventTextView {
+    Long getId();
+
+    String getName();
+
+    String getVenue();
+
+    String getDescription();
+}
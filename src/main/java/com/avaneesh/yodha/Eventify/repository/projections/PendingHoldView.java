@@ -0,0 +1,12 @@
+package com.avaneesh.yodha.Eventify.repository.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a PENDING booking used to rebuild the hold expiry schedule at startup.
+ */
+public interface PendingHoldView {
+    Long getId();
+
+    LocalDateTime getBookingTimestamp();
+}
@@ -0,0 +1,14 @@
+package com.avaneesh.yodha.Eventify.repository.projections;
+
+/**
+ * Projection of an event whose sharded booked seat count disagrees with the seats it actually holds.
+ */
+public interface SeatCountDriftView {
+    Long getEventId();
+
+    // Seats of the event that are LOCKED or BOOKED
+    long getHeldSeats();
+
+    // Baseline plus the sum of the counter slots
+    long getCountedSeats();
+}
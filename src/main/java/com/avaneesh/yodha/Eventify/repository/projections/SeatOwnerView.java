@@ -0,0 +1,12 @@
+package com.avaneesh.yodha.Eventify.repository.projections;
+
+/**
+ * Projection of a seat and the event it belongs to, used to update the in-memory inventory after a bulk release.
+ */
+public interface SeatOwnerView {
+    Long getId();
+
+    String getSeatNumber();
+
+    Long getEventId();
+}
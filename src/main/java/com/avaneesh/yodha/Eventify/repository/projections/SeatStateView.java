@@ -0,0 +1,17 @@
+package com.avaneesh.yodha.Eventify.repository.projections;
+
+import com.avaneesh.yodha.Eventify.enums.SeatStatus;
+
+/**
+ * Lightweight projection of a seat row used to rebuild in-memory seat inventories
+ * without materializing managed {@code Seat} entities.
+ */
+public interface SeatStateView {
+    Long getId();
+
+    String getSeatNumber();
+
+    SeatStatus getStatus();
+
+    Double getSeatPricing();
+}
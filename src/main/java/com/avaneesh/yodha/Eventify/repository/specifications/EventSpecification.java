@@ -1,48 +1,95 @@
 package com.avaneesh.yodha.Eventify.repository.specifications;
 
 import com.avaneesh.yodha.Eventify.entities.Events;
-import com.avaneesh.yodha.Eventify.entities.Seat;
-import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class EventSpecification {
 
     public static Specification<Events> getEvents(
-            String name, String category, LocalDateTime startDate, LocalDateTime endDate, Double minPrice, Double maxPrice) {
+            String name, String venue, String keywords, String category, LocalDateTime startDate, LocalDateTime endDate,
+            Double minPrice, Double maxPrice) {
 
+        return matchingText(name, venue, keywords)
+                .and(inCategory(category))
+                .and(between(startDate, endDate))
+                .and(priceOverlaps(minPrice, maxPrice));
+    }
+
+    public static Specification<Events> matchingText(String name, String venue, String keywords) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
-            if (name != null && !name.isEmpty()) {
+            if (name != null && !name.isBlank()) {
                 predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
             }
-            if (category != null && !category.isEmpty()) {
-                predicates.add(criteriaBuilder.equal(criteriaBuilder.lower(root.get("category")), category.toLowerCase()));
+            if (venue != null && !venue.isBlank()) {
+                predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("venue")), "%" + venue.toLowerCase() + "%"));
+            }
+            if (keywords != null && !keywords.isBlank()) {
+                for (String keyword : keywords.toLowerCase().trim().split("\\s+")) {
+                    String pattern = "%" + keyword + "%";
+                    predicates.add(criteriaBuilder.or(
+                            criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), pattern),
+                            criteriaBuilder.like(criteriaBuilder.lower(root.get("venue")), pattern),
+                            criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), pattern)));
+                }
             }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static Specification<Events> inCategory(String category) {
+        return (root, query, criteriaBuilder) -> category != null && !category.isEmpty()
+                ? criteriaBuilder.equal(criteriaBuilder.lower(root.get("category")), category.toLowerCase())
+                : criteriaBuilder.conjunction();
+    }
+
+    public static Specification<Events> between(LocalDateTime startDate, LocalDateTime endDate) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
             if (startDate != null) {
                 predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("eventTimestamp"), startDate));
             }
             if (endDate != null) {
                 predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("eventTimestamp"), endDate));
             }
-            if (minPrice != null || maxPrice != null) {
-                Join<Events, Seat> seatJoin = root.join("seats");
 
-                if (minPrice != null) {
-                    predicates.add(criteriaBuilder.greaterThanOrEqualTo(seatJoin.get("seatPricing"), minPrice));
-                }
-                if (maxPrice != null) {
-                    predicates.add(criteriaBuilder.lessThanOrEqualTo(seatJoin.get("seatPricing"), maxPrice));
-                }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * An event matches when its price range overlaps the requested one, read from the stored price bounds.
+     */
+    public static Specification<Events> priceOverlaps(Double minPrice, Double maxPrice) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (minPrice != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("maxPrice"), minPrice));
+            }
+            if (maxPrice != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("minPrice"), maxPrice));
             }
-            query.distinct(true);
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Restricts a search to the events found by the event text index.
+     */
+    public static Specification<Events> idIn(Collection<Long> eventIds) {
+        return (root, query, criteriaBuilder) -> eventIds.isEmpty()
+                ? criteriaBuilder.disjunction()
+                : root.get("id").in(eventIds);
+    }
+}
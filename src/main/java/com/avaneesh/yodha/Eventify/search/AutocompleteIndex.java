@@ -0,0 +1,201 @@
+package com.avaneesh.yodha.Eventify.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable prefix index that completes typed text to the best-ranked suggestions.
+ * <p>
+ * The index is a flattened trie: every word of a suggestion's text starts a key running to the end of the
+ * text, and the keys are kept in one sorted array, so the keys below any trie node form a contiguous range
+ * that two binary searches find. The best suggestions of a range are picked by score, each suggestion
+ * counted once however many of its words match. Ranges of one and two letter prefixes span a large part of
+ * the index, so their best suggestions are computed when the index is built.
+ * <p>
+ * Instances are never modified after they are built and can be read by any number of threads without
+ * locking; a change of the suggestions builds a new index.
+ *
+ * @param <T> The type of the suggestions.
+ */
+public class AutocompleteIndex<T> {
+
+    private static final int PRECOMPUTED_PREFIX_LENGTH = 2;
+    private static final int MAX_KEY_LENGTH = 48;
+
+    private final String[] keys;
+    private final int[] owners;
+    private final List<T> suggestions;
+    private final double[] scores;
+    private final int maxLimit;
+    private final Map<String, int[]> precomputed = new HashMap<>();
+
+    private AutocompleteIndex(String[] keys, int[] owners, List<T> suggestions, double[] scores, int maxLimit) {
+        this.keys = keys;
+        this.owners = owners;
+        this.suggestions = suggestions;
+        this.scores = scores;
+        this.maxLimit = maxLimit;
+        for (int i = 0; i < keys.length; i++) {
+            for (int length = 1; length <= PRECOMPUTED_PREFIX_LENGTH && length <= keys[i].length(); length++) {
+                // The first key of every short prefix starts its range
+                if (i == 0 || keys[i - 1].length() < length || !keys[i].regionMatches(0, keys[i - 1], 0, length)) {
+                    String prefix = keys[i].substring(0, length);
+                    precomputed.put(prefix, best(i, upperBound(prefix), maxLimit));
+                }
+            }
+        }
+    }
+
+    /**
+     * Completes a prefix to the best-ranked suggestions that have a word starting with it.
+     *
+     * @param prefix The typed text; case and repeated whitespace are ignored.
+     * @param limit  The maximum number of suggestions, at most the limit the index was built for.
+     * @return The matching suggestions, best first.
+     */
+    public List<T> complete(String prefix, int limit) {
+        String key = normalize(prefix);
+        int count = Math.min(limit, maxLimit);
+        if (key.isEmpty() || count <= 0) {
+            return List.of();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            key = key.substring(0, MAX_KEY_LENGTH);
+        }
+        int[] best = key.length() <= PRECOMPUTED_PREFIX_LENGTH
+                ? precomputed.getOrDefault(key, new int[0])
+                : best(lowerBound(key), upperBound(key), count);
+        List<T> completions = new ArrayList<>(Math.min(count, best.length));
+        for (int i = 0; i < best.length && i < count; i++) {
+            completions.add(suggestions.get(best[i]));
+        }
+        return completions;
+    }
+
+    public int size() {
+        return suggestions.size();
+    }
+
+    /**
+     * Collects the suggestions of an index and builds the index.
+     *
+     * @param <T> The type of the suggestions.
+     */
+    public static final class Builder<T> {
+        private final List<String> keys = new ArrayList<>();
+        private final List<Integer> owners = new ArrayList<>();
+        private final List<T> suggestions = new ArrayList<>();
+        private final List<Double> scores = new ArrayList<>();
+
+        /**
+         * Adds a suggestion that completes every prefix of the words of a text.
+         *
+         * @param suggestion The suggestion.
+         * @param text       The text the suggestion is found by.
+         * @param score      The rank of the suggestion; higher scores are suggested first.
+         */
+        public Builder<T> add(T suggestion, String text, double score) {
+            String normalized = normalize(text);
+            if (normalized.isEmpty()) {
+                return this;
+            }
+            int owner = suggestions.size();
+            suggestions.add(suggestion);
+            scores.add(score);
+            for (int i = 0; i < normalized.length(); i++) {
+                if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                    keys.add(normalized.substring(i, Math.min(normalized.length(), i + MAX_KEY_LENGTH)));
+                    owners.add(owner);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Builds the index.
+         *
+         * @param maxLimit The largest number of suggestions a completion may ask for.
+         * @return The index of the added suggestions.
+         */
+        public AutocompleteIndex<T> build(int maxLimit) {
+            Integer[] order = new Integer[keys.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> keys.get(a).compareTo(keys.get(b)));
+            String[] sortedKeys = new String[order.length];
+            int[] sortedOwners = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedKeys[i] = keys.get(order[i]);
+                sortedOwners[i] = owners.get(order[i]);
+            }
+            double[] scoreArray = scores.stream().mapToDouble(Double::doubleValue).toArray();
+            return new AutocompleteIndex<>(sortedKeys, sortedOwners, List.copyOf(suggestions), scoreArray, maxLimit);
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Returns the best {@code limit} distinct suggestions of a range of keys, best first; ties keep the
+     * order in which the suggestions were added.
+     */
+    private int[] best(int from, int to, int limit) {
+        int[] best = new int[limit];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int owner = owners[i];
+            if (count == limit && !ranksBefore(owner, best[count - 1])) {
+                continue;
+            }
+            int position = -1;
+            for (int j = 0; j < count; j++) {
+                if (best[j] == owner) {
+                    position = j;
+                    break;
+                }
+            }
+            if (position >= 0) {
+                continue;
+            }
+            position = Math.min(count, limit - 1);
+            while (position > 0 && ranksBefore(owner, best[position - 1])) {
+                best[position] = best[position - 1];
+                position--;
+            }
+            best[position] = owner;
+            count = Math.min(count + 1, limit);
+        }
+        return Arrays.copyOf(best, count);
+    }
+
+    private boolean ranksBefore(int suggestion, int other) {
+        return scores[suggestion] > scores[other] || scores[suggestion] == scores[other] && suggestion < other;
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(String prefix) {
+        return lowerBound(prefix + Character.MAX_VALUE);
+    }
+
+    private static String normalize(String text) {
+        return text != null ? text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -0,0 +1,369 @@
+package com.avaneesh.yodha.Eventify.search;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index of the name, venue and description of events, answering case-insensitive
+ * substring queries the way {@code lower(field) LIKE '%text%'} does.
+ * <p>
+ * Every field value is lowercased and split into its overlapping trigrams, and each trigram maps to the set
+ * of events whose field contains it. A text of three or more characters can only occur in a value that
+ * contains all of its trigrams, so the smallest trigram set of the most selective clause of a query bounds
+ * the events that can match; only those are checked against the stored values. A query whose clauses are
+ * all shorter than a trigram checks every event.
+ * <p>
+ * Events are stored in reusable slots so that the trigram sets hold primitive slot numbers. Readers share a
+ * read lock; adding, replacing and removing an event take the write lock.
+ */
+public class EventTextIndex {
+
+    private static final int GRAM = 3;
+
+    public enum Field {
+        NAME, VENUE, DESCRIPTION
+    }
+
+    /**
+     * A condition of a query: the text must occur in at least one of the fields.
+     *
+     * @param fields The fields to search.
+     * @param text   The text to look for.
+     */
+    public record Clause(Set<Field> fields, String text) {
+
+        public Clause {
+            text = normalize(text);
+        }
+
+        public static Clause in(Field field, String text) {
+            return new Clause(EnumSet.of(field), text);
+        }
+
+        public static Clause anywhere(String text) {
+            return new Clause(EnumSet.allOf(Field.class), text);
+        }
+    }
+
+    private final Map<Long, Integer> slotsByEventId = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private long[] eventIds = new long[16];
+    private String[][] values = new String[16][];
+    private final Map<Field, Map<Long, SlotSet>> postings = new EnumMap<>(Field.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public EventTextIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds an event to the index, or replaces the values indexed for it.
+     *
+     * @param eventId     The ID of the event.
+     * @param name        The name of the event.
+     * @param venue       The venue of the event.
+     * @param description The description of the event.
+     */
+    public void put(Long eventId, String name, String venue, String description) {
+        String[] normalized = {normalize(name), normalize(venue), normalize(description)};
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsByEventId.get(eventId);
+            if (slot == null) {
+                slot = allocateSlot(eventId);
+            }
+            String[] previous = values[slot];
+            values[slot] = normalized;
+            for (Field field : Field.values()) {
+                String before = previous != null ? previous[field.ordinal()] : "";
+                String after = normalized[field.ordinal()];
+                if (!before.equals(after)) {
+                    removePostings(field, before, slot);
+                    addPostings(field, after, slot);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an event from the index.
+     *
+     * @param eventId The ID of the event.
+     */
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsByEventId.remove(eventId);
+            if (slot == null) {
+                return;
+            }
+            for (Field field : Field.values()) {
+                removePostings(field, values[slot][field.ordinal()], slot);
+            }
+            values[slot] = null;
+            freeSlots.push(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the events that satisfy every clause of a query.
+     *
+     * @param clauses The clauses of the query; at least one is required.
+     * @param limit   The number of matches past which the search stops.
+     * @return The IDs of the matching events, or {@code null} if more than {@code limit} events match.
+     */
+    public Set<Long> find(List<Clause> clauses, int limit) {
+        lock.readLock().lock();
+        try {
+            Set<Long> matches = new HashSet<>();
+            SlotSet[] candidates = candidates(clauses);
+            if (candidates == null) {
+                for (int slot : slotsByEventId.values()) {
+                    if (matches(slot, clauses) && !addMatch(matches, slot, limit)) {
+                        return null;
+                    }
+                }
+                return matches;
+            }
+            for (int i = 0; i < candidates.length; i++) {
+                int[] table = candidates[i].table;
+                for (int entry : table) {
+                    if (entry == 0 || alreadyVisited(candidates, i, entry - 1)) {
+                        continue;
+                    }
+                    if (matches(entry - 1, clauses) && !addMatch(matches, entry - 1, limit)) {
+                        return null;
+                    }
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsByEventId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Picks the clause with the fewest possible matches and returns, for each of its fields, the smallest
+     * trigram set of its text; together they hold every event the query can match.
+     *
+     * @return The candidate sets, or {@code null} if no clause is long enough to have trigrams.
+     */
+    private SlotSet[] candidates(List<Clause> clauses) {
+        SlotSet[] best = null;
+        long bestSize = Long.MAX_VALUE;
+        for (Clause clause : clauses) {
+            if (clause.text().length() < GRAM) {
+                continue;
+            }
+            SlotSet[] sets = new SlotSet[clause.fields().size()];
+            int count = 0;
+            long size = 0;
+            for (Field field : clause.fields()) {
+                SlotSet smallest = smallestPostings(field, clause.text());
+                if (smallest != null) {
+                    sets[count++] = smallest;
+                    size += smallest.size;
+                }
+            }
+            if (size < bestSize) {
+                best = Arrays.copyOf(sets, count);
+                bestSize = size;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the smallest set of events that contain one of the trigrams of a text in a field, or
+     * {@code null} if some trigram occurs in no value of the field.
+     */
+    private SlotSet smallestPostings(Field field, String text) {
+        Map<Long, SlotSet> fieldPostings = postings.get(field);
+        SlotSet smallest = null;
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            SlotSet slots = fieldPostings.get(gramKey(text, i));
+            if (slots == null) {
+                return null;
+            }
+            if (smallest == null || slots.size < smallest.size) {
+                smallest = slots;
+            }
+        }
+        return smallest;
+    }
+
+    private static boolean alreadyVisited(SlotSet[] candidates, int current, int slot) {
+        for (int i = 0; i < current; i++) {
+            if (candidates[i].contains(slot)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(int slot, List<Clause> clauses) {
+        String[] slotValues = values[slot];
+        for (Clause clause : clauses) {
+            boolean found = false;
+            for (Field field : clause.fields()) {
+                if (slotValues[field.ordinal()].contains(clause.text())) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean addMatch(Set<Long> matches, int slot, int limit) {
+        matches.add(eventIds[slot]);
+        return matches.size() <= limit;
+    }
+
+    private int allocateSlot(Long eventId) {
+        Integer slot = freeSlots.poll();
+        if (slot == null) {
+            slot = slotsByEventId.size();
+            if (slot == eventIds.length) {
+                eventIds = Arrays.copyOf(eventIds, slot * 2);
+                values = Arrays.copyOf(values, slot * 2);
+            }
+        }
+        slotsByEventId.put(eventId, slot);
+        eventIds[slot] = eventId;
+        return slot;
+    }
+
+    private void addPostings(Field field, String value, int slot) {
+        Map<Long, SlotSet> fieldPostings = postings.get(field);
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            fieldPostings.computeIfAbsent(gramKey(value, i), key -> new SlotSet()).add(slot);
+        }
+    }
+
+    private void removePostings(Field field, String value, int slot) {
+        Map<Long, SlotSet> fieldPostings = postings.get(field);
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            long key = gramKey(value, i);
+            SlotSet slots = fieldPostings.get(key);
+            if (slots != null && slots.remove(slot) && slots.size == 0) {
+                fieldPostings.remove(key);
+            }
+        }
+    }
+
+    private static long gramKey(String value, int start) {
+        return (long) value.charAt(start) << 32 | (long) value.charAt(start + 1) << 16 | value.charAt(start + 2);
+    }
+
+    private static String normalize(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * Open-addressing hash set of slot numbers. The table stores {@code slot + 1} so that {@code 0} marks an
+     * empty cell, and removals shift the following cells back instead of leaving tombstones.
+     */
+    private static final class SlotSet {
+        private int[] table = new int[4];
+        private int size;
+
+        private boolean add(int slot) {
+            if ((size + 1) * 2 > table.length) {
+                resize(table.length * 2);
+            }
+            int entry = slot + 1;
+            int mask = table.length - 1;
+            for (int i = hash(entry) & mask; ; i = (i + 1) & mask) {
+                if (table[i] == 0) {
+                    table[i] = entry;
+                    size++;
+                    return true;
+                }
+                if (table[i] == entry) {
+                    return false;
+                }
+            }
+        }
+
+        private boolean contains(int slot) {
+            return indexOf(slot + 1) >= 0;
+        }
+
+        private boolean remove(int slot) {
+            int hole = indexOf(slot + 1);
+            if (hole < 0) {
+                return false;
+            }
+            int mask = table.length - 1;
+            for (int i = (hole + 1) & mask; table[i] != 0; i = (i + 1) & mask) {
+                int home = hash(table[i]) & mask;
+                // Move the entry into the hole unless its home cell lies cyclically between the hole and it
+                if (((i - home) & mask) >= ((i - hole) & mask)) {
+                    table[hole] = table[i];
+                    hole = i;
+                }
+            }
+            table[hole] = 0;
+            size--;
+            return true;
+        }
+
+        private int indexOf(int entry) {
+            int mask = table.length - 1;
+            for (int i = hash(entry) & mask; table[i] != 0; i = (i + 1) & mask) {
+                if (table[i] == entry) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void resize(int capacity) {
+            int[] old = table;
+            table = new int[capacity];
+            size = 0;
+            for (int entry : old) {
+                if (entry != 0) {
+                    add(entry - 1);
+                }
+            }
+        }
+
+        private static int hash(int entry) {
+            int h = entry * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -51,6 +51,14 @@ public class JWTFilter extends OncePerRequestFilter {
         chain.doFilter(request, response);
     }
 
+    /**
+     * Waiting room polling is anonymous and served from memory, so skip the user lookup for it.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) && request.getServletPath().startsWith("/waiting-room/tickets/");
+    }
+
     private void setupSpringAuthentication(String token, UserDetails userDetails, HttpServletRequest request) {
         List<String> roles = jwtUtil.extractRoles(token);
         List<SimpleGrantedAuthority> authorities;
@@ -63,6 +63,7 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers(HttpMethod.PUT,"/events/**").hasAnyAuthority("VENDOR", "ADMIN")
                         .requestMatchers(HttpMethod.GET,"/events/**").permitAll()
+                        .requestMatchers(HttpMethod.GET,"/waiting-room/tickets/**").permitAll()
                         .requestMatchers(HttpMethod.DELETE,"/events/**").hasAnyAuthority("VENDOR", "ADMIN")
                         .requestMatchers("/admin/**").hasAnyAuthority("VENDOR", "ADMIN")
                         .anyRequest().authenticated())
@@ -86,7 +87,7 @@ public class SecurityConfig {
                                                                                                                         // for
                                                                                                                         // React/Vue/Angular
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Requested-With"));
+        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Requested-With", "X-Admission-Token"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -17,6 +17,10 @@ public class UserDetailImp implements UserDetails {
     }
 
 
+    public Long getId() {
+        return user.getId();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         if (user.getUserType() == null) {
@@ -1,7 +1,9 @@
 package com.avaneesh.yodha.Eventify.services;
 
 import com.avaneesh.yodha.Eventify.dto.response.AdminDashboardStatsDTO;
+import com.avaneesh.yodha.Eventify.dto.response.BookingConflictStatsResponse;
 import com.avaneesh.yodha.Eventify.dto.response.BookingResponse;
+import com.avaneesh.yodha.Eventify.dto.response.CacheStatsResponse;
 import com.avaneesh.yodha.Eventify.dto.response.UserResponse;
 import com.avaneesh.yodha.Eventify.enums.BookingStatus;
 import com.avaneesh.yodha.Eventify.mapper.BookingMapper;
@@ -25,24 +27,31 @@ public class AdminService {
     private final BookingRepository bookingRepository;
     private final UserMapper userMapper;
     private final BookingMapper bookingMapper;
+    private final EventSeatCounterService eventSeatCounterService;
+    private final ConflictRetryExecutor conflictRetryExecutor;
+    private final EventCacheService eventCacheService;
 
-    public AdminService(UserRepository userRepository, EventRepository eventRepository, BookingRepository bookingRepository, UserMapper userMapper, BookingMapper bookingMapper) {
+    public AdminService(UserRepository userRepository, EventRepository eventRepository, BookingRepository bookingRepository, UserMapper userMapper, BookingMapper bookingMapper, EventSeatCounterService eventSeatCounterService, ConflictRetryExecutor conflictRetryExecutor, EventCacheService eventCacheService) {
         this.userRepository = userRepository;
         this.eventRepository = eventRepository;
         this.bookingRepository = bookingRepository;
         this.userMapper = userMapper;
         this.bookingMapper = bookingMapper;
+        this.eventSeatCounterService = eventSeatCounterService;
+        this.conflictRetryExecutor = conflictRetryExecutor;
+        this.eventCacheService = eventCacheService;
     }
 
     /**
      * Gathers and returns key statistics for the admin dashboard.
      *
-     * @return A DTO containing total users, events, bookings, and revenue.
+     * @return A DTO containing total users, events, bookings, booked seats, and revenue.
      */
     public AdminDashboardStatsDTO getDashboardStats() {
         long totalUsers = userRepository.count();
         long totalEvents = eventRepository.count();
         long totalBookings = bookingRepository.count();
+        long totalSeatsBooked = eventSeatCounterService.getTotalBookedSeats();
         // Optimized revenue calculation using a dedicated repository query
         double totalRevenue = bookingRepository.sumTotalAmountByStatus(BookingStatus.CONFIRMED);
 
@@ -50,6 +59,7 @@ public class AdminService {
                 .totalUsers(totalUsers)
                 .totalEvents(totalEvents)
                 .totalBookings(totalBookings)
+                .totalSeatsBooked(totalSeatsBooked)
                 .totalRevenue(totalRevenue)
                 .build();
     }
@@ -71,8 +81,24 @@ public class AdminService {
      * @return A list of BookingResponse DTOs.
      */
     public List<BookingResponse> getAllBookings() {
-        return bookingRepository.findAll().stream()
-                .map(bookingMapper::toBookingResponse)
-                .toList();
+        return bookingMapper.toBookingResponseList(bookingRepository.findAllWithEventAndSeats());
+    }
+
+    /**
+     * Retrieves the booking and payment conflict statistics of every event, the most contended events first.
+     *
+     * @return A list of per-event conflict statistics since the application started.
+     */
+    public List<BookingConflictStatsResponse> getBookingConflictStats() {
+        return conflictRetryExecutor.getConflictStats();
+    }
+
+    /**
+     * Retrieves the hit, miss and eviction statistics of the event read caches.
+     *
+     * @return The statistics of each event cache.
+     */
+    public List<CacheStatsResponse> getEventCacheStats() {
+        return eventCacheService.getStats();
     }
 }
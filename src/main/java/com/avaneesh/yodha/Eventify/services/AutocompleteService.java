@@ -0,0 +1,225 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import com.avaneesh.yodha.Eventify.dto.response.AutocompleteSuggestion;
+import com.avaneesh.yodha.Eventify.dto.response.EventSummaryResponse;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.SuggestionType;
+import com.avaneesh.yodha.Eventify.repository.EventRepository;
+import com.avaneesh.yodha.Eventify.repository.projections.EventRankView;
+import com.avaneesh.yodha.Eventify.search.AutocompleteIndex;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Completes typed text to upcoming events, venues and categories for typeahead search.
+ * <p>
+ * Completions are served from an immutable {@link AutocompleteIndex}, so concurrent requests never wait on
+ * a lock or the database. An event ranks higher the more seats it has sold and the sooner it takes place,
+ * with a score of {@code (soldSeats + 1) / (1 + daysUntilEvent)}; a venue or category ranks by the summed
+ * scores of its upcoming events. Past events are not suggested.
+ * <p>
+ * The upcoming events are loaded from the database at startup and again periodically, which picks up new
+ * sales and drops events that have taken place. Created, updated and deleted events are applied from
+ * {@link EventChangedEvent} as they commit. Every change schedules a rebuild of the index on a background
+ * thread, and changes that arrive while a rebuild is pending are folded into it. A refresh and a background
+ * rebuild may build at the same time; an index only replaces the current one when it was built from a later
+ * state of the upcoming events, so an older build never overwrites a newer one.
+ */
+@Service
+public class AutocompleteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AutocompleteService.class);
+
+    private final EventRepository eventRepository;
+    private final int maxLimit;
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autocomplete-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private volatile AutocompleteIndex<AutocompleteSuggestion> index;
+    private Map<Long, RankedEvent> upcomingEvents = new HashMap<>();
+    // Changes applied during a refresh, by event ID; a null value is a deleted or past event
+    private Map<Long, RankedEvent> changesDuringRefresh;
+    // Number of refreshes and changes applied to the upcoming events, and the number the current index was built from
+    private long generation;
+    private long indexedGeneration = -1;
+
+    public AutocompleteService(EventRepository eventRepository, @Value("${app.autocomplete.max-limit:20}") int maxLimit) {
+        this.eventRepository = eventRepository;
+        this.maxLimit = Math.max(1, maxLimit);
+        this.index = new AutocompleteIndex.Builder<AutocompleteSuggestion>().build(this.maxLimit);
+    }
+
+    @PreDestroy
+    public void stop() {
+        rebuilder.shutdownNow();
+    }
+
+    /**
+     * Reloads the upcoming events and their sales from the database and rebuilds the index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.autocomplete.refresh-interval-ms:60000}",
+            fixedDelayString = "${app.autocomplete.refresh-interval-ms:60000}")
+    public void refresh() {
+        synchronized (this) {
+            changesDuringRefresh = new HashMap<>();
+        }
+        Map<Long, RankedEvent> loaded = new HashMap<>();
+        try {
+            for (EventRankView event : eventRepository.findUpcomingRanks(LocalDateTime.now())) {
+                loaded.put(event.getId(), new RankedEvent(event.getId(), event.getName(), event.getVenue(),
+                        event.getCategory(), event.getEventTimestamp(), event.getBookedSeats()));
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringRefresh = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            changesDuringRefresh.forEach((eventId, event) -> apply(loaded, eventId, event));
+            changesDuringRefresh = null;
+            upcomingEvents = loaded;
+            generation++;
+        }
+        rebuild();
+    }
+
+    /**
+     * Applies a created, updated or deleted event and schedules a rebuild of the index.
+     */
+    @EventListener
+    public void onEventChanged(EventChangedEvent event) {
+        EventSummaryResponse summary = event.summary();
+        RankedEvent ranked = event.deleted() || !summary.getEventTimestamp().isAfter(LocalDateTime.now()) ? null
+                : new RankedEvent(summary.getId(), summary.getName(), summary.getVenue(), summary.getCategory(),
+                        summary.getEventTimestamp(), summary.getTotalSeats() - summary.getAvailableSeats());
+        synchronized (this) {
+            apply(upcomingEvents, event.eventId(), ranked);
+            generation++;
+            if (changesDuringRefresh != null) {
+                changesDuringRefresh.put(event.eventId(), ranked);
+            }
+        }
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                rebuildPending.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    /**
+     * Completes typed text to the best-ranked upcoming events, venues and categories with a word that starts
+     * with it.
+     *
+     * @param prefix The typed text.
+     * @param limit  The maximum number of suggestions.
+     * @return The suggestions, best first.
+     */
+    public List<AutocompleteSuggestion> complete(String prefix, int limit) {
+        return index.complete(prefix, Math.min(limit, maxLimit));
+    }
+
+    // --- Private Helper Methods ---
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        List<RankedEvent> events;
+        long builtGeneration;
+        synchronized (this) {
+            events = new ArrayList<>(upcomingEvents.values());
+            builtGeneration = generation;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        AutocompleteIndex.Builder<AutocompleteSuggestion> builder = new AutocompleteIndex.Builder<>();
+        Map<String, GroupRank> venues = new LinkedHashMap<>();
+        Map<CategoryEnum, GroupRank> categories = new EnumMap<>(CategoryEnum.class);
+        for (RankedEvent event : events) {
+            if (!event.eventTimestamp().isAfter(now)) {
+                continue;
+            }
+            double score = (event.soldSeats() + 1) / (1 + Duration.between(now, event.eventTimestamp()).toMinutes() / 1440.0);
+            AutocompleteSuggestion suggestion = suggestion(SuggestionType.EVENT, event.name(), 1);
+            suggestion.setEventId(event.id());
+            suggestion.setEventTimestamp(event.eventTimestamp());
+            builder.add(suggestion, event.name(), score);
+            if (event.venue() != null) {
+                venues.computeIfAbsent(event.venue().trim().toLowerCase(Locale.ROOT), key -> new GroupRank(event.venue().trim())).add(score);
+            }
+            if (event.category() != null) {
+                categories.computeIfAbsent(event.category(),
+                        category -> new GroupRank(category.name().charAt(0) + category.name().substring(1).toLowerCase(Locale.ROOT))).add(score);
+            }
+        }
+        venues.values().forEach(venue -> builder.add(suggestion(SuggestionType.VENUE, venue.text, venue.events), venue.text, venue.score));
+        categories.values().forEach(category -> builder.add(suggestion(SuggestionType.CATEGORY, category.text, category.events), category.text, category.score));
+        AutocompleteIndex<AutocompleteSuggestion> built = builder.build(maxLimit);
+        synchronized (this) {
+            if (builtGeneration <= indexedGeneration) {
+                logger.debug("Discarded an autocomplete index built from an outdated state of the upcoming events.");
+                return;
+            }
+            index = built;
+            indexedGeneration = builtGeneration;
+        }
+        logger.debug("Rebuilt the autocomplete index of {} suggestions in {} ms.", built.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void apply(Map<Long, RankedEvent> events, Long eventId, RankedEvent event) {
+        if (event == null) {
+            events.remove(eventId);
+        } else {
+            events.put(eventId, event);
+        }
+    }
+
+    private static AutocompleteSuggestion suggestion(SuggestionType type, String text, int upcomingEvents) {
+        AutocompleteSuggestion suggestion = new AutocompleteSuggestion();
+        suggestion.setType(type);
+        suggestion.setText(text);
+        suggestion.setUpcomingEvents(upcomingEvents);
+        return suggestion;
+    }
+
+    private record RankedEvent(Long id, String name, String venue, CategoryEnum category, LocalDateTime eventTimestamp,
+                               int soldSeats) {
+    }
+
+    private static final class GroupRank {
+        private final String text;
+        private double score;
+        private int events;
+
+        private GroupRank(String text) {
+            this.text = text;
+        }
+
+        private void add(double eventScore) {
+            score += eventScore;
+            events++;
+        }
+    }
+}
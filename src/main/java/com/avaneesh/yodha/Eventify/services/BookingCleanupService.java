@@ -1,79 +1,148 @@
 package com.avaneesh.yodha.Eventify.services;
 
-import com.avaneesh.yodha.Eventify.entities.Booking;
-import com.avaneesh.yodha.Eventify.entities.Events;
-import com.avaneesh.yodha.Eventify.enums.BookingStatus;
 import com.avaneesh.yodha.Eventify.repository.BookingRepository;
-import com.avaneesh.yodha.Eventify.repository.EventRepository;
-import jakarta.transaction.Transactional;
+import com.avaneesh.yodha.Eventify.repository.SeatRepository;
+import com.avaneesh.yodha.Eventify.repository.projections.SeatOwnerView;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
- * A scheduled service that periodically cleans up expired PENDING bookings.
+ * Cancels expired PENDING bookings and releases their seats.
+ * <p>
+ * Holds are normally expired on time by {@link HoldExpiryScheduler}; the periodic sweep only
+ * catches bookings the scheduler missed, e.g. after a failed expiry attempt or a restart. The
+ * sweep is set-based: expired bookings are partitioned by id across parallel workers, and each
+ * worker locks a chunk of booking ids and cancels the bookings, releases their seats and adjusts
+ * the event counters with a handful of bulk statements in one transaction per chunk.
  */
 @Service
 public class BookingCleanupService {
 
     private static final Logger logger = LoggerFactory.getLogger(BookingCleanupService.class);
-    private static final int PENDING_BOOKING_EXPIRATION_MINUTES = 10;
+    public static final int PENDING_BOOKING_EXPIRATION_MINUTES = 10;
 
     private final BookingRepository bookingRepository;
-    private final EventRepository eventRepository;
-
-    public BookingCleanupService(BookingRepository bookingRepository, EventRepository eventRepository) {
+    private final SeatRepository seatRepository;
+    private final BookingSequencer bookingSequencer;
+    private final SeatInventoryService seatInventoryService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService sweepWorkers;
+    private final int workerCount;
+    private final int chunkSize;
+
+    public BookingCleanupService(BookingRepository bookingRepository, SeatRepository seatRepository,
+                                 BookingSequencer bookingSequencer, SeatInventoryService seatInventoryService,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${app.booking.expiry.sweep-workers:4}") int workerCount,
+                                 @Value("${app.booking.expiry.chunk-size:500}") int chunkSize) {
         this.bookingRepository = bookingRepository;
-        this.eventRepository = eventRepository;
+        this.seatRepository = seatRepository;
+        this.bookingSequencer = bookingSequencer;
+        this.seatInventoryService = seatInventoryService;
+        this.transactionTemplate = transactionTemplate;
+        this.workerCount = workerCount;
+        this.chunkSize = chunkSize;
+        this.sweepWorkers = Executors.newFixedThreadPool(workerCount);
+    }
+
+    @PreDestroy
+    public void stop() {
+        sweepWorkers.shutdownNow();
+    }
+
+    /**
+     * Cancels a single booking whose hold has expired, if it is still PENDING.
+     *
+     * @param bookingId The ID of the booking to expire.
+     */
+    public void expirePendingBooking(Long bookingId) {
+        transactionTemplate.executeWithoutResult(status ->
+                cancelAndRelease(bookingRepository.lockPendingBookingId(bookingId)));
     }
 
     /**
-     * A scheduled job that runs every 5 minutes to find and cancel PENDING bookings
-     * that have exceeded their expiration time. This prevents seats from being held indefinitely.
+     * A safety-net job that runs every 5 minutes to find and cancel PENDING bookings
+     * that have exceeded their expiration time but were not expired by {@link HoldExpiryScheduler}.
      */
-    @Scheduled(fixedRate = 300000) // Runs every 5 minutes
-    @Transactional
+    @Scheduled(fixedRateString = "${app.booking.expiry.sweep-interval-ms:300000}") // Runs every 5 minutes by default
     public void cancelExpiredPendingBookings() {
         logger.info("Running scheduled job to cancel expired PENDING bookings...");
 
         LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(PENDING_BOOKING_EXPIRATION_MINUTES);
 
-        List<Booking> expiredBookings = bookingRepository.findAllByStatusAndBookingTimestampBefore(
-                BookingStatus.PENDING,
-                cutoffTime
-        );
+        List<CompletableFuture<Integer>> partitions = IntStream.range(0, workerCount)
+                .mapToObj(partition -> CompletableFuture.supplyAsync(() -> sweepPartition(cutoffTime, partition), sweepWorkers))
+                .toList();
+        int cancelled = partitions.stream().mapToInt(CompletableFuture::join).sum();
 
-        if (expiredBookings.isEmpty()) {
-            logger.info("No expired pending bookings found.");
-            return;
-        }
+        logger.info("Finished processing expired pending bookings; cancelled {}.", cancelled);
+    }
 
-        logger.info("Found {} expired pending bookings to cancel.", expiredBookings.size());
+    // --- Private Helper Methods ---
 
-        for (Booking booking : expiredBookings) {
+    private int sweepPartition(LocalDateTime cutoffTime, int partition) {
+        int cancelled = 0;
+        long afterId = 0;
+        while (true) {
             try {
-                // Reclaim the booked seats
-                Events event = booking.getEvent();
-                event.setBookedSeats(event.getBookedSeats() - booking.getNumberOfSeats());
-                eventRepository.save(event); // Save the updated event
-
-                // Mark the booking as cancelled
-                booking.setStatus(BookingStatus.CANCELLED);
-                bookingRepository.save(booking); // Save the updated booking
-
-                logger.info("Successfully cancelled expired booking with ID: {} and reclaimed {} seats for event ID: {}.",
-                        booking.getId(), booking.getNumberOfSeats(), event.getId());
-
+                long chunkAfterId = afterId;
+                List<Long> chunk = transactionTemplate.execute(status -> {
+                    List<Long> bookingIds = bookingRepository.lockExpiredPendingBookingIds(
+                            cutoffTime, workerCount, partition, chunkAfterId, chunkSize);
+                    cancelAndRelease(bookingIds);
+                    return bookingIds;
+                });
+                cancelled += chunk.size();
+                if (chunk.size() < chunkSize) {
+                    return cancelled;
+                }
+                afterId = chunk.get(chunk.size() - 1);
             } catch (Exception e) {
-                // Log the error but continue processing the rest of the bookings
-                logger.error("Error processing cancellation for booking ID: {}.", booking.getId(), e);
+                // Leave the rest of this partition to the next run
+                logger.error("Error cancelling expired bookings in sweep partition {}.", partition, e);
+                return cancelled;
             }
         }
+    }
 
-        logger.info("Finished processing expired pending bookings.");
+    /**
+     * Cancels a group of locked PENDING bookings and releases their seats with bulk statements.
+     *
+     * @param bookingIds The IDs of the bookings, already locked by the current transaction.
+     * @return The number of cancelled bookings.
+     */
+    private int cancelAndRelease(List<Long> bookingIds) {
+        if (bookingIds.isEmpty()) {
+            return 0;
+        }
+        // Reclaim the booked seats (virtual seats are deleted), updating the in-memory inventory once the chunk commits
+        Map<Long, List<SeatOwnerView>> seatsByEvent = seatRepository.findSeatOwnersByBookingIds(bookingIds).stream()
+                .collect(Collectors.groupingBy(SeatOwnerView::getEventId));
+        seatRepository.releaseAllByBookingIds(bookingIds);
+        seatRepository.deleteVirtualSeatsByBookingIds(bookingIds);
+
+        // Adjust the booked seat count of each affected event; a held booking owns exactly its claimed seats
+        seatsByEvent.forEach((eventId, seats) -> {
+            seatInventoryService.markReleased(eventId, seats.stream().map(SeatOwnerView::getId).toList(),
+                    seats.stream().map(SeatOwnerView::getSeatNumber).toList());
+            bookingSequencer.release(eventId, seats.size());
+        });
+
+        // Mark the bookings as cancelled
+        return bookingRepository.cancelAllByIds(bookingIds);
     }
 }
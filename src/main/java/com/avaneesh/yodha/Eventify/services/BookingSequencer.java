@@ -0,0 +1,365 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import com.avaneesh.yodha.Eventify.entities.Events;
+import com.avaneesh.yodha.Eventify.repository.projections.SeatCountDriftView;
+import com.avaneesh.yodha.Eventify.utils.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Single-writer engine for the booked seat count of events.
+ * <p>
+ * Holds and releases used to read-modify-write {@code Events.bookedSeats} inside every booking,
+ * cancellation and payment transaction, turning the {@code events} row of a popular event into a
+ * lock convoy. Instead, each committed hold or release is now sent as a command to one of a fixed
+ * number of sequencer lanes, picked by event id. A lane is a single thread that group-commits the
+ * accumulated per-event deltas to the sharded counter of {@link EventSeatCounterService} in one
+ * transaction per group of at most {@code max-batch-size} events, so bookings for different events scale
+ * across lanes. Deltas of events that
+ * were deleted in the meantime are dropped.
+ * <p>
+ * Deltas live in memory until their group commit, so a crash loses them. The LOCKED and BOOKED seats of
+ * an event remain the source of truth: every lane reconciles the counts of its events with them at startup
+ * and periodically. A drift is only corrected once it is seen again a few seconds later with no change of
+ * the event sequenced in between, since a transaction that committed seats but has not handed its delta to
+ * the lane yet looks like a drift for a moment.
+ * <p>
+ * Every committed change of the counts is announced as a {@link SeatCountsFlushedEvent}, so that readers
+ * caching the counts can drop them.
+ */
+@Service
+public class BookingSequencer {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingSequencer.class);
+    // Events of the past are no longer booked; their counts are only reconciled at startup
+    private static final LocalDateTime ALL_EVENTS = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final EventSeatCounterService eventSeatCounterService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Lane[] lanes;
+    private final int maxBatchSize;
+    private final long flushIntervalMillis;
+    private final long reconcileConfirmDelayMillis;
+
+    public BookingSequencer(EventSeatCounterService eventSeatCounterService, TransactionTemplate transactionTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${app.booking.sequencer.lanes:4}") int laneCount,
+                            @Value("${app.booking.sequencer.max-batch-size:256}") int maxBatchSize,
+                            @Value("${app.booking.sequencer.flush-interval-ms:20}") long flushIntervalMillis,
+                            @Value("${app.booking.sequencer.reconcile-confirm-delay-ms:5000}") long reconcileConfirmDelayMillis) {
+        this.eventSeatCounterService = eventSeatCounterService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.reconcileConfirmDelayMillis = reconcileConfirmDelayMillis;
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        for (Lane lane : lanes) {
+            lane.thread.start();
+        }
+    }
+
+    /**
+     * Stops accepting work and flushes every lane before the application shuts down.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (Lane lane : lanes) {
+            lane.running = false;
+        }
+        for (Lane lane : lanes) {
+            lane.thread.join(TimeUnit.SECONDS.toMillis(10));
+            if (!lane.pending.isEmpty()) {
+                logger.warn("{} stopped with unflushed seat count changes of {} events; they are reconciled at the next start.",
+                        lane.thread.getName(), lane.pending.size());
+            }
+        }
+    }
+
+    /**
+     * Checks the booked seat counts of all events against their seats once the application has started,
+     * which repairs the deltas a crash lost.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileAll() {
+        requestReconcile(ALL_EVENTS);
+    }
+
+    /**
+     * Periodically checks the booked seat counts of current and upcoming events against their seats, and
+     * removes the counter slots of deleted events.
+     */
+    @Scheduled(initialDelayString = "${app.booking.sequencer.reconcile-interval-ms:300000}",
+            fixedDelayString = "${app.booking.sequencer.reconcile-interval-ms:300000}")
+    public void reconcileUpcoming() {
+        requestReconcile(LocalDateTime.now().minusDays(1));
+    }
+
+    /**
+     * Records that seats of an event were held once the current transaction commits.
+     *
+     * @param eventId       The ID of the event.
+     * @param numberOfSeats The number of seats held.
+     */
+    public void hold(Long eventId, int numberOfSeats) {
+        submitOnCommit(eventId, numberOfSeats);
+    }
+
+    /**
+     * Records that held or booked seats of an event were released once the current transaction commits.
+     *
+     * @param eventId       The ID of the event.
+     * @param numberOfSeats The number of seats released.
+     */
+    public void release(Long eventId, int numberOfSeats) {
+        submitOnCommit(eventId, -numberOfSeats);
+    }
+
+    /**
+     * Drops the seat count changes of a deleted event once the current transaction commits.
+     *
+     * @param eventId The ID of the event.
+     */
+    public void forget(Long eventId) {
+        TransactionHooks.afterCommit(() -> laneFor(eventId).pending.remove(eventId));
+    }
+
+    /**
+     * Returns the booked seat count of an event, including changes that have been sequenced but not yet
+     * committed to the sharded counter.
+     *
+     * @param event The event.
+     * @return The up-to-date number of booked seats.
+     */
+    public int bookedSeats(Events event) {
+        return event.getBookedSeats() + (int) pendingDelta(event.getId());
+    }
+
+    /**
+     * Returns the seat count change of an event that is waiting for its group commit, including changes
+     * still queued for the lane. A change leaves the ledger as its group commit commits.
+     *
+     * @param eventId The ID of the event.
+     * @return The pending delta, or zero if nothing is pending.
+     */
+    public long pendingDelta(Long eventId) {
+        return laneFor(eventId).pending.getOrDefault(eventId, 0L);
+    }
+
+    // --- Private Helper Methods ---
+
+    private void submitOnCommit(Long eventId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> laneFor(eventId).submit(eventId, delta));
+    }
+
+    private void requestReconcile(LocalDateTime since) {
+        for (Lane lane : lanes) {
+            lane.reconcileRequest.set(since);
+        }
+    }
+
+    private Lane laneFor(Long eventId) {
+        return lanes[(int) Math.floorMod(eventId, (long) lanes.length)];
+    }
+
+    private static Long sumOrRemove(Long left, Long right) {
+        long sum = left + right;
+        return sum != 0 ? sum : null;
+    }
+
+    private record SeatCountCommand(Long eventId, int delta) {
+    }
+
+    /**
+     * One sequencer lane. Changes are added to the ledger by the committing threads, so reads of the ledger
+     * include them at once; only the lane thread commits the ledger to the counter and reconciles it.
+     */
+    private class Lane {
+
+        // Commands wake the lane up and name the events to commit; their deltas are in the ledger already
+        private final BlockingQueue<SeatCountCommand> queue = new LinkedBlockingQueue<>();
+        // Uncommitted delta per event; an entry is removed as its delta returns to zero
+        private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+        // Events with a change sequenced since the last drift check
+        private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+        private final AtomicReference<LocalDateTime> reconcileRequest = new AtomicReference<>();
+        // Events of drained commands whose delta is not committed yet, oldest first; only accessed by the lane thread
+        private final Set<Long> uncommitted = new LinkedHashSet<>();
+        private final int index;
+        private final Thread thread;
+        private volatile boolean running = true;
+        // Drifts seen by the last check, waiting to be confirmed; only accessed by the lane thread
+        private Map<Long, Long> suspectedDrifts = new HashMap<>();
+        private long confirmAt;
+
+        Lane(int index) {
+            this.index = index;
+            this.thread = new Thread(this::run, "booking-sequencer-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        private void submit(Long eventId, int delta) {
+            pending.merge(eventId, (long) delta, BookingSequencer::sumOrRemove);
+            touched.add(eventId);
+            queue.add(new SeatCountCommand(eventId, delta));
+        }
+
+        private void run() {
+            List<SeatCountCommand> batch = new ArrayList<>(maxBatchSize);
+            while ((running || !queue.isEmpty() || !pending.isEmpty()) && !Thread.currentThread().isInterrupted()) {
+                try {
+                    SeatCountCommand first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                    if (first != null) {
+                        batch.add(first);
+                        queue.drainTo(batch, maxBatchSize - 1);
+                        batch.forEach(command -> uncommitted.add(command.eventId()));
+                        batch.clear();
+                    }
+                    groupCommit();
+                    reconcile();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    // Keep the deltas pending and retry on the next pass
+                    logger.error("Group commit on {} failed; retrying.", thread.getName(), e);
+                    sleepQuietly();
+                }
+            }
+        }
+
+        /**
+         * Commits the deltas of the uncommitted events in groups of at most {@code maxBatchSize} events, one
+         * transaction per group. A group that fails stays uncommitted, with the groups after it, for the next pass.
+         */
+        private void groupCommit() {
+            while (!uncommitted.isEmpty()) {
+                List<Long> group = new ArrayList<>(Math.min(maxBatchSize, uncommitted.size()));
+                Iterator<Long> eventIds = uncommitted.iterator();
+                while (eventIds.hasNext() && group.size() < maxBatchSize) {
+                    group.add(eventIds.next());
+                }
+                commitGroup(group);
+                group.forEach(uncommitted::remove);
+            }
+        }
+
+        private void commitGroup(List<Long> eventIds) {
+            Map<Long, Long> deltas = new HashMap<>();
+            for (Long eventId : eventIds) {
+                Long delta = pending.get(eventId);
+                if (delta != null) {
+                    deltas.put(eventId, delta);
+                }
+            }
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<Long> existingEventIds = eventSeatCounterService.findExistingEventIds(deltas.keySet());
+                deltas.forEach((eventId, delta) -> {
+                    if (delta != 0 && existingEventIds.contains(eventId)) {
+                        eventSeatCounterService.increment(eventId, delta.intValue());
+                    }
+                });
+                // Taken off the ledger as the counter rows commit, so reads do not count the deltas twice
+                TransactionHooks.afterCommit(() -> {
+                    deltas.forEach((eventId, delta) -> {
+                        if (existingEventIds.contains(eventId)) {
+                            pending.merge(eventId, -delta, BookingSequencer::sumOrRemove);
+                        } else {
+                            pending.remove(eventId);
+                        }
+                    });
+                    eventPublisher.publishEvent(new SeatCountsFlushedEvent(existingEventIds));
+                });
+            });
+        }
+
+        /**
+         * Runs a requested drift check of the events of this lane, and confirms the drifts of the previous
+         * check once their delay has passed. Runs right after a group commit, so the ledger holds no delta
+         * that the counter is missing except those of transactions still handing theirs over.
+         */
+        private void reconcile() {
+            LocalDateTime since = reconcileRequest.getAndSet(null);
+            if (since != null) {
+                if (index == 0) {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        int orphans = eventSeatCounterService.deleteOrphanedCounters();
+                        if (orphans > 0) {
+                            logger.info("Removed {} seat counter slots of deleted events.", orphans);
+                        }
+                    });
+                }
+                touched.clear();
+                suspectedDrifts = driftsOf(eventSeatCounterService.findDrifts(lanes.length, index, since));
+                confirmAt = System.currentTimeMillis() + reconcileConfirmDelayMillis;
+            } else if (!suspectedDrifts.isEmpty() && System.currentTimeMillis() >= confirmAt) {
+                Map<Long, Long> drifts = driftsOf(eventSeatCounterService.findDrifts(suspectedDrifts.keySet()));
+                Map<Long, Long> confirmed = new HashMap<>();
+                drifts.forEach((eventId, drift) -> {
+                    if (drift.equals(suspectedDrifts.get(eventId)) && !touched.contains(eventId) && !pending.containsKey(eventId)) {
+                        confirmed.put(eventId, drift);
+                    }
+                });
+                suspectedDrifts = new HashMap<>();
+                if (!confirmed.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status ->
+                            confirmed.forEach((eventId, drift) -> eventSeatCounterService.increment(eventId, drift.intValue())));
+                    eventPublisher.publishEvent(new SeatCountsFlushedEvent(confirmed.keySet()));
+                    logger.warn("Corrected the booked seat counts of {} events to their seats: {}.", confirmed.size(), confirmed);
+                }
+            }
+        }
+
+        private Map<Long, Long> driftsOf(List<SeatCountDriftView> views) {
+            Map<Long, Long> drifts = new HashMap<>();
+            views.forEach(view -> drifts.put(view.getEventId(), view.getHeldSeats() - view.getCountedSeats()));
+            return drifts;
+        }
+
+        private void sleepQuietly() {
+            try {
+                Thread.sleep(flushIntervalMillis * 10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
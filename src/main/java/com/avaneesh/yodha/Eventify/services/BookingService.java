@@ -2,19 +2,20 @@ package com.avaneesh.yodha.Eventify.services;
 
 import com.avaneesh.yodha.Eventify.dto.request.BookingRequestDTO;
 import com.avaneesh.yodha.Eventify.dto.response.BookingResponse;
+import com.avaneesh.yodha.Eventify.dto.response.CursorPageResponse;
 import com.avaneesh.yodha.Eventify.entities.Booking;
 import com.avaneesh.yodha.Eventify.entities.Events;
 import com.avaneesh.yodha.Eventify.entities.Seat;
 import com.avaneesh.yodha.Eventify.entities.Users;
 import com.avaneesh.yodha.Eventify.enums.BookingStatus;
-import com.avaneesh.yodha.Eventify.enums.SeatStatus;
 import com.avaneesh.yodha.Eventify.exception.ResourceNotFoundException;
 import com.avaneesh.yodha.Eventify.mapper.BookingMapper;
 import com.avaneesh.yodha.Eventify.repository.BookingRepository;
+import com.avaneesh.yodha.Eventify.repository.BookingSeekKey;
 import com.avaneesh.yodha.Eventify.repository.EventRepository;
-import com.avaneesh.yodha.Eventify.repository.SeatRepository;
 import com.avaneesh.yodha.Eventify.repository.UserRepository;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -27,54 +28,73 @@ import java.util.List;
 public class BookingService {
 
     private final UserRepository userRepository;
-    private final SeatRepository seatRepository;
     private final EventRepository eventRepository;
     private final BookingRepository bookingRepository;
     private final BookingMapper bookingMapper;
     private final PaymentService paymentService;
+    private final SeatInventoryService seatInventoryService;
+    private final BookingSequencer bookingSequencer;
+    private final HoldExpiryScheduler holdExpiryScheduler;
 
-    public BookingService(UserRepository userRepository, SeatRepository seatRepository,
+    public BookingService(UserRepository userRepository,
                           EventRepository eventRepository, BookingRepository bookingRepository,
-                          BookingMapper bookingMapper, PaymentService paymentService) {
+                          BookingMapper bookingMapper, PaymentService paymentService,
+                          SeatInventoryService seatInventoryService, BookingSequencer bookingSequencer,
+                          HoldExpiryScheduler holdExpiryScheduler) {
         this.userRepository = userRepository;
-        this.seatRepository = seatRepository;
         this.eventRepository = eventRepository;
         this.bookingRepository = bookingRepository;
         this.bookingMapper = bookingMapper;
         this.paymentService = paymentService;
+        this.seatInventoryService = seatInventoryService;
+        this.bookingSequencer = bookingSequencer;
+        this.holdExpiryScheduler = holdExpiryScheduler;
     }
 
     /**
      * Creates a new booking, locks the selected seats, and updates the event's seat count.
+     * Seats are selected by ID or by seat number (the only option for VIRTUAL events); when the request
+     * carries a seat count instead, the best block of adjacent seats is allocated from the event's
+     * in-memory row index.
      *
      * @param email           The email of the user making the booking.
-     * @param requestBooking  The DTO containing booking request details (event ID and seat IDs).
+     * @param requestBooking  The DTO containing booking request details (event ID and seat IDs, seat numbers or a seat count).
      * @return A DTO representing the newly created PENDING booking.
      * @throws ResourceNotFoundException if the user, event, or seats are not found.
      * @throws IllegalStateException if the booking request is invalid (e.g., seats unavailable, booking window closed).
      */
     @Transactional
     public BookingResponse createBooking(String email, BookingRequestDTO requestBooking) {
+        List<Long> seatIds = requestBooking.getSeatIds();
+        List<String> seatNumbers = requestBooking.getSeatNumbers();
+        boolean autoAllocate = isEmpty(seatIds) && isEmpty(seatNumbers);
+
+        // Reject unavailable seats from the in-memory inventory before touching the database
+        if (!autoAllocate) {
+            seatInventoryService.requireAvailable(requestBooking.getEventId(), seatIds, seatNumbers);
+        }
+
         Users user = userRepository.getUsersByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
 
         Events event = findAndValidateEventForBooking(requestBooking.getEventId());
-        List<Seat> requestedSeats = findAndValidateSeatsForBooking(requestBooking.getSeatIds(), event);
-
-        // Update event's booked seat count
-        event.setBookedSeats(event.getBookedSeats() + requestedSeats.size());
-        eventRepository.save(event);
+        int numberOfSeats = autoAllocate
+                ? validateSeatCount(requestBooking.getSeatCount(), event)
+                : validateSeatSelection(seatIds, seatNumbers, event);
 
-        double totalAmount = requestedSeats.stream().mapToDouble(Seat::getSeatPricing).sum();
+        Booking newBooking = buildAndSaveBooking(user, event, numberOfSeats);
 
-        Booking newBooking = buildAndSaveBooking(user, event, requestedSeats, totalAmount);
+        // Claim all seats in one conditional UPDATE; a lost race fails the whole group
+        List<Seat> claimedSeats = autoAllocate
+                ? seatInventoryService.holdBestAvailable(event.getId(), numberOfSeats, requestBooking.getPriceTier(), newBooking)
+                : seatInventoryService.hold(event.getId(), seatIds, seatNumbers, newBooking);
+        newBooking.setBookedSeats(claimedSeats);
+        newBooking.setTotalAmount(claimedSeats.stream().mapToDouble(Seat::getSeatPricing).sum());
+        bookingRepository.save(newBooking);
 
-        // Mark seats as LOCKED and associate them with the new booking
-        requestedSeats.forEach(seat -> {
-            seat.setStatus(SeatStatus.LOCKED);
-            seat.setBooking(newBooking);
-        });
-        seatRepository.saveAll(requestedSeats);
+        // The event's booked seat count is updated by its sequencer lane once this transaction commits
+        bookingSequencer.hold(event.getId(), claimedSeats.size());
+        holdExpiryScheduler.register(newBooking.getId(), newBooking.getBookingTimestamp());
 
         return bookingMapper.toBookingResponse(newBooking);
     }
@@ -86,22 +106,43 @@ public class BookingService {
      * @return A DTO representing the booking.
      */
     public BookingResponse getBookingById(Long bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findWithEventAndSeatsById(bookingId)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
         return bookingMapper.toBookingResponse(booking);
     }
 
     /**
-     * Retrieves all bookings made by a specific user.
+     * Retrieves a page of a user's booking history, newest first. Each page seeks past the last booking of
+     * the previous one on the {@code (user_id, booking_timestamp, id)} index, and only the bookings of the
+     * page are then loaded with their events and seats.
      *
-     * @param email The email of the user.
-     * @return A list of DTOs representing the user's bookings.
+     * @param userId   The ID of the authenticated user, so the user itself does not need to be loaded.
+     * @param status   The status to filter by, or {@code null} for every booking.
+     * @param cursor   The {@code nextCursor} of the previous page, or {@code null} for the first page.
+     * @param pageSize The size of the page.
+     * @return A page of the user's bookings with the cursor of the next page.
      */
-    public List<BookingResponse> getAllBookingsForUser(String email) {
-        Users user = userRepository.getUsersByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
-        List<Booking> bookings = bookingRepository.findAllByUser(user);
-        return bookingMapper.toBookingResponseList(bookings);
+    public CursorPageResponse<BookingResponse> getBookingHistory(Long userId, BookingStatus status, String cursor, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1.");
+        }
+        BookingSeekKey after = cursor != null && !cursor.isEmpty() ? BookingSeekKey.decode(cursor) : null;
+        // One extra row tells whether there is a next page without counting
+        Limit limit = Limit.of(pageSize + 1);
+        List<Long> bookingIds = after == null
+                ? bookingRepository.findHistoryIds(userId, status, limit)
+                : bookingRepository.findHistoryIdsAfter(userId, status, after.bookingTimestamp(), after.id(), limit);
+        boolean hasNext = bookingIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? bookingIds.subList(0, pageSize) : bookingIds;
+        List<BookingResponse> content = pageIds.isEmpty() ? List.of()
+                : bookingMapper.toBookingResponseList(bookingRepository.findAllWithEventAndSeatsByIdIn(pageIds));
+
+        CursorPageResponse<BookingResponse> page = new CursorPageResponse<>();
+        page.setContent(content);
+        page.setSize(content.size());
+        page.setHasNext(hasNext);
+        page.setNextCursor(hasNext ? BookingSeekKey.of(content.get(content.size() - 1)).encode() : null);
+        return page;
     }
 
     /**
@@ -120,11 +161,12 @@ public class BookingService {
 
         // Process refund only if the booking was confirmed and paid for
         if (booking.getStatus() == BookingStatus.CONFIRMED && booking.getPayment() != null) {
-            paymentService.refundPayment(booking.getPayment().getTransactionId());
+            paymentService.refundPayment(booking.getPayment());
         }
 
         booking.setStatus(BookingStatus.CANCELLED);
         Booking updatedBooking = bookingRepository.save(booking);
+        holdExpiryScheduler.unregister(bookingId);
 
         return bookingMapper.toBookingResponse(updatedBooking);
     }
@@ -136,11 +178,12 @@ public class BookingService {
      */
     @Transactional
     public void deleteBooking(Long bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findForCancellationById(bookingId)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
         
         releaseSeatsForBooking(booking);
         bookingRepository.delete(booking);
+        holdExpiryScheduler.unregister(bookingId);
     }
 
     // --- Private Helper Methods ---
@@ -156,46 +199,52 @@ public class BookingService {
         return event;
     }
 
-    private List<Seat> findAndValidateSeatsForBooking(List<Long> seatIds, Events event) {
-        if (seatIds == null || seatIds.isEmpty()) {
-            throw new IllegalStateException("Seat selection cannot be empty.");
+    private int validateSeatSelection(List<Long> seatIds, List<String> seatNumbers, Events event) {
+        if (!isEmpty(seatIds) && !isEmpty(seatNumbers)) {
+            throw new IllegalStateException("Select seats either by seat IDs or by seat numbers, not both.");
         }
 
-        List<Seat> requestedSeats = seatRepository.findAllById(seatIds);
-        if (requestedSeats.size() != seatIds.size()) {
-            throw new ResourceNotFoundException("One or more requested seats could not be found.");
+        List<?> selection = isEmpty(seatIds) ? seatNumbers : seatIds;
+        if (selection.stream().distinct().count() != selection.size()) {
+            throw new IllegalStateException("Seat selection cannot contain the same seat more than once.");
         }
 
-        for (Seat seat : requestedSeats) {
-            if (seat.getStatus() != SeatStatus.AVAILABLE) {
-                throw new IllegalStateException("Seat " + seat.getSeatNumber() + " is not available.");
-            }
-            if (!seat.getEvent().getId().equals(event.getId())) {
-                throw new IllegalStateException("Seat " + seat.getSeatNumber() + " does not belong to the requested event.");
-            }
-        }
+        requireAvailableSeatCount(event, selection.size());
+        return selection.size();
+    }
 
-        if (event.getAvailableSeats() < requestedSeats.size()) {
-            throw new IllegalStateException("Not enough available seats for this booking. Requested: " + requestedSeats.size() + ", Available: " + event.getAvailableSeats());
+    private int validateSeatCount(Integer seatCount, Events event) {
+        if (seatCount == null) {
+            throw new IllegalStateException("Either seat IDs, seat numbers or a seat count must be provided.");
         }
+        if (seatCount > event.getSeatsPerRow()) {
+            throw new IllegalStateException("A seat count of at most " + event.getSeatsPerRow() + " adjacent seats can be allocated for this event.");
+        }
+        requireAvailableSeatCount(event, seatCount);
+        return seatCount;
+    }
 
-        return requestedSeats;
+    private void requireAvailableSeatCount(Events event, int requestedSeats) {
+        int availableSeats = event.getTotalSeats() - bookingSequencer.bookedSeats(event);
+        if (availableSeats < requestedSeats) {
+            throw new IllegalStateException("Not enough available seats for this booking. Requested: " + requestedSeats + ", Available: " + availableSeats);
+        }
     }
 
-    private Booking buildAndSaveBooking(Users user, Events event, List<Seat> seats, double totalAmount) {
+    private Booking buildAndSaveBooking(Users user, Events event, int numberOfSeats) {
         Booking booking = new Booking();
         booking.setUser(user);
         booking.setEvent(event);
         booking.setBookingTimestamp(LocalDateTime.now());
         booking.setStatus(BookingStatus.PENDING);
-        booking.setTotalAmount(totalAmount);
-        booking.setNumberOfSeats(seats.size());
-        booking.setBookedSeats(seats);
+        // The amount is filled in once the seats have been claimed
+        booking.setTotalAmount(0.0);
+        booking.setNumberOfSeats(numberOfSeats);
         return bookingRepository.save(booking);
     }
 
     private Booking findAndValidateBookingForCancellation(Long bookingId, String userEmail) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findForCancellationById(bookingId)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
 
         if (!booking.getUser().getEmail().equals(userEmail)) {
@@ -210,15 +259,15 @@ public class BookingService {
     private void releaseSeatsForBooking(Booking booking) {
         List<Seat> seatsToRelease = booking.getBookedSeats();
         if (seatsToRelease != null && !seatsToRelease.isEmpty()) {
-            for (Seat seat : seatsToRelease) {
-                seat.setStatus(SeatStatus.AVAILABLE);
-                seat.setBooking(null);
-            }
-            seatRepository.saveAll(seatsToRelease);
-
-            Events event = booking.getEvent();
-            event.setBookedSeats(event.getBookedSeats() - seatsToRelease.size());
-            eventRepository.save(event);
+            Long eventId = booking.getEvent().getId();
+            // Counted first, as releasing the seats of a virtual event empties the booking's seat list
+            int releasedSeats = seatsToRelease.size();
+            seatInventoryService.release(eventId, seatsToRelease);
+            bookingSequencer.release(eventId, releasedSeats);
         }
     }
+
+    private static boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
+    }
 }
@@ -0,0 +1,239 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import com.avaneesh.yodha.Eventify.cache.BoundedCache;
+import com.avaneesh.yodha.Eventify.dto.response.BookingConflictStatsResponse;
+import com.avaneesh.yodha.Eventify.enums.ConflictType;
+import com.avaneesh.yodha.Eventify.exception.ConcurrencyConflictException;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
+import org.hibernate.StaleStateException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs booking and payment transactions again when they lose a race for the same rows.
+ * <p>
+ * Every attempt calls a {@code @Transactional} service method from outside any transaction, so a retry
+ * starts over with a fresh transaction and persistence context after the failed one rolled back. A failure
+ * is retried only if it is a concurrency conflict: a version conflict ({@code @Version} mismatch) or lock
+ * contention (lock wait timeout, deadlock victim). Retries back off exponentially with full jitter, and stop
+ * once the attempt limit is reached or the next wait would exceed the latency budget of the call.
+ * <p>
+ * Calls, conflicts and outcomes are counted per event, together with histograms of the attempts a call
+ * took and the time it spent backing off, which shows the on-sales that are bound by seat contention. The
+ * event IDs come from clients, so the statistics are kept in a {@link BoundedCache}: only the most recently
+ * used events are tracked, and an event's counts start over a while after it was first tracked.
+ */
+@Service
+public class ConflictRetryExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConflictRetryExecutor.class);
+
+    // Upper bounds of the backoff histogram buckets; a last bucket counts everything above
+    private static final long[] BACKOFF_BUCKETS_MILLIS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000};
+
+    private final BoundedCache<Long, EventConflictStats> statsByEvent;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long budgetMillis;
+
+    public ConflictRetryExecutor(@Value("${app.booking.retry.max-attempts:4}") int maxAttempts,
+                                 @Value("${app.booking.retry.initial-backoff-ms:10}") long initialBackoffMillis,
+                                 @Value("${app.booking.retry.max-backoff-ms:200}") long maxBackoffMillis,
+                                 @Value("${app.booking.retry.budget-ms:1000}") long budgetMillis,
+                                 @Value("${app.booking.retry.stats-max-events:1000}") int statsMaxEvents,
+                                 @Value("${app.booking.retry.stats-ttl-hours:24}") long statsTtlHours) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.budgetMillis = budgetMillis;
+        this.statsByEvent = new BoundedCache<>("bookingConflictStats", statsMaxEvents, Duration.ofHours(statsTtlHours));
+    }
+
+    /**
+     * Runs a transactional operation, retrying it while it fails on concurrency conflicts.
+     *
+     * @param operation The name of the operation, used in log messages.
+     * @param eventId   The ID of the event whose seats the operation changes; its statistics record the call.
+     * @param work      The operation; it must run in its own transaction.
+     * @param <T>       The type of the operation's result.
+     * @return The result of the first attempt that succeeds.
+     * @throws ConcurrencyConflictException if every attempt allowed by the limits failed on a conflict.
+     */
+    public <T> T execute(String operation, Long eventId, Supplier<T> work) {
+        EventConflictStats stats = statsByEvent.get(eventId, id -> new EventConflictStats(maxAttempts));
+        stats.calls.increment();
+        long start = System.nanoTime();
+        long backedOffMillis = 0;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = work.get();
+                stats.recordCompleted(attempt, backedOffMillis);
+                return result;
+            } catch (RuntimeException e) {
+                ConflictType conflict = classify(e);
+                if (conflict == null) {
+                    stats.recordCompleted(attempt, backedOffMillis);
+                    throw e;
+                }
+                stats.recordConflict(conflict);
+                long backoffMillis = backoff(attempt);
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                if (attempt >= maxAttempts || elapsedMillis + backoffMillis > budgetMillis) {
+                    stats.recordExhausted(attempt, backedOffMillis);
+                    logger.warn("{} for event {} gave up after {} attempts in {} ms on a {}", operation, eventId, attempt, elapsedMillis, conflict);
+                    throw new ConcurrencyConflictException("The seats are in high demand right now and the request could not be completed. Please try again.", e);
+                }
+                logger.debug("{} for event {} hit a {} on attempt {}; retrying in {} ms", operation, eventId, conflict, attempt, backoffMillis);
+                stats.retries.increment();
+                if (!sleep(backoffMillis)) {
+                    stats.recordExhausted(attempt, backedOffMillis);
+                    throw new ConcurrencyConflictException("The request was interrupted while waiting to be retried.", e);
+                }
+                backedOffMillis += backoffMillis;
+            }
+        }
+    }
+
+    /**
+     * Returns the conflict statistics of the tracked events that had a booking or payment call, the events
+     * with the most conflicts first.
+     *
+     * @return A list of per-event conflict statistics.
+     */
+    public List<BookingConflictStatsResponse> getConflictStats() {
+        List<BookingConflictStatsResponse> responses = new ArrayList<>();
+        statsByEvent.forEach((eventId, stats) -> responses.add(stats.toResponse(eventId)));
+        return responses.stream()
+                .sorted(Comparator.comparingLong((BookingConflictStatsResponse stats) -> stats.getVersionConflicts() + stats.getLockConflicts()).reversed())
+                .toList();
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Classifies a failure by walking its cause chain, since a conflict may surface untranslated from a flush
+     * or wrapped in a commit exception.
+     *
+     * @return The kind of conflict, or {@code null} if the failure is not a concurrency conflict.
+     */
+    private static ConflictType classify(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof OptimisticLockingFailureException || cause instanceof OptimisticLockException
+                    || cause instanceof StaleStateException) {
+                return ConflictType.VERSION_CONFLICT;
+            }
+            // Also covers CannotAcquireLockException (lock wait timeout) and deadlock losers
+            if (cause instanceof PessimisticLockingFailureException || cause instanceof PessimisticLockException) {
+                return ConflictType.LOCK_CONTENTION;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Full jitter: a uniform wait between zero and the exponential backoff of the attempt, so that the
+     * requests that collided on one seat do not collide again on their retries.
+     */
+    private long backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 30));
+        return ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling + 1) : 0;
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String backoffBucket(int bucket) {
+        return bucket < BACKOFF_BUCKETS_MILLIS.length
+                ? "<=" + BACKOFF_BUCKETS_MILLIS[bucket] + "ms"
+                : ">" + BACKOFF_BUCKETS_MILLIS[BACKOFF_BUCKETS_MILLIS.length - 1] + "ms";
+    }
+
+    private static final class EventConflictStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder versionConflicts = new LongAdder();
+        private final LongAdder lockConflicts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder recovered = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+        // Index i counts the calls that took i + 1 attempts
+        private final AtomicLongArray attempts;
+        private final AtomicLongArray backoff = new AtomicLongArray(BACKOFF_BUCKETS_MILLIS.length + 1);
+
+        private EventConflictStats(int maxAttempts) {
+            this.attempts = new AtomicLongArray(maxAttempts);
+        }
+
+        private void recordConflict(ConflictType conflict) {
+            (conflict == ConflictType.VERSION_CONFLICT ? versionConflicts : lockConflicts).increment();
+        }
+
+        private void recordCompleted(int attempt, long backedOffMillis) {
+            attempts.incrementAndGet(attempt - 1);
+            if (attempt > 1) {
+                recovered.increment();
+                recordBackoff(backedOffMillis);
+            }
+        }
+
+        private void recordExhausted(int attempt, long backedOffMillis) {
+            attempts.incrementAndGet(attempt - 1);
+            exhausted.increment();
+            recordBackoff(backedOffMillis);
+        }
+
+        private void recordBackoff(long millis) {
+            int bucket = 0;
+            while (bucket < BACKOFF_BUCKETS_MILLIS.length && millis > BACKOFF_BUCKETS_MILLIS[bucket]) {
+                bucket++;
+            }
+            backoff.incrementAndGet(bucket);
+        }
+
+        private BookingConflictStatsResponse toResponse(Long eventId) {
+            BookingConflictStatsResponse response = new BookingConflictStatsResponse();
+            response.setEventId(eventId);
+            response.setCalls(calls.sum());
+            response.setVersionConflicts(versionConflicts.sum());
+            response.setLockConflicts(lockConflicts.sum());
+            response.setRetries(retries.sum());
+            response.setRecovered(recovered.sum());
+            response.setExhausted(exhausted.sum());
+            Map<Integer, Long> attemptsHistogram = new LinkedHashMap<>();
+            for (int i = 0; i < attempts.length(); i++) {
+                attemptsHistogram.put(i + 1, attempts.get(i));
+            }
+            response.setAttemptsHistogram(attemptsHistogram);
+            Map<String, Long> backoffHistogram = new LinkedHashMap<>();
+            for (int i = 0; i < backoff.length(); i++) {
+                backoffHistogram.put(backoffBucket(i), backoff.get(i));
+            }
+            response.setBackoffHistogram(backoffHistogram);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import com.avaneesh.yodha.Eventify.cache.BoundedCache;
+import com.avaneesh.yodha.Eventify.dto.response.CacheStatsResponse;
+import com.avaneesh.yodha.Eventify.dto.response.EventSummaryResponse;
+import com.avaneesh.yodha.Eventify.dto.response.EventsResponse;
+import com.avaneesh.yodha.Eventify.inventory.SeatStatusChangedEvent;
+import com.avaneesh.yodha.Eventify.utils.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read cache of event details and event listing pages.
+ * <p>
+ * Both caches are bounded and expire their entries after a time to live. Entries are invalidated once the
+ * transaction that changed an event commits: an updated event drops its details and the listing pages that
+ * show it, while a created or deleted event shifts every page and drops them all. Seat status changes of
+ * bookings, payments, cancellations and expired holds are picked up from {@link SeatStatusChangedEvent}, as
+ * they change the seats the event's responses show. Their available seat count only changes as the
+ * {@link BookingSequencer} commits it to the counter, which is picked up from {@link SeatCountsFlushedEvent}.
+ * <p>
+ * Every invalidation also advances the version stamps that the ETags of these responses are derived from:
+ * one per event and one for the whole catalog, which every change of any event advances. A stamp is only
+ * advanced after the cached entries it covers are gone, so a response tagged with the new stamp is never
+ * served from a stale entry. Stamps start over when the application restarts, so the ETags carry the start
+ * time of this instance as well.
+ */
+@Service
+public class EventCacheService {
+
+    private final BoundedCache<Long, EventsResponse> eventDetails;
+    private final BoundedCache<EventPageKey, Page<EventSummaryResponse>> eventPages;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final Map<Long, Long> eventVersions = new ConcurrentHashMap<>();
+    private volatile long catalogVersion;
+
+    public EventCacheService(@Value("${app.event-cache.max-events:1000}") int maxEvents,
+                             @Value("${app.event-cache.max-pages:256}") int maxPages,
+                             @Value("${app.event-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.eventDetails = new BoundedCache<>("eventDetails", maxEvents, Duration.ofSeconds(ttlSeconds));
+        this.eventPages = new BoundedCache<>("eventPages", maxPages, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /**
+     * Returns the details of an event from the cache, loading them on a miss.
+     *
+     * @param eventId The ID of the event.
+     * @param loader  Loads the details of the event.
+     * @return The details of the event.
+     */
+    public EventsResponse getEvent(Long eventId, Supplier<EventsResponse> loader) {
+        return eventDetails.get(eventId, id -> loader.get());
+    }
+
+    /**
+     * Returns a page of the event listing from the cache, loading it on a miss.
+     *
+     * @param pageNo   The page number.
+     * @param pageSize The size of the page.
+     * @param sortBy   The field the listing is sorted by.
+     * @param loader   Loads the page.
+     * @return The page of event summaries.
+     */
+    public Page<EventSummaryResponse> getEventPage(int pageNo, int pageSize, String sortBy, Supplier<Page<EventSummaryResponse>> loader) {
+        return eventPages.get(new EventPageKey(pageNo, pageSize, sortBy), key -> loader.get());
+    }
+
+    /**
+     * Invalidates an event and the listing pages that show it once the current transaction commits.
+     *
+     * @param eventId The ID of the updated event.
+     */
+    public void evictEvent(Long eventId) {
+        TransactionHooks.afterCommit(() -> invalidateEvent(eventId));
+    }
+
+    /**
+     * Invalidates an event and every listing page once the current transaction commits, since adding or
+     * removing an event moves the events of every page after it.
+     *
+     * @param eventId The ID of the created or deleted event.
+     */
+    public void evictEventAndListings(Long eventId) {
+        TransactionHooks.afterCommit(() -> {
+            eventDetails.invalidate(eventId);
+            eventPages.invalidateAll();
+            advanceVersions(eventId);
+        });
+    }
+
+    /**
+     * Returns the strong ETag of the current details of an event.
+     *
+     * @param eventId The ID of the event.
+     * @return An ETag that changes whenever the event's details may have changed.
+     */
+    public String eventETag(Long eventId) {
+        return "\"e" + eventId + "-" + epoch + "-" + eventVersions.getOrDefault(eventId, 0L) + "\"";
+    }
+
+    /**
+     * Returns the strong ETag of the event listing, which changes whenever any event may have changed.
+     *
+     * @return The ETag of the listing pages.
+     */
+    public String catalogETag() {
+        return "\"c-" + epoch + "-" + catalogVersion + "\"";
+    }
+
+    @EventListener
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        invalidateEvent(event.eventId());
+    }
+
+    @EventListener
+    public void onSeatCountsFlushed(SeatCountsFlushedEvent event) {
+        Set<Long> eventIds = event.eventIds();
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        // One pass over the listing pages for the whole group commit
+        eventIds.forEach(eventDetails::invalidate);
+        eventPages.invalidateIf(page -> page.getContent().stream().anyMatch(summary -> eventIds.contains(summary.getId())));
+        eventIds.forEach(this::advanceVersions);
+    }
+
+    /**
+     * Returns the hit, miss and eviction statistics of the event caches.
+     *
+     * @return The statistics of the event details and listing page caches.
+     */
+    public List<CacheStatsResponse> getStats() {
+        return List.of(toStats(eventDetails), toStats(eventPages));
+    }
+
+    // --- Private Helper Methods ---
+
+    private void invalidateEvent(Long eventId) {
+        eventDetails.invalidate(eventId);
+        eventPages.invalidateIf(page -> page.getContent().stream().anyMatch(event -> Objects.equals(event.getId(), eventId)));
+        advanceVersions(eventId);
+    }
+
+    private void advanceVersions(Long eventId) {
+        long version = versionSequence.incrementAndGet();
+        eventVersions.merge(eventId, version, Math::max);
+        catalogVersion = version; // Deleted events keep their stamp, so their old ETags no longer match
+    }
+
+    private static CacheStatsResponse toStats(BoundedCache<?, ?> cache) {
+        CacheStatsResponse stats = new CacheStatsResponse();
+        stats.setName(cache.getName());
+        stats.setSize(cache.size());
+        stats.setCapacity(cache.getCapacity());
+        stats.setHits(cache.getHits());
+        stats.setMisses(cache.getMisses());
+        long lookups = cache.getHits() + cache.getMisses();
+        stats.setHitRatio(lookups == 0 ? 0 : (double) cache.getHits() / lookups);
+        stats.setEvictions(cache.getEvictions());
+        stats.setExpirations(cache.getExpirations());
+        stats.setInvalidations(cache.getInvalidations());
+        return stats;
+    }
+
+    private record EventPageKey(int pageNo, int pageSize, String sortBy) {
+    }
+}
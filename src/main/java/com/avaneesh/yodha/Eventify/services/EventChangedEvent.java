@@ -0,0 +1,16 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import com.avaneesh.yodha.Eventify.dto.response.EventSummaryResponse;
+
+/**
+ * Application event published once a transaction that created, updated or deleted an event has committed.
+ *
+ * @param eventId The ID of the event.
+ * @param summary The summary of the event as it was saved, or {@code null} if the event was deleted.
+ */
+public record EventChangedEvent(Long eventId, EventSummaryResponse summary) {
+
+    public boolean deleted() {
+        return summary == null;
+    }
+}
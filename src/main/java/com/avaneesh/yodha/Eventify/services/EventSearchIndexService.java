@@ -0,0 +1,143 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import com.avaneesh.yodha.Eventify.dto.response.EventSummaryResponse;
+import com.avaneesh.yodha.Eventify.repository.EventRepository;
+import com.avaneesh.yodha.Eventify.repository.projections.EventTextView;
+import com.avaneesh.yodha.Eventify.search.EventTextIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Answers the text filters of event searches from an {@link EventTextIndex} instead of leading-wildcard
+ * {@code LIKE} scans, so that searches only hand the database the IDs of the events that can match.
+ * <p>
+ * The index is built from the database once the application has started and is kept up to date from the
+ * {@link EventChangedEvent} that {@link EventService} publishes for every created, updated and deleted event.
+ * It is rebuilt periodically as a safety net for changes made outside this instance; changes reported
+ * while a rebuild reads the database are replayed onto the new index before it replaces the old one.
+ * Until the first build completes, and for filters that match too many events to pass on as IDs, searches
+ * fall back to {@code LIKE}.
+ */
+@Service
+public class EventSearchIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventSearchIndexService.class);
+
+    private final EventRepository eventRepository;
+    private final int maxCandidates;
+    private volatile EventTextIndex index;
+    // Changes reported during a rebuild, by event ID; a null value is a deleted event
+    private Map<Long, EventText> changesDuringRebuild;
+
+    public EventSearchIndexService(EventRepository eventRepository,
+                                   @Value("${app.search-index.max-candidates:1000}") int maxCandidates) {
+        this.eventRepository = eventRepository;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * Builds the index from the database, replacing the current one.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.search-index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${app.search-index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        long start = System.nanoTime();
+        synchronized (this) {
+            changesDuringRebuild = new HashMap<>();
+        }
+        EventTextIndex rebuilt = new EventTextIndex();
+        try {
+            for (EventTextView event : eventRepository.findAllText()) {
+                rebuilt.put(event.getId(), event.getName(), event.getVenue(), event.getDescription());
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            changesDuringRebuild.forEach((eventId, text) -> apply(rebuilt, eventId, text));
+            changesDuringRebuild = null;
+            index = rebuilt;
+        }
+        logger.info("Indexed the text of {} events in {} ms.", rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Indexes the name, venue and description of a created or updated event, or removes a deleted one.
+     */
+    @EventListener
+    public void onEventChanged(EventChangedEvent event) {
+        EventSummaryResponse summary = event.summary();
+        record(event.eventId(), event.deleted() ? null : new EventText(summary.getName(), summary.getVenue(), summary.getDescription()));
+    }
+
+    /**
+     * Finds the IDs of the events that can match the text filters of a search. All given filters must
+     * match; each is a case-insensitive substring match like the {@code LIKE} filters it replaces.
+     *
+     * @param name     Text the event name must contain, or {@code null}.
+     * @param venue    Text the venue must contain, or {@code null}.
+     * @param keywords Keywords that must each occur in the name, venue or description, or {@code null}.
+     * @return The IDs of the matching events, or {@code null} if the search should filter with {@code LIKE}
+     *         instead: no text filter is given, the index is not built yet, or too many events match.
+     */
+    public Set<Long> findCandidateIds(String name, String venue, String keywords) {
+        EventTextIndex current = index;
+        if (current == null || isBlank(name) && isBlank(venue) && isBlank(keywords)) {
+            return null;
+        }
+        List<EventTextIndex.Clause> clauses = new ArrayList<>();
+        if (!isBlank(name)) {
+            clauses.add(EventTextIndex.Clause.in(EventTextIndex.Field.NAME, name));
+        }
+        if (!isBlank(venue)) {
+            clauses.add(EventTextIndex.Clause.in(EventTextIndex.Field.VENUE, venue));
+        }
+        if (!isBlank(keywords)) {
+            for (String keyword : keywords.trim().split("\\s+")) {
+                clauses.add(EventTextIndex.Clause.anywhere(keyword));
+            }
+        }
+        return current.find(clauses, maxCandidates);
+    }
+
+    // --- Private Helper Methods ---
+
+    private synchronized void record(Long eventId, EventText text) {
+        if (index != null) {
+            apply(index, eventId, text);
+        }
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.put(eventId, text);
+        }
+    }
+
+    private static void apply(EventTextIndex target, Long eventId, EventText text) {
+        if (text == null) {
+            target.remove(eventId);
+        } else {
+            target.put(eventId, text.name(), text.venue(), text.description());
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record EventText(String name, String venue, String description) {
+    }
+}
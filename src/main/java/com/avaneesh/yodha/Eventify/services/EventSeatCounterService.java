@@ -0,0 +1,117 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import com.avaneesh.yodha.Eventify.repository.EventRepository;
+import com.avaneesh.yodha.Eventify.repository.EventSeatCounterRepository;
+import com.avaneesh.yodha.Eventify.repository.projections.SeatCountDriftView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sharded counter for the number of booked seats of each event.
+ * <p>
+ * Every event owns up to {@code app.booking.counter.shards} slots in {@code event_seat_counters}. Writers
+ * add their delta to a randomly chosen slot with a single atomic upsert, and readers sum the slots. The
+ * legacy {@code events.booked_seats} column is kept as a read-only baseline for seats booked before the
+ * counter existed, so the booked seat count of an event is always {@code baseline + sum(slots)}.
+ */
+@Service
+public class EventSeatCounterService {
+
+    private final EventSeatCounterRepository counterRepository;
+    private final EventRepository eventRepository;
+    private final int shards;
+
+    public EventSeatCounterService(EventSeatCounterRepository counterRepository, EventRepository eventRepository,
+                                   @Value("${app.booking.counter.shards:8}") int shards) {
+        this.counterRepository = counterRepository;
+        this.eventRepository = eventRepository;
+        this.shards = shards;
+    }
+
+    /**
+     * Adds a delta to the booked seat count of an event. Must be called inside a transaction.
+     *
+     * @param eventId The ID of the event.
+     * @param delta   The number of seats to add; negative to release seats.
+     */
+    public void increment(Long eventId, int delta) {
+        counterRepository.increment(eventId, ThreadLocalRandom.current().nextInt(shards), delta);
+    }
+
+    /**
+     * Returns the committed booked seat count of an event by summing its counter slots.
+     *
+     * @param eventId The ID of the event.
+     * @return The number of booked seats.
+     */
+    public long getBookedSeats(Long eventId) {
+        return eventRepository.findBaselineBookedSeatsById(eventId) + counterRepository.sumBookedSeatsByEventId(eventId);
+    }
+
+    /**
+     * Returns the committed number of booked seats across all events.
+     *
+     * @return The total number of booked seats.
+     */
+    public long getTotalBookedSeats() {
+        return eventRepository.sumBaselineBookedSeats() + counterRepository.sumBookedSeats();
+    }
+
+    /**
+     * Returns which of the given events still exist, so that seat count changes of deleted events are dropped.
+     *
+     * @param eventIds The IDs of the events.
+     * @return The IDs of the events that exist.
+     */
+    public Set<Long> findExistingEventIds(Collection<Long> eventIds) {
+        return new HashSet<>(eventRepository.findExistingIds(eventIds));
+    }
+
+    /**
+     * Finds the events of a sequencer lane whose booked seat count disagrees with the LOCKED and BOOKED seats
+     * they hold, which are the source of truth the counter mirrors.
+     *
+     * @param lanes The number of sequencer lanes.
+     * @param lane  The lane, which owns the events whose ID is {@code lane} modulo {@code lanes}.
+     * @param since Only events taking place after this time are checked.
+     * @return The drifted events with their held and counted seats.
+     */
+    public List<SeatCountDriftView> findDrifts(int lanes, int lane, LocalDateTime since) {
+        return counterRepository.findDrifts(lanes, lane, since);
+    }
+
+    /**
+     * Finds which of the given events have a booked seat count that disagrees with the seats they hold.
+     *
+     * @param eventIds The IDs of the events to check.
+     * @return The drifted events with their held and counted seats.
+     */
+    public List<SeatCountDriftView> findDrifts(Collection<Long> eventIds) {
+        return eventIds.isEmpty() ? List.of() : counterRepository.findDriftsByEventIds(eventIds);
+    }
+
+    /**
+     * Removes the counter slots of events that no longer exist. Must be called inside a transaction.
+     *
+     * @return The number of removed slots.
+     */
+    public int deleteOrphanedCounters() {
+        return counterRepository.deleteOrphans();
+    }
+
+    /**
+     * Removes all counter slots of an event.
+     *
+     * @param eventId The ID of the deleted event.
+     */
+    public void deleteCounters(Long eventId) {
+        counterRepository.deleteAllByEventId(eventId);
+    }
+}
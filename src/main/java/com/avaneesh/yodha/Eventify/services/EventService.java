@@ -1,16 +1,30 @@
 package com.avaneesh.yodha.Eventify.services;
 
 import com.avaneesh.yodha.Eventify.dto.request.EventRequestDTO;
+import com.avaneesh.yodha.Eventify.dto.response.CursorPageResponse;
+import com.avaneesh.yodha.Eventify.dto.response.EventSummaryResponse;
 import com.avaneesh.yodha.Eventify.dto.response.EventsResponse;
+import com.avaneesh.yodha.Eventify.dto.response.FacetedSearchResponse;
 import com.avaneesh.yodha.Eventify.entities.Events;
-import com.avaneesh.yodha.Eventify.entities.Seat;
-import com.avaneesh.yodha.Eventify.enums.SeatStatus;
+import com.avaneesh.yodha.Eventify.enums.SeatInventoryMode;
 import com.avaneesh.yodha.Eventify.exception.ResourceNotFoundException;
+import com.avaneesh.yodha.Eventify.inventory.SeatLayout;
+import com.avaneesh.yodha.Eventify.mapper.BookingMapper;
 import com.avaneesh.yodha.Eventify.mapper.EventMapper;
+import com.avaneesh.yodha.Eventify.mapper.SeatMapper;
+import com.avaneesh.yodha.Eventify.repository.BookingRepository;
 import com.avaneesh.yodha.Eventify.repository.EventRepository;
-import com.avaneesh.yodha.Eventify.repository.SeatRepository;
+import com.avaneesh.yodha.Eventify.repository.EventSeekKey;
+import com.avaneesh.yodha.Eventify.repository.SeatBulkWriter;
 import com.avaneesh.yodha.Eventify.repository.specifications.EventSpecification;
+import com.avaneesh.yodha.Eventify.utils.TransactionHooks;
 import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,29 +33,62 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Service layer for managing events, including creation, retrieval, updates, and seat generation.
+ * <p>
+ * PHYSICAL events get one stored seat per layout position; VIRTUAL events only store their layout
+ * and row pricing, and their seat lists are derived from the in-memory seat inventory.
  */
 @Service
 public class EventService {
 
+    private static final Logger logger = LoggerFactory.getLogger(EventService.class);
+
     private final EventRepository eventRepository;
-    private final SeatRepository seatRepository;
+    private final SeatBulkWriter seatBulkWriter;
     private final EventMapper eventMapper;
     private final StorageService storageService;
+    private final SeatInventoryService seatInventoryService;
+    private final BookingSequencer bookingSequencer;
+    private final EventSeatCounterService eventSeatCounterService;
+    private final SeatMapper seatMapper;
+    private final EventCacheService eventCacheService;
+    private final EventSearchIndexService eventSearchIndexService;
+    private final BookingRepository bookingRepository;
+    private final BookingMapper bookingMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeatInventoryMode defaultInventoryMode;
+    private final List<Double> priceBandBounds;
 
-    public EventService(EventRepository eventRepository, SeatRepository seatRepository, EventMapper eventMapper, StorageService storageService) {
+    public EventService(EventRepository eventRepository, SeatBulkWriter seatBulkWriter, EventMapper eventMapper, StorageService storageService, SeatInventoryService seatInventoryService, BookingSequencer bookingSequencer, EventSeatCounterService eventSeatCounterService,
+                        SeatMapper seatMapper, EventCacheService eventCacheService, EventSearchIndexService eventSearchIndexService,
+                        BookingRepository bookingRepository, BookingMapper bookingMapper, ApplicationEventPublisher eventPublisher, @Value("${app.seat-inventory.default-mode:PHYSICAL}") SeatInventoryMode defaultInventoryMode,
+                        @Value("${app.search.facets.price-bands:50,100,250,500}") List<Double> priceBandBounds) {
         this.eventRepository = eventRepository;
-        this.seatRepository = seatRepository;
+        this.seatBulkWriter = seatBulkWriter;
         this.eventMapper = eventMapper;
         this.storageService = new StorageService();
+        this.seatInventoryService = seatInventoryService;
+        this.bookingSequencer = bookingSequencer;
+        this.eventSeatCounterService = eventSeatCounterService;
+        this.seatMapper = seatMapper;
+        this.eventCacheService = eventCacheService;
+        this.eventSearchIndexService = eventSearchIndexService;
+        this.bookingRepository = bookingRepository;
+        this.bookingMapper = bookingMapper;
+        this.eventPublisher = eventPublisher;
+        this.defaultInventoryMode = defaultInventoryMode;
+        this.priceBandBounds = priceBandBounds.stream().sorted().toList();
     }
 
     /**
-     * Creates a new event and generates its seating arrangement.
+     * Creates a new event and generates its seating arrangement. The seats of a PHYSICAL event are
+     * bulk-inserted, while a VIRTUAL event only stores its row pricing. Seats are not loaded into
+     * the response; clients read them through the seat map endpoints.
      *
      * @param request The DTO containing the event details.
      * @return A DTO representing the newly created event.
@@ -49,58 +96,119 @@ public class EventService {
     @Transactional
     public EventsResponse createEvent(EventRequestDTO request) {
         Events newEvent = eventMapper.toEvent(request);
+        newEvent.setInventoryMode(request.getInventoryMode() != null ? request.getInventoryMode() : defaultInventoryMode);
+        newEvent.applyRowPricing(request.getSeatPricing());
 
         if (request.getImages() != null && !request.getImages().isEmpty()) {
             List<String> imageUrls = storageService.saveFiles(request.getImages());
             newEvent.setImageUrls(imageUrls);
         }
+        validateSeatPricing(request);
         Events savedEvent = eventRepository.save(newEvent);
 
-        List<Seat> seats = generateSeatsForEvent(savedEvent, request);
-        seatRepository.saveAll(seats);
-        savedEvent.setSeats(seats);
+        generateSeatsForEvent(savedEvent, request);
+        eventCacheService.evictEventAndListings(savedEvent.getId());
+        publishAfterCommit(savedEvent.getId(), eventMapper.toEventSummary(savedEvent));
 
         return eventMapper.toEventResponse(savedEvent);
     }
 
     /**
-     * Retrieves a paginated list of all events.
+     * Retrieves a paginated list of event summaries. Pages are served from the event cache; seats and
+     * bookings are only part of the single-event response.
      *
      * @param pageNo   The page number.
      * @param pageSize The size of the page.
      * @param sortBy   The field to sort by.
-     * @return A paginated list of event DTOs.
+     * @return A paginated list of event summaries.
      */
-    public Page<EventsResponse> getAllEvents(int pageNo, int pageSize, String sortBy) {
+    public Page<EventSummaryResponse> getAllEvents(int pageNo, int pageSize, String sortBy) {
+        return eventCacheService.getEventPage(pageNo, pageSize, sortBy, () -> {
+            Pageable pageable = PageRequest.of(pageNo, pageSize, Sort.by(Sort.Direction.DESC, sortBy));
+            return applyPendingSeatCounts(eventRepository.findSummaries(null, pageable));
+        });
+    }
+
+    /**
+     * Searches event summaries. The name, venue and keyword filters are resolved to event IDs by the event
+     * text index, so the database only filters and pages the events that can match.
+     *
+     * @param name     Text the event name must contain.
+     * @param venue    Text the venue must contain.
+     * @param keywords Keywords that must each occur in the name, venue or description.
+     * @return A page of matching event summaries.
+     */
+    public Page<EventSummaryResponse> searchEvents(
+            String name, String venue, String keywords, String category, LocalDateTime startDate, LocalDateTime endDate,
+            int pageNo, int pageSize, String sortBy, Double minPrice, Double maxPrice) {
+
+        Specification<Events> spec = searchSpecification(name, venue, keywords, category, startDate, endDate, minPrice, maxPrice);
         Pageable pageable = PageRequest.of(pageNo, pageSize, Sort.by(Sort.Direction.DESC, sortBy));
-        return eventRepository.findAll(pageable).map(eventMapper::toEventResponse);
+
+        return applyPendingSeatCounts(eventRepository.findSummaries(spec, pageable));
     }
 
-    public Page<EventsResponse> searchEvents(
-            String name, String category, LocalDateTime startDate, LocalDateTime endDate,
+    /**
+     * Searches event summaries like {@link #searchEvents} and counts the matching events per category, date
+     * bucket and price band in one aggregate query. Each facet is counted without its own filter, so the
+     * counts of a chosen category also show how many events the other categories have.
+     *
+     * @return A page of matching event summaries together with the facet counts.
+     */
+    public FacetedSearchResponse searchEventsWithFacets(
+            String name, String venue, String keywords, String category, LocalDateTime startDate, LocalDateTime endDate,
             int pageNo, int pageSize, String sortBy, Double minPrice, Double maxPrice) {
 
-        Specification<Events> spec = EventSpecification.getEvents(name, category, startDate, endDate, minPrice, maxPrice);
+        Specification<Events> textSpec = textSpecification(name, venue, keywords);
+        Specification<Events> categorySpec = EventSpecification.inCategory(category);
+        Specification<Events> dateSpec = EventSpecification.between(startDate, endDate);
+        Specification<Events> priceSpec = EventSpecification.priceOverlaps(minPrice, maxPrice);
         Pageable pageable = PageRequest.of(pageNo, pageSize, Sort.by(Sort.Direction.DESC, sortBy));
 
-        return eventRepository.findAll(spec, pageable).map(eventMapper::toEventResponse);
+        FacetedSearchResponse response = new FacetedSearchResponse();
+        response.setEvents(applyPendingSeatCounts(eventRepository.findSummaries(textSpec.and(categorySpec).and(dateSpec).and(priceSpec), pageable)));
+        response.setFacets(eventRepository.countFacets(textSpec, categorySpec, dateSpec, priceSpec, LocalDateTime.now(), priceBandBounds));
+        return response;
     }
 
     /**
-     * Retrieves a single event by its ID.
+     * Retrieves a page of event summaries by cursor. Instead of skipping {@code pageNo * pageSize} rows,
+     * each page seeks past the last event of the previous one on the {@code (sortBy, id)} index.
+     *
+     * @param cursor       The {@code nextCursor} of the previous page, or {@code null} for the first page.
+     * @param pageSize     The size of the page.
+     * @param sortBy       The field to sort by: {@code eventTimestamp}, {@code name} or {@code id}.
+     * @param includeTotal Whether to also count all events, which costs a COUNT query.
+     * @return A page of event summaries with the cursor of the next page.
+     */
+    public CursorPageResponse<EventSummaryResponse> getEventsByCursor(String cursor, int pageSize, String sortBy, boolean includeTotal) {
+        return cursorPage(null, cursor, pageSize, sortBy, includeTotal);
+    }
+
+    public CursorPageResponse<EventSummaryResponse> searchEventsByCursor(
+            String name, String venue, String keywords, String category, LocalDateTime startDate, LocalDateTime endDate,
+            String cursor, int pageSize, String sortBy, Double minPrice, Double maxPrice, boolean includeTotal) {
+
+        Specification<Events> spec = searchSpecification(name, venue, keywords, category, startDate, endDate, minPrice, maxPrice);
+        return cursorPage(spec, cursor, pageSize, sortBy, includeTotal);
+    }
+
+    /**
+     * Retrieves a single event by its ID from the event cache.
      *
      * @param eventId The ID of the event.
      * @return A DTO representing the event.
      */
     public EventsResponse getEventById(Long eventId) {
-        return eventRepository.findById(eventId)
-                .map(eventMapper::toEventResponse)
-                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
+        return eventCacheService.getEvent(eventId, () -> eventRepository.findForDetailsById(eventId)
+                .map(this::toEventResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId)));
     }
 
     /**
-     * Updates an existing event. If the seating layout has changed and there are no existing bookings,
-     * the old seats are deleted and new ones are generated.
+     * Updates an existing event. The requested layout is compared with the layout descriptor stored on the
+     * event; if it changed and there are no existing bookings, the stored seats are moved to the new layout
+     * as a diff (see {@link SeatBulkWriter#applyLayoutChange}). The inventory mode of an event cannot change.
      *
      * @param eventId The ID of the event to update.
      * @param request The DTO with updated event details.
@@ -112,14 +220,20 @@ public class EventService {
         Events existingEvent = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
 
-        boolean layoutChanged = hasLayoutChanged(existingEvent, request);
+        List<Object> listedFields = listedFields(existingEvent);
+        SeatLayout currentLayout = existingEvent.getLayout();
+        SeatLayout requestedLayout = new SeatLayout(request.getTotalSeats(), request.getSeatsPerRow(), request.getSeatPricing());
+        boolean layoutChanged = requestedLayout.differsFrom(currentLayout);
         if (layoutChanged) {
-            if (existingEvent.getBookedSeats() > 0 || existingEvent.getBookings() != null && !existingEvent.getBookings().isEmpty()) {
+            if (bookingSequencer.bookedSeats(existingEvent) > 0 || existingEvent.getBookings() != null && !existingEvent.getBookings().isEmpty()) {
                 throw new IllegalStateException("Cannot change seat layout for an event that already has bookings.");
             }
-            existingEvent.getSeats().clear();
-            List<Seat> newSeats = generateSeatsForEvent(existingEvent, request);
-            existingEvent.getSeats().addAll(newSeats);
+            validateSeatPricing(request);
+            if (existingEvent.getInventoryMode() == SeatInventoryMode.PHYSICAL) {
+                seatBulkWriter.applyLayoutChange(eventId, currentLayout, requestedLayout);
+            }
+            existingEvent.applyRowPricing(request.getSeatPricing());
+            seatInventoryService.evict(eventId);
         }
         if (request.getImages() != null && !request.getImages().isEmpty()) {
             storageService.deleteFiles(existingEvent.getImageUrls());
@@ -129,7 +243,27 @@ public class EventService {
         }
         eventMapper.updateEventFromDto(request, existingEvent);
         Events updatedEvent = eventRepository.save(existingEvent);
-        return eventMapper.toEventResponse(updatedEvent);
+        if (listedFields.equals(listedFields(updatedEvent))) {
+            eventCacheService.evictEvent(eventId);
+        } else {
+            eventCacheService.evictEventAndListings(eventId); // The event may move to other listing pages
+        }
+        publishAfterCommit(eventId, eventMapper.toEventSummary(updatedEvent));
+        // A new layout is loaded into the seat inventory only once this transaction commits
+        return layoutChanged ? eventMapper.toEventResponse(updatedEvent) : toEventResponse(updatedEvent);
+    }
+
+    /**
+     * Derives the price bounds of events stored before they were kept on the event, from their row pricing
+     * or, for events without stored row pricing, from their seats.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillPriceBounds() {
+        int updated = eventRepository.backfillPriceBounds();
+        if (updated > 0) {
+            logger.info("Backfilled the price bounds of {} events.", updated);
+        }
     }
 
     @Transactional
@@ -138,57 +272,105 @@ public class EventService {
             throw new ResourceNotFoundException("Event not found with id: " + id);
         }
         eventRepository.deleteById(id);
+        eventSeatCounterService.deleteCounters(id);
+        bookingSequencer.forget(id);
+        seatInventoryService.evict(id);
+        eventCacheService.evictEventAndListings(id);
+        publishAfterCommit(id, null);
     }
 
     // --- Private Helper Methods ---
 
-    private List<Seat> generateSeatsForEvent(Events event, EventRequestDTO request) {
-        int totalSeats = request.getTotalSeats();
-        int seatsPerRow = request.getSeatsPerRow();
+    private void validateSeatPricing(EventRequestDTO request) {
+        int totalRows = (int) Math.ceil((double) request.getTotalSeats() / request.getSeatsPerRow());
         List<Double> seatPricing = request.getSeatPricing();
-        int totalRows = (int) Math.ceil((double) totalSeats / seatsPerRow);
 
         if (seatPricing.size() != totalRows) {
             throw new IllegalArgumentException("The number of prices in seatPricing (" + seatPricing.size() +
                     ") must match the calculated number of rows (" + totalRows + ").");
         }
+    }
 
-        List<Seat> seats = new ArrayList<>();
-        char currentRowChar = 'A';
-        int currentSeatInRow = 1;
-        int rowIndex = 0;
-
-        for (int i = 0; i < totalSeats; i++) {
-            String seatNumber = String.format("%c%d", currentRowChar, currentSeatInRow);
-            double currentPrice = seatPricing.get(rowIndex);
-
-            Seat seat = new Seat();
-            seat.setSeatNumber(seatNumber);
-            seat.setStatus(SeatStatus.AVAILABLE);
-            seat.setEvent(event);
-            seat.setSeatPricing(currentPrice);
-            seats.add(seat);
-
-            currentSeatInRow++;
-            if (currentSeatInRow > seatsPerRow) {
-                currentSeatInRow = 1;
-                currentRowChar++;
-                rowIndex++;
-            }
-        }
-        return seats;
+    /**
+     * Returns the fields an event listing can be sorted by.
+     */
+    private static List<Object> listedFields(Events event) {
+        return Arrays.asList(event.getName(), event.getDescription(), event.getVenue(), event.getEventTimestamp(),
+                event.getTotalSeats(), event.getCategory());
     }
 
-    private boolean hasLayoutChanged(Events event, EventRequestDTO request) {
-        int currentTotalSeats = event.getSeats() != null ? event.getSeats().size() : 0;
-        if (currentTotalSeats == 0) return true; // Layout is new
+    private Specification<Events> searchSpecification(String name, String venue, String keywords, String category,
+                                                      LocalDateTime startDate, LocalDateTime endDate, Double minPrice, Double maxPrice) {
+        return textSpecification(name, venue, keywords)
+                .and(EventSpecification.inCategory(category))
+                .and(EventSpecification.between(startDate, endDate))
+                .and(EventSpecification.priceOverlaps(minPrice, maxPrice));
+    }
 
-        // A simple way to estimate original seats per row
-        int currentSeatsPerRow = event.getSeats().stream()
-                .filter(s -> s.getSeatNumber().startsWith("A"))
-                .mapToInt(s -> 1)
-                .sum();
+    /**
+     * Filters by the events the text index finds, or with {@code LIKE} when the index cannot answer.
+     */
+    private Specification<Events> textSpecification(String name, String venue, String keywords) {
+        Set<Long> candidateIds = eventSearchIndexService.findCandidateIds(name, venue, keywords);
+        return candidateIds != null
+                ? EventSpecification.idIn(candidateIds)
+                : EventSpecification.matchingText(name, venue, keywords);
+    }
 
-        return request.getTotalSeats() != currentTotalSeats || request.getSeatsPerRow() != currentSeatsPerRow;
+    /**
+     * Tells the search, autocomplete and other in-memory views of the catalog about a change once the
+     * current transaction commits.
+     */
+    private void publishAfterCommit(Long eventId, EventSummaryResponse summary) {
+        TransactionHooks.afterCommit(() -> eventPublisher.publishEvent(new EventChangedEvent(eventId, summary)));
+    }
+
+    private CursorPageResponse<EventSummaryResponse> cursorPage(Specification<Events> spec, String cursor, int pageSize,
+                                                                String sortBy, boolean includeTotal) {
+        EventSeekKey.requireSupported(sortBy);
+        EventSeekKey after = cursor != null && !cursor.isEmpty() ? EventSeekKey.decode(cursor, sortBy) : null;
+        // One extra row tells whether there is a next page without counting
+        List<EventSummaryResponse> summaries = eventRepository.findSummariesAfter(spec, sortBy, after, pageSize + 1);
+        boolean hasNext = summaries.size() > pageSize;
+        List<EventSummaryResponse> content = hasNext ? summaries.subList(0, pageSize) : summaries;
+
+        CursorPageResponse<EventSummaryResponse> page = new CursorPageResponse<>();
+        page.setContent(applyPendingSeatCounts(content));
+        page.setSize(content.size());
+        page.setHasNext(hasNext);
+        page.setNextCursor(hasNext ? EventSeekKey.of(content.get(content.size() - 1), sortBy).encode() : null);
+        page.setTotalElements(includeTotal ? eventRepository.countSummaries(spec) : null);
+        return page;
+    }
+
+    /**
+     * Applies the seat count changes that the booking sequencer has not committed yet, as
+     * {@link BookingSequencer#bookedSeats} does for a single event.
+     */
+    private <T extends Iterable<EventSummaryResponse>> T applyPendingSeatCounts(T summaries) {
+        for (EventSummaryResponse summary : summaries) {
+            summary.setAvailableSeats(summary.getAvailableSeats() - (int) bookingSequencer.pendingDelta(summary.getId()));
+        }
+        return summaries;
+    }
+
+    private EventsResponse toEventResponse(Events event) {
+        EventsResponse response = eventMapper.toEventResponse(event);
+        // The seats below are committed already, while their count may still wait for the sequencer
+        response.setAvailableSeats(event.getTotalSeats() - bookingSequencer.bookedSeats(event));
+        if (event.getInventoryMode() == SeatInventoryMode.VIRTUAL) {
+            // Only held or booked seats are stored; list the whole layout from memory instead
+            response.setSeats(seatMapper.toSeatsResponseList(seatInventoryService.inventoryFor(event.getId())));
+        }
+        // Loading the bookings lazily would also load the payment and seats of each booking one by one
+        response.setBookings(bookingMapper.toBookingResponseList(bookingRepository.findAllWithEventAndSeatsByEventId(event.getId())));
+        return response;
+    }
+
+    private void generateSeatsForEvent(Events event, EventRequestDTO request) {
+        if (event.getInventoryMode() == SeatInventoryMode.VIRTUAL) {
+            return; // The layout and its row pricing are the seats of a virtual event
+        }
+        seatBulkWriter.insertLayout(event.getId(), request.getTotalSeats(), request.getSeatsPerRow(), request.getSeatPricing());
     }
 }
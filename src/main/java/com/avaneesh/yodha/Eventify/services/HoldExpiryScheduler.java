@@ -0,0 +1,127 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import com.avaneesh.yodha.Eventify.enums.BookingStatus;
+import com.avaneesh.yodha.Eventify.repository.BookingRepository;
+import com.avaneesh.yodha.Eventify.repository.projections.PendingHoldView;
+import com.avaneesh.yodha.Eventify.utils.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expires PENDING bookings at their deadline instead of waiting for the next periodic sweep.
+ * <p>
+ * Every PENDING booking is registered in a {@link DelayQueue} keyed by its hold deadline; a single
+ * worker thread takes each hold as soon as it is due and asks {@link BookingCleanupService} to cancel
+ * it and release its seats. Bookings that are confirmed or cancelled in the meantime are unregistered,
+ * so their entries are skipped without a database lookup. The schedule is rebuilt from the database on
+ * startup, and the periodic sweep in {@link BookingCleanupService} remains as a safety net.
+ */
+@Service
+public class HoldExpiryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(HoldExpiryScheduler.class);
+
+    private final DelayQueue<HoldExpiry> queue = new DelayQueue<>();
+    private final Map<Long, HoldExpiry> scheduledHolds = new ConcurrentHashMap<>();
+    private final BookingRepository bookingRepository;
+    private final BookingCleanupService bookingCleanupService;
+    private final Thread worker = new Thread(this::run, "hold-expiry");
+
+    public HoldExpiryScheduler(BookingRepository bookingRepository, BookingCleanupService bookingCleanupService) {
+        this.bookingRepository = bookingRepository;
+        this.bookingCleanupService = bookingCleanupService;
+        this.worker.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.interrupt();
+    }
+
+    /**
+     * Re-registers every PENDING booking once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildFromDatabase() {
+        List<PendingHoldView> pendingHolds = bookingRepository.findHoldsByStatus(BookingStatus.PENDING);
+        pendingHolds.forEach(hold -> schedule(hold.getId(), hold.getBookingTimestamp()));
+        logger.info("Scheduled expiry for {} pending bookings.", pendingHolds.size());
+    }
+
+    /**
+     * Schedules the expiry of a new PENDING booking once the current transaction commits.
+     *
+     * @param bookingId        The ID of the booking.
+     * @param bookingTimestamp The time at which the booking was created.
+     */
+    public void register(Long bookingId, LocalDateTime bookingTimestamp) {
+        TransactionHooks.afterCommit(() -> schedule(bookingId, bookingTimestamp));
+    }
+
+    /**
+     * Cancels the scheduled expiry of a booking once the current transaction commits.
+     *
+     * @param bookingId The ID of the booking that was confirmed or cancelled.
+     */
+    public void unregister(Long bookingId) {
+        TransactionHooks.afterCommit(() -> scheduledHolds.remove(bookingId));
+    }
+
+    // --- Private Helper Methods ---
+
+    private void schedule(Long bookingId, LocalDateTime bookingTimestamp) {
+        LocalDateTime deadline = bookingTimestamp.plusMinutes(BookingCleanupService.PENDING_BOOKING_EXPIRATION_MINUTES);
+        HoldExpiry hold = new HoldExpiry(bookingId, deadline.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        scheduledHolds.put(bookingId, hold);
+        queue.put(hold);
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                HoldExpiry hold = queue.take();
+                // Skip holds that were confirmed, cancelled or rescheduled in the meantime
+                if (scheduledHolds.remove(hold.bookingId(), hold)) {
+                    bookingCleanupService.expirePendingBooking(hold.bookingId());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // The periodic sweep will retry this booking
+                logger.error("Failed to expire pending booking.", e);
+            }
+        }
+    }
+
+    private record HoldExpiry(Long bookingId, long deadlineMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadlineMillis, ((HoldExpiry) other).deadlineMillis);
+        }
+    }
+}
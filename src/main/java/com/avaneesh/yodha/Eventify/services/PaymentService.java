@@ -4,23 +4,24 @@ import com.avaneesh.yodha.Eventify.dto.request.PaymentRequest;
 import com.avaneesh.yodha.Eventify.dto.response.BookingResponse;
 import com.avaneesh.yodha.Eventify.dto.response.PaymentResponse;
 import com.avaneesh.yodha.Eventify.entities.Booking;
-import com.avaneesh.yodha.Eventify.entities.Events;
 import com.avaneesh.yodha.Eventify.entities.Payments;
-import com.avaneesh.yodha.Eventify.entities.Seat;
 import com.avaneesh.yodha.Eventify.enums.BookingStatus;
 import com.avaneesh.yodha.Eventify.enums.PaymentMethod;
 import com.avaneesh.yodha.Eventify.enums.PaymentStatus;
-import com.avaneesh.yodha.Eventify.enums.SeatStatus;
 import com.avaneesh.yodha.Eventify.exception.ResourceNotFoundException;
 import com.avaneesh.yodha.Eventify.mapper.BookingMapper;
 import com.avaneesh.yodha.Eventify.repository.BookingRepository;
-import com.avaneesh.yodha.Eventify.repository.EventRepository;
 import com.avaneesh.yodha.Eventify.repository.PaymentRepository;
+import com.avaneesh.yodha.Eventify.utils.TransactionHooks;
 import jakarta.transaction.Transactional;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service layer for handling payment-related operations.
@@ -28,23 +29,29 @@ import java.util.UUID;
 @Service
 public class PaymentService {
 
+    private static final Logger logger = LoggerFactory.getLogger(PaymentService.class);
+
     private final BookingRepository bookingRepository;
     private final PaymentRepository paymentRepository;
-    private final EventRepository eventRepository;
     private final BookingMapper bookingMapper;
     private final EmailService emailService;
+    private final SeatInventoryService seatInventoryService;
+    private final BookingSequencer bookingSequencer;
+    private final HoldExpiryScheduler holdExpiryScheduler;
 
-    public PaymentService(BookingRepository bookingRepository, PaymentRepository paymentRepository, EventRepository eventRepository, BookingMapper bookingMapper, EmailService emailService) {
+    public PaymentService(BookingRepository bookingRepository, PaymentRepository paymentRepository, BookingMapper bookingMapper, EmailService emailService, SeatInventoryService seatInventoryService, BookingSequencer bookingSequencer, HoldExpiryScheduler holdExpiryScheduler) {
         this.bookingRepository = bookingRepository;
         this.paymentRepository = paymentRepository;
-        this.eventRepository = eventRepository;
         this.bookingMapper = bookingMapper;
         this.emailService = emailService;
+        this.seatInventoryService = seatInventoryService;
+        this.bookingSequencer = bookingSequencer;
+        this.holdExpiryScheduler = holdExpiryScheduler;
     }
 
     @Transactional
     public PaymentResponse initiatePayment(Long bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findWithPaymentById(bookingId)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
 
         if (booking.getStatus() != BookingStatus.PENDING) {
@@ -72,9 +79,13 @@ public class PaymentService {
 
     @Transactional
     public BookingResponse processPaymentWebhook(PaymentRequest paymentRequest) {
-        Payments payment = paymentRepository.findByTransactionId(paymentRequest.getTransactionId())
+        Payments payment = paymentRepository.findForConfirmationByTransactionId(paymentRequest.getTransactionId())
                 .orElseThrow(() -> new ResourceNotFoundException("Payment transaction not found with id: " + paymentRequest.getTransactionId()));
 
+        if (payment.getBooking().getStatus() != BookingStatus.PENDING) {
+            // The booking already expired, was cancelled or was settled by an earlier webhook
+            return handleSettledBooking(payment, paymentRequest);
+        }
         if (paymentRequest.getPaymentStatus() == PaymentStatus.COMPLETED) {
             return handleSuccessfulPayment(payment, paymentRequest.getPaymentMethod());
         } else {
@@ -82,11 +93,24 @@ public class PaymentService {
         }
     }
 
-    @Transactional
-    public void refundPayment(String transactionId) {
-        Payments payment = paymentRepository.findByTransactionId(transactionId)
+    /**
+     * Looks up the event that a payment transaction books seats of.
+     *
+     * @param transactionId The ID of the payment transaction.
+     * @return The ID of the event.
+     */
+    public Long getEventIdForTransaction(String transactionId) {
+        return paymentRepository.findEventIdByTransactionId(transactionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment transaction not found with id: " + transactionId));
+    }
 
+    /**
+     * Refunds the payment of a cancelled booking.
+     *
+     * @param payment The payment, as loaded with the booking being cancelled.
+     */
+    @Transactional
+    public void refundPayment(Payments payment) {
         payment.setStatus(PaymentStatus.REFUNDED);
         paymentRepository.save(payment);
     }
@@ -100,16 +124,34 @@ public class PaymentService {
 
         Booking booking = payment.getBooking();
         booking.setStatus(BookingStatus.CONFIRMED);
-
-        for (Seat seat : booking.getBookedSeats()) {
-            seat.setStatus(SeatStatus.BOOKED);
-        }
+        seatInventoryService.confirm(booking);
+        holdExpiryScheduler.unregister(booking.getId());
 
         Booking confirmedBooking = bookingRepository.save(booking);
-        emailService.sendBookingConfirmationEmail(confirmedBooking);
+        notifyAfterCommit(confirmedBooking, emailService::sendBookingConfirmationEmail);
         return bookingMapper.toBookingResponse(confirmedBooking);
     }
 
+    /**
+     * Answers a webhook for a booking that is no longer pending without touching the booking or its seats,
+     * which may already belong to another booking. A payment that completes after its booking expired or
+     * was cancelled is refunded; a replayed webhook only reports the booking as it is.
+     */
+    private BookingResponse handleSettledBooking(Payments payment, PaymentRequest paymentRequest) {
+        Booking booking = payment.getBooking();
+        if (payment.getStatus() == PaymentStatus.PENDING) {
+            boolean completed = paymentRequest.getPaymentStatus() == PaymentStatus.COMPLETED;
+            payment.setStatus(completed ? PaymentStatus.REFUNDED : PaymentStatus.FAILED);
+            payment.setPaymentMethod(paymentRequest.getPaymentMethod());
+            paymentRepository.save(payment);
+            if (completed) {
+                logger.warn("Refunded payment {} that completed after booking {} was {}.",
+                        payment.getTransactionId(), booking.getId(), booking.getStatus());
+            }
+        }
+        return bookingMapper.toBookingResponse(booking);
+    }
+
     private BookingResponse handleFailedPayment(Payments payment, PaymentMethod paymentMethod) {
         payment.setStatus(PaymentStatus.FAILED);
         payment.setPaymentMethod(paymentMethod);
@@ -118,18 +160,27 @@ public class PaymentService {
         Booking booking = payment.getBooking();
         booking.setStatus(BookingStatus.CANCELLED);
 
-        // Release the seats and update the event's booked seat count
-        Events event = booking.getEvent();
-        event.setBookedSeats(event.getBookedSeats() - booking.getNumberOfSeats());
-        eventRepository.save(event);
-
-        for (Seat seat : booking.getBookedSeats()) {
-            seat.setStatus(SeatStatus.AVAILABLE);
-            seat.setBooking(null);
-        }
+        // Release the seats and update the event's booked seat count by the seats the booking still held;
+        // releasing the seats of a virtual event empties the booking's seat list
+        Long eventId = booking.getEvent().getId();
+        int heldSeats = booking.getBookedSeats().size();
+        seatInventoryService.release(eventId, booking.getBookedSeats());
+        bookingSequencer.release(eventId, heldSeats);
+        holdExpiryScheduler.unregister(booking.getId());
 
         Booking failedBooking = bookingRepository.save(booking);
-        emailService.sendPaymentFailedEmail(failedBooking);
+        notifyAfterCommit(failedBooking, emailService::sendPaymentFailedEmail);
         return bookingMapper.toBookingResponse(failedBooking);
     }
+
+    /**
+     * Mails the user only once the payment outcome is committed, since a webhook that loses a race is rolled
+     * back and retried. The mail is built on another thread after the session closed, so the user and event
+     * it reads must be loaded by then; the confirmation fetch plan loads them with the payment.
+     */
+    private void notifyAfterCommit(Booking booking, Consumer<Booking> email) {
+        Hibernate.initialize(booking.getUser());
+        Hibernate.initialize(booking.getEvent());
+        TransactionHooks.afterCommit(() -> email.accept(booking));
+    }
 }
@@ -0,0 +1,12 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import java.util.Set;
+
+/**
+ * Application event published by a lane of the {@link BookingSequencer} once a transaction that changed the
+ * committed booked seat counts of events has committed, either as a group commit or as a drift correction.
+ *
+ * @param eventIds The IDs of the events whose counts changed.
+ */
+public record SeatCountsFlushedEvent(Set<Long> eventIds) {
+}
@@ -0,0 +1,442 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import com.avaneesh.yodha.Eventify.dto.response.SeatMapSnapshotResponse;
+import com.avaneesh.yodha.Eventify.entities.Booking;
+import com.avaneesh.yodha.Eventify.entities.Events;
+import com.avaneesh.yodha.Eventify.entities.Seat;
+import com.avaneesh.yodha.Eventify.enums.SeatInventoryMode;
+import com.avaneesh.yodha.Eventify.enums.SeatStatus;
+import com.avaneesh.yodha.Eventify.exception.ResourceNotFoundException;
+import com.avaneesh.yodha.Eventify.inventory.EventSeatInventory;
+import com.avaneesh.yodha.Eventify.inventory.SeatMapBinaryEncoder;
+import com.avaneesh.yodha.Eventify.inventory.SeatStatusChangedEvent;
+import com.avaneesh.yodha.Eventify.repository.EventRepository;
+import com.avaneesh.yodha.Eventify.repository.SeatRepository;
+import com.avaneesh.yodha.Eventify.repository.projections.SeatStateView;
+import com.avaneesh.yodha.Eventify.utils.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps an in-memory {@link EventSeatInventory} per event in front of the {@code seats} table.
+ * <p>
+ * Seat availability checks are answered from the bitmap, so requests for seats that are
+ * already locked or booked are rejected without a database round trip. Every status change
+ * is written through to {@link SeatRepository}; holds are applied to the bitmap eagerly and
+ * reverted if the surrounding transaction rolls back, while confirmations and releases are
+ * applied once the transaction commits. A hold the database rejects because the bitmap was
+ * wrong corrects the bitmap instead of reverting it. Every committed change is also published as a
+ * {@link SeatStatusChangedEvent}. The bitmap assumes a single application instance
+ * owns the booking traffic of an event; the database remains the source of truth.
+ * <p>
+ * Events in {@link SeatInventoryMode#VIRTUAL} mode have no seat rows up front: their inventory is
+ * derived from the layout, a hold inserts the rows of the claimed seats (the unique seat number
+ * per event turns a lost race into a failed insert) and a release deletes them again.
+ */
+@Service
+public class SeatInventoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatInventoryService.class);
+
+    private final Map<Long, EventSeatInventory> inventories = new ConcurrentHashMap<>();
+    private final AtomicLong evictionGeneration = new AtomicLong();
+    private final SeatRepository seatRepository;
+    private final EventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SeatInventoryService(SeatRepository seatRepository, EventRepository eventRepository,
+                                ApplicationEventPublisher eventPublisher) {
+        this.seatRepository = seatRepository;
+        this.eventRepository = eventRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Rebuilds the inventories of all upcoming events once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildFromDatabase() {
+        List<Events> upcomingEvents = eventRepository.findAllByEventTimestampAfter(LocalDateTime.now());
+        upcomingEvents.forEach(this::reload);
+        logger.info("Rebuilt seat inventories for {} upcoming events.", upcomingEvents.size());
+    }
+
+    /**
+     * Returns the inventory of an event, loading it from the database on first access. The load runs
+     * outside the map, so it blocks neither readers nor loads of other events; of concurrent loads of
+     * one event the first stored wins, and a load that an eviction overtook is used but not stored.
+     *
+     * @param eventId The ID of the event.
+     * @return The in-memory inventory of the event.
+     */
+    public EventSeatInventory inventoryFor(Long eventId) {
+        EventSeatInventory inventory = inventories.get(eventId);
+        if (inventory != null) {
+            return inventory;
+        }
+        long generation = evictionGeneration.get();
+        Events event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
+        EventSeatInventory loaded = load(event);
+        EventSeatInventory stored = inventories.compute(eventId, (id, current) ->
+                current != null ? current : evictionGeneration.get() == generation ? loaded : null);
+        return stored != null ? stored : loaded;
+    }
+
+    /**
+     * Discards any cached state of the event and rebuilds it from the {@code seats} table.
+     *
+     * @param event The event whose inventory should be rebuilt.
+     * @return The rebuilt inventory.
+     */
+    public EventSeatInventory reload(Events event) {
+        EventSeatInventory inventory = load(event);
+        inventories.put(event.getId(), inventory);
+        return inventory;
+    }
+
+    /**
+     * Drops the cached inventory of an event once the current transaction commits, so the
+     * next access rebuilds it from the committed seat layout.
+     *
+     * @param eventId The ID of the event.
+     */
+    public void evict(Long eventId) {
+        TransactionHooks.afterCommit(() -> evictNow(eventId));
+    }
+
+    /**
+     * Builds a compact snapshot of an event's seat map from memory: the layout and price tiers
+     * once, the statuses as a packed bitmap and the seat ids as runs.
+     *
+     * @param eventId The ID of the event.
+     * @return The compact seat map.
+     */
+    public SeatMapSnapshotResponse snapshot(Long eventId) {
+        return snapshotOf(inventoryFor(eventId));
+    }
+
+    /**
+     * Builds the compact snapshot of a seat inventory, as served by {@link #snapshot(Long)}.
+     *
+     * @param inventory The seat inventory of an event.
+     * @return The compact seat map.
+     */
+    public static SeatMapSnapshotResponse snapshotOf(EventSeatInventory inventory) {
+        SeatMapSnapshotResponse snapshot = new SeatMapSnapshotResponse();
+        snapshot.setEventId(inventory.getEventId());
+        snapshot.setRows(inventory.getRowCount());
+        snapshot.setSeatsPerRow(inventory.getSeatsPerRow());
+        snapshot.setCapacity(inventory.getCapacity());
+        snapshot.setPriceTiers(inventory.getPriceTiers());
+        snapshot.setRowPriceTiers(inventory.priceTierByRow());
+        snapshot.setStatusBitmap(Base64.getEncoder().encodeToString(inventory.statusBitmap()));
+        snapshot.setSeatIdRanges(inventory.seatIdRanges());
+        return snapshot;
+    }
+
+    /**
+     * Encodes the seat map of an event in the binary format of {@link SeatMapBinaryEncoder}.
+     *
+     * @param eventId The ID of the event.
+     * @return The encoded seat map.
+     */
+    public byte[] encodedSnapshot(Long eventId) {
+        return SeatMapBinaryEncoder.encode(inventoryFor(eventId));
+    }
+
+    /**
+     * Verifies from memory that every requested seat belongs to the event and is available.
+     * Seats are selected either by ID or, for any event, by seat number.
+     *
+     * @param eventId     The ID of the event.
+     * @param seatIds     The IDs of the requested seats, or {@code null} when selecting by seat number.
+     * @param seatNumbers The seat numbers of the requested seats, used when no IDs are given.
+     * @throws IllegalStateException if a seat belongs to another event or is not available.
+     */
+    public void requireAvailable(Long eventId, List<Long> seatIds, List<String> seatNumbers) {
+        if (isEmpty(seatIds) && isEmpty(seatNumbers)) {
+            return;
+        }
+        EventSeatInventory inventory = inventoryFor(eventId);
+        int[] positions = resolveSelection(inventory, seatIds, seatNumbers);
+        int unavailable = inventory.firstNotIn(positions, SeatStatus.AVAILABLE);
+        if (unavailable >= 0) {
+            throw new IllegalStateException("Seat " + inventory.seatNumberAt(unavailable) + " is not available.");
+        }
+    }
+
+    /**
+     * Locks the given seats for a booking. The claim is first applied to the in-memory bitmap and then
+     * written through with a single conditional UPDATE (or, for a virtual event, a batch of seat inserts),
+     * so the whole group succeeds or fails together.
+     *
+     * @param eventId     The ID of the event the seats belong to.
+     * @param seatIds     The IDs of the seats to lock, or {@code null} when selecting by seat number.
+     * @param seatNumbers The seat numbers of the seats to lock, used when no IDs are given.
+     * @param booking     The persisted booking that holds the seats.
+     * @return The claimed seats.
+     * @throws IllegalStateException if another request claimed one of the seats first.
+     */
+    public List<Seat> hold(Long eventId, List<Long> seatIds, List<String> seatNumbers, Booking booking) {
+        EventSeatInventory inventory = inventoryFor(eventId);
+        int[] positions = resolveSelection(inventory, seatIds, seatNumbers);
+        if (!inventory.compareAndSet(positions, SeatStatus.AVAILABLE, SeatStatus.LOCKED)) {
+            int unavailable = inventory.firstNotIn(positions, SeatStatus.AVAILABLE);
+            throw new IllegalStateException("Seat " + inventory.seatNumberAt(unavailable) + " is not available.");
+        }
+        return claim(inventory, positions, booking);
+    }
+
+    /**
+     * Picks the best block of adjacent available seats from the in-memory row index and locks it for
+     * a booking, with the same all-or-nothing write-through as {@link #hold(Long, List, List, Booking)}.
+     *
+     * @param eventId   The ID of the event.
+     * @param seatCount The number of adjacent seats to allocate.
+     * @param priceTier The seat price to allocate from, or {@code null} for any price.
+     * @param booking   The persisted booking that holds the seats.
+     * @return The claimed seats.
+     * @throws IllegalStateException if no row has enough adjacent available seats.
+     */
+    public List<Seat> holdBestAvailable(Long eventId, int seatCount, Double priceTier, Booking booking) {
+        EventSeatInventory inventory = inventoryFor(eventId);
+        int[] positions = inventory.claimBestAvailable(seatCount, priceTier);
+        if (positions == null) {
+            throw new IllegalStateException("No block of " + seatCount + " adjacent seats is available" +
+                    (priceTier != null ? " at price " + priceTier : "") + ".");
+        }
+        return claim(inventory, positions, booking);
+    }
+
+    /**
+     * Marks the seats of a paid booking as BOOKED.
+     *
+     * @param booking The confirmed booking.
+     */
+    public void confirm(Booking booking) {
+        applyToSeats(booking.getEvent().getId(), booking.getBookedSeats(), SeatStatus.BOOKED, booking);
+    }
+
+    /**
+     * Returns the given seats to the pool of available seats. The seats of a virtual event are
+     * deleted and detached from their booking instead.
+     *
+     * @param eventId The ID of the event the seats belong to.
+     * @param seats   The seats to release.
+     */
+    public void release(Long eventId, List<Seat> seats) {
+        if (seats == null || seats.isEmpty()) {
+            return;
+        }
+        if (eventRepository.getReferenceById(eventId).getInventoryMode() != SeatInventoryMode.VIRTUAL) {
+            applyToSeats(eventId, seats, SeatStatus.AVAILABLE, null);
+            return;
+        }
+        // The list is usually the booking's own seat collection, which is emptied below
+        List<Seat> released = List.copyOf(seats);
+        released.forEach(seat -> {
+            if (seat.getBooking() != null) {
+                seat.getBooking().getBookedSeats().remove(seat);
+            }
+        });
+        seatRepository.deleteAll(released);
+        applyOnCommit(eventId, released.stream().map(Seat::getId).toList(),
+                released.stream().map(Seat::getSeatNumber).toList(), SeatStatus.AVAILABLE);
+    }
+
+    /**
+     * Applies a release that was already written to the {@code seats} table with bulk statements to the
+     * in-memory inventory once the current transaction commits.
+     *
+     * @param eventId     The ID of the event the seats belong to.
+     * @param seatIds     The IDs of the released seat rows.
+     * @param seatNumbers The seat numbers of the released seats, in the same order.
+     */
+    public void markReleased(Long eventId, List<Long> seatIds, List<String> seatNumbers) {
+        applyOnCommit(eventId, seatIds, seatNumbers, SeatStatus.AVAILABLE);
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Writes through a claim that was applied to the bitmap. Should the transaction roll back, the positions
+     * this claim flipped return to AVAILABLE, except those the database showed to be taken by someone else:
+     * they take their stored status, since the bitmap only saw them as available because it was stale.
+     */
+    private List<Seat> claim(EventSeatInventory inventory, int[] positions, Booking booking) {
+        ClaimRollback rollback = new ClaimRollback(inventory, positions);
+        TransactionHooks.afterRollback(rollback::run);
+
+        List<Seat> seats = inventory.isVirtual()
+                ? insertHeldSeats(inventory, positions, booking, rollback)
+                : claimStoredSeats(inventory, positions, booking, rollback);
+
+        List<Long> seatIds = seats.stream().map(Seat::getId).toList();
+        List<String> seatNumbers = seats.stream().map(Seat::getSeatNumber).toList();
+        TransactionHooks.afterCommit(() -> eventPublisher.publishEvent(
+                new SeatStatusChangedEvent(inventory.getEventId(), seatIds, seatNumbers, SeatStatus.LOCKED)));
+        return seats;
+    }
+
+    private List<Seat> claimStoredSeats(EventSeatInventory inventory, int[] positions, Booking booking, ClaimRollback rollback) {
+        List<Long> seatIds = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            seatIds.add(inventory.seatIdAt(position));
+        }
+        int claimed = seatRepository.claimAvailableSeats(seatIds, inventory.getEventId(), booking);
+        if (claimed != seatIds.size()) {
+            rollback.taken = seatRepository.findSeatsTakenFrom(seatIds, booking.getId());
+            throw new IllegalStateException("One or more requested seats are no longer available.");
+        }
+        return seatRepository.findAllById(seatIds);
+    }
+
+    private List<Seat> insertHeldSeats(EventSeatInventory inventory, int[] positions, Booking booking, ClaimRollback rollback) {
+        Events event = eventRepository.getReferenceById(inventory.getEventId());
+        List<Seat> seats = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            Seat seat = new Seat();
+            seat.setSeatNumber(inventory.seatNumberAt(position));
+            seat.setStatus(SeatStatus.LOCKED);
+            seat.setEvent(event);
+            seat.setBooking(booking);
+            seat.setSeatPricing(inventory.priceAt(position));
+            seats.add(seat);
+        }
+        try {
+            return seatRepository.saveAllAndFlush(seats);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance stored one of the seats first; the failed flush leaves no session to ask which
+            rollback.stale = true;
+            throw new IllegalStateException("One or more requested seats are no longer available.");
+        }
+    }
+
+    private void evictNow(Long eventId) {
+        evictionGeneration.incrementAndGet();
+        inventories.remove(eventId);
+    }
+
+    private EventSeatInventory load(Events event) {
+        if (event.getInventoryMode() == SeatInventoryMode.VIRTUAL) {
+            return EventSeatInventory.ofLayout(event.getId(), event.getTotalSeats(), event.getSeatsPerRow(),
+                    eventRepository.findRowPricingById(event.getId()),
+                    seatRepository.findSeatStatesByEventId(event.getId()));
+        }
+        return EventSeatInventory.of(event.getId(), event.getSeatsPerRow(),
+                seatRepository.findSeatStatesByEventId(event.getId()));
+    }
+
+    private void applyToSeats(Long eventId, List<Seat> seats, SeatStatus status, Booking booking) {
+        if (seats == null || seats.isEmpty()) {
+            return;
+        }
+        seats.forEach(seat -> {
+            seat.setStatus(status);
+            seat.setBooking(booking);
+        });
+        seatRepository.saveAll(seats);
+
+        applyOnCommit(eventId, seats.stream().map(Seat::getId).toList(),
+                seats.stream().map(Seat::getSeatNumber).toList(), status);
+    }
+
+    private void applyOnCommit(Long eventId, List<Long> seatIds, List<String> seatNumbers, SeatStatus status) {
+        TransactionHooks.afterCommit(() -> {
+            EventSeatInventory inventory = inventories.get(eventId);
+            if (inventory != null) {
+                inventory.set(resolveSeatNumbers(inventory, seatNumbers), status);
+            }
+            eventPublisher.publishEvent(new SeatStatusChangedEvent(eventId, seatIds, seatNumbers, status));
+        });
+    }
+
+    private int[] resolveSelection(EventSeatInventory inventory, List<Long> seatIds, List<String> seatNumbers) {
+        if (isEmpty(seatIds)) {
+            return resolveSeatNumbers(inventory, seatNumbers);
+        }
+        if (inventory.isVirtual()) {
+            throw new IllegalStateException("Seats of this event must be selected by seat number.");
+        }
+        return resolvePositions(inventory, seatIds);
+    }
+
+    private int[] resolveSeatNumbers(EventSeatInventory inventory, List<String> seatNumbers) {
+        int[] positions = new int[seatNumbers.size()];
+        for (int i = 0; i < positions.length; i++) {
+            int position = inventory.positionOf(seatNumbers.get(i));
+            if (position < 0) {
+                throw new IllegalStateException("Seat " + seatNumbers.get(i) + " does not exist for the requested event.");
+            }
+            positions[i] = position;
+        }
+        return positions;
+    }
+
+    private int[] resolvePositions(EventSeatInventory inventory, List<Long> seatIds) {
+        int[] positions = new int[seatIds.size()];
+        for (int i = 0; i < positions.length; i++) {
+            Long seatId = seatIds.get(i);
+            int position = seatId != null ? inventory.positionOf(seatId) : -1;
+            if (position < 0) {
+                throw new IllegalStateException("Seat " + seatId + " does not belong to the requested event.");
+            }
+            positions[i] = position;
+        }
+        return positions;
+    }
+
+    private static boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
+    }
+
+    /**
+     * Reverts the bitmap positions of a claim whose transaction rolled back.
+     */
+    private final class ClaimRollback {
+        private final EventSeatInventory inventory;
+        private final int[] positions;
+        // Seats of the claim that the database showed to be held or booked by someone else
+        private List<SeatStateView> taken = List.of();
+        // Whether the database rejected the claim without telling which seats were taken
+        private boolean stale;
+
+        private ClaimRollback(EventSeatInventory inventory, int[] positions) {
+            this.inventory = inventory;
+            this.positions = positions;
+        }
+
+        private void run() {
+            if (stale) {
+                // Rebuilt from the committed seats on the next access
+                evictNow(inventory.getEventId());
+                return;
+            }
+            Map<Integer, SeatStatus> storedStatuses = new HashMap<>();
+            taken.forEach(seat -> storedStatuses.put(inventory.positionOf(seat.getId()), seat.getStatus()));
+            int[] flipped = Arrays.stream(positions).filter(position -> !storedStatuses.containsKey(position)).toArray();
+            inventory.set(flipped, SeatStatus.AVAILABLE);
+            storedStatuses.forEach((position, status) -> inventory.set(new int[] { position }, status));
+            if (!storedStatuses.isEmpty()) {
+                logger.warn("Seat inventory of event {} had {} taken seats as available; corrected them.",
+                        inventory.getEventId(), storedStatuses.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import com.avaneesh.yodha.Eventify.dto.response.SeatMapDeltaResponse;
+import com.avaneesh.yodha.Eventify.dto.response.SeatStatusDelta;
+import com.avaneesh.yodha.Eventify.inventory.SeatStatusChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams seat map changes of an event to its watchers over Server-Sent Events.
+ * <p>
+ * A new watcher receives a {@code snapshot} of the seat map built from the in-memory inventory,
+ * followed by {@code delta} messages carrying only the seats whose status changed. Committed
+ * changes are coalesced per event, so a seat that changes twice between flushes is sent once
+ * with its latest status, and each flush serializes one payload that is shared by every watcher.
+ * Sends run on a bounded pool; a watcher that is still busy with its previous message skips the
+ * delta and is resynchronized with a fresh snapshot instead, so slow clients never queue up work.
+ */
+@Service
+public class SeatMapStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatMapStreamService.class);
+
+    private final Map<Long, EventStream> streams = new ConcurrentHashMap<>();
+    private final SeatInventoryService seatInventoryService;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService senders;
+    private final long emitterTimeoutMillis;
+
+    public SeatMapStreamService(SeatInventoryService seatInventoryService, ObjectMapper objectMapper,
+                                @Value("${app.seat-stream.sender-threads:8}") int senderThreads,
+                                @Value("${app.seat-stream.timeout-ms:1800000}") long emitterTimeoutMillis) {
+        this.seatInventoryService = seatInventoryService;
+        this.objectMapper = objectMapper;
+        this.senders = Executors.newFixedThreadPool(senderThreads);
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    @PreDestroy
+    public void stop() {
+        senders.shutdownNow();
+    }
+
+    /**
+     * Opens a seat map stream for an event and sends the initial snapshot.
+     *
+     * @param eventId The ID of the event to watch.
+     * @return The emitter that carries the stream.
+     */
+    public SseEmitter subscribe(Long eventId) {
+        // Resolve the inventory first so unknown events fail before the stream is opened
+        seatInventoryService.inventoryFor(eventId);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Watcher watcher = new Watcher(eventId, emitter);
+        streams.compute(eventId, (id, stream) -> {
+            EventStream eventStream = stream != null ? stream : new EventStream();
+            eventStream.watchers.add(watcher);
+            return eventStream;
+        });
+
+        Runnable unsubscribe = () -> removeWatcher(eventId, watcher);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+
+        watcher.stale = true;
+        dispatch(watcher, null);
+        return emitter;
+    }
+
+    /**
+     * Buffers a committed seat status change for the next flush, if anyone is watching the event.
+     *
+     * @param event The committed change.
+     */
+    @EventListener
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        EventStream stream = streams.get(event.eventId());
+        if (stream == null) {
+            return;
+        }
+        synchronized (stream) {
+            for (int i = 0; i < event.seatNumbers().size(); i++) {
+                stream.pendingChanges.put(event.seatNumbers().get(i),
+                        new SeatStatusDelta(event.seatIds().get(i), event.seatNumbers().get(i), event.status()));
+            }
+        }
+    }
+
+    /**
+     * Broadcasts the coalesced changes of every watched event.
+     */
+    @Scheduled(fixedRateString = "${app.seat-stream.flush-interval-ms:250}")
+    public void flush() {
+        streams.forEach((eventId, stream) -> {
+            Map<String, SeatStatusDelta> changes;
+            synchronized (stream) {
+                if (stream.pendingChanges.isEmpty()) {
+                    return;
+                }
+                changes = stream.pendingChanges;
+                stream.pendingChanges = new LinkedHashMap<>();
+            }
+            String payload = toDeltaPayload(eventId, changes);
+            stream.watchers.forEach(watcher -> dispatch(watcher, payload));
+        });
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Sends a delta payload to a watcher, or a fresh snapshot if it missed earlier deltas.
+     * A {@code null} payload only sends the snapshot a stale watcher is owed.
+     */
+    private void dispatch(Watcher watcher, String deltaPayload) {
+        if (!watcher.sending.compareAndSet(false, true)) {
+            // Still busy with an earlier message: drop this delta and resync afterwards
+            watcher.stale = true;
+            return;
+        }
+        if (deltaPayload == null && !watcher.stale) {
+            watcher.sending.set(false);
+            return;
+        }
+        senders.execute(() -> {
+            try {
+                if (watcher.stale) {
+                    watcher.stale = false;
+                    watcher.emitter.send(SseEmitter.event().name("snapshot")
+                            .data(seatInventoryService.snapshot(watcher.eventId), MediaType.APPLICATION_JSON));
+                } else {
+                    watcher.emitter.send(SseEmitter.event().name("delta").data(deltaPayload, MediaType.APPLICATION_JSON));
+                }
+            } catch (Exception e) {
+                removeWatcher(watcher.eventId, watcher);
+                watcher.emitter.completeWithError(e);
+                return;
+            } finally {
+                watcher.sending.set(false);
+            }
+            if (watcher.stale) {
+                dispatch(watcher, null);
+            }
+        });
+    }
+
+    private String toDeltaPayload(Long eventId, Map<String, SeatStatusDelta> changes) {
+        SeatMapDeltaResponse delta = new SeatMapDeltaResponse();
+        delta.setEventId(eventId);
+        delta.setChanges(List.copyOf(changes.values()));
+        try {
+            return objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize seat map delta for event " + eventId, e);
+        }
+    }
+
+    private void removeWatcher(Long eventId, Watcher watcher) {
+        streams.computeIfPresent(eventId, (id, stream) -> {
+            stream.watchers.remove(watcher);
+            return stream.watchers.isEmpty() ? null : stream;
+        });
+        logger.debug("Seat map watcher of event {} disconnected.", eventId);
+    }
+
+    // --- Private Helper Classes ---
+
+    private static class EventStream {
+        private final List<Watcher> watchers = new CopyOnWriteArrayList<>();
+        // Latest change per seat number, which identifies a seat of a physical or a virtual event alike
+        private Map<String, SeatStatusDelta> pendingChanges = new LinkedHashMap<>();
+    }
+
+    private static class Watcher {
+        private final Long eventId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean stale;
+
+        Watcher(Long eventId, SseEmitter emitter) {
+            this.eventId = eventId;
+            this.emitter = emitter;
+        }
+    }
+}
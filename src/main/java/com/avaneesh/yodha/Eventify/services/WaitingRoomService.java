@@ -0,0 +1,240 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import com.avaneesh.yodha.Eventify.dto.response.WaitingRoomTicketResponse;
+import com.avaneesh.yodha.Eventify.exception.AdmissionRequiredException;
+import com.avaneesh.yodha.Eventify.exception.ConcurrencyConflictException;
+import com.avaneesh.yodha.Eventify.exception.ResourceNotFoundException;
+import com.avaneesh.yodha.Eventify.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory virtual waiting room that meters access to the booking endpoint during flash sales.
+ * <p>
+ * Arrivals for an event draw a ticket with a monotonically increasing sequence number, which gives
+ * them a FIFO place in the event's queue. A scheduled admitter moves each queue's admission watermark
+ * forward by a fixed number of tickets per interval; tickets below the watermark are admitted and act
+ * as single-use admission tokens for {@code POST /bookings} until they expire. Queue positions are
+ * computed from two counters, so polling them never touches the database.
+ * <p>
+ * A booking takes its token out of the waiting room for as long as it runs, so concurrent requests cannot
+ * spend one token twice; the token is spent once the booking succeeds and handed back if it fails. Only
+ * upcoming events can be joined, a queue stops taking arrivals once it holds its maximum number of waiting
+ * tickets, and a queue is dropped once its last ticket has been used or has expired.
+ */
+@Service
+public class WaitingRoomService {
+
+    private final Map<Long, EventQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    // Tickets taken out by a booking that is still running
+    private final Map<String, Ticket> ticketsInUse = new ConcurrentHashMap<>();
+    private final Map<String, String> ticketIdByHolder = new ConcurrentHashMap<>();
+
+    private final EventRepository eventRepository;
+    private final boolean enabled;
+    private final int admissionsPerInterval;
+    private final long tokenTtlSeconds;
+    private final long maxQueueLength;
+
+    public WaitingRoomService(EventRepository eventRepository,
+                              @Value("${app.waiting-room.enabled:true}") boolean enabled,
+                              @Value("${app.waiting-room.admissions-per-interval:50}") int admissionsPerInterval,
+                              @Value("${app.waiting-room.token-ttl-seconds:300}") long tokenTtlSeconds,
+                              @Value("${app.waiting-room.max-queue-length:100000}") long maxQueueLength) {
+        this.eventRepository = eventRepository;
+        this.enabled = enabled;
+        this.admissionsPerInterval = admissionsPerInterval;
+        this.tokenTtlSeconds = tokenTtlSeconds;
+        this.maxQueueLength = maxQueueLength;
+    }
+
+    /**
+     * Places a user in the waiting room of an event. Joining again returns the user's existing ticket.
+     *
+     * @param eventId The ID of the event.
+     * @param email   The email of the user.
+     * @return The current state of the user's ticket.
+     * @throws ResourceNotFoundException    if there is no upcoming event with the ID.
+     * @throws ConcurrencyConflictException if the queue of the event is full.
+     */
+    public WaitingRoomTicketResponse join(Long eventId, String email) {
+        String holderKey = eventId + ":" + email;
+        String existingTicketId = ticketIdByHolder.get(holderKey);
+        if (existingTicketId != null && findTicket(existingTicketId) != null) {
+            return getTicket(existingTicketId);
+        }
+        // Checked outside the maps, so a slow query never blocks other arrivals
+        if (!eventRepository.existsByIdAndEventTimestampAfter(eventId, LocalDateTime.now())) {
+            throw new ResourceNotFoundException("No upcoming event found with id: " + eventId);
+        }
+        String ticketId = ticketIdByHolder.computeIfAbsent(holderKey, key -> issueTicket(eventId, email).id);
+        return getTicket(ticketId);
+    }
+
+    /**
+     * Returns the queue position or admission state of a ticket, served entirely from memory.
+     *
+     * @param ticketId The ID of the ticket.
+     * @return The current state of the ticket.
+     */
+    public WaitingRoomTicketResponse getTicket(String ticketId) {
+        Ticket ticket = findTicket(ticketId);
+        if (ticket == null) {
+            throw new ResourceNotFoundException("Waiting room ticket not found or expired: " + ticketId);
+        }
+        long admittedThrough = queues.get(ticket.eventId).admittedThrough.get();
+        WaitingRoomTicketResponse response = new WaitingRoomTicketResponse();
+        response.setTicketId(ticket.id);
+        response.setEventId(ticket.eventId);
+        response.setAdmitted(ticket.sequence <= admittedThrough);
+        response.setPosition(Math.max(0, ticket.sequence - admittedThrough));
+        response.setExpiresAt(ticket.expiresAt);
+        return response;
+    }
+
+    /**
+     * Verifies that the user holds an admitted, unexpired ticket for the event and takes it out of the
+     * waiting room for the booking it admits. Of concurrent bookings with the same token only one is
+     * admitted. The booking must end with {@link #complete} if it succeeds, or {@link #abandon} if not.
+     *
+     * @param eventId The ID of the event being booked.
+     * @param email   The email of the user making the booking.
+     * @param token   The admission token (ticket ID) sent by the client.
+     * @throws AdmissionRequiredException if the waiting room is enabled and the token is not valid.
+     */
+    public void admit(Long eventId, String email, String token) {
+        if (!enabled) {
+            return;
+        }
+        Ticket ticket = token != null ? tickets.get(token) : null;
+        if (ticket == null && token != null && ticketsInUse.containsKey(token)) {
+            throw new AdmissionRequiredException("Your admission token is already being used by another booking.");
+        }
+        if (ticket == null || !ticket.eventId.equals(eventId) || !ticket.email.equals(email)) {
+            throw new AdmissionRequiredException("A valid admission token from the waiting room is required to book this event.");
+        }
+        if (ticket.sequence > queues.get(eventId).admittedThrough.get()) {
+            throw new AdmissionRequiredException("You have not been admitted from the waiting room yet.");
+        }
+        if (ticket.expiresAt != null && Instant.now().isAfter(ticket.expiresAt)) {
+            throw new AdmissionRequiredException("Your admission token has expired. Please join the waiting room again.");
+        }
+        // Only the request that takes the ticket out is admitted
+        if (!tickets.remove(token, ticket)) {
+            throw new AdmissionRequiredException("Your admission token is already being used by another booking.");
+        }
+        ticketsInUse.put(token, ticket);
+    }
+
+    /**
+     * Spends an admission token once the booking it admitted has succeeded.
+     *
+     * @param token The admission token (ticket ID).
+     */
+    public void complete(String token) {
+        Ticket ticket = token != null ? ticketsInUse.remove(token) : null;
+        if (ticket != null) {
+            discard(ticket);
+        }
+    }
+
+    /**
+     * Returns an admission token to the waiting room after the booking it admitted failed, so it can be
+     * used for another attempt until it expires.
+     *
+     * @param token The admission token (ticket ID).
+     */
+    public void abandon(String token) {
+        Ticket ticket = token != null ? ticketsInUse.remove(token) : null;
+        if (ticket != null) {
+            tickets.put(token, ticket);
+        }
+    }
+
+    /**
+     * Admits the next batch of tickets of every queue, drops expired tickets and the queues that have no
+     * tickets left.
+     */
+    @Scheduled(fixedRateString = "${app.waiting-room.admission-interval-ms:1000}")
+    public void admitNextBatch() {
+        queues.values().forEach(queue ->
+                queue.admittedThrough.getAndUpdate(admitted ->
+                        Math.min(queue.nextSequence.get(), admitted + admissionsPerInterval)));
+
+        Instant now = Instant.now();
+        tickets.values().forEach(ticket -> {
+            if (ticket.expiresAt == null && ticket.sequence <= queues.get(ticket.eventId).admittedThrough.get()) {
+                ticket.expiresAt = now.plusSeconds(tokenTtlSeconds);
+            } else if (ticket.expiresAt != null && now.isAfter(ticket.expiresAt) && tickets.remove(ticket.id, ticket)) {
+                discard(ticket);
+            }
+        });
+
+        queues.keySet().forEach(eventId ->
+                queues.computeIfPresent(eventId, (id, queue) -> queue.liveTickets.get() == 0 ? null : queue));
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Draws the next ticket of an event's queue. Runs inside the queue's map entry, so a queue is never
+     * dropped while a ticket is being added to it.
+     */
+    private Ticket issueTicket(Long eventId, String email) {
+        Ticket[] issued = new Ticket[1];
+        queues.compute(eventId, (id, queue) -> {
+            EventQueue eventQueue = queue != null ? queue : new EventQueue();
+            if (eventQueue.nextSequence.get() - eventQueue.admittedThrough.get() >= maxQueueLength) {
+                throw new ConcurrencyConflictException("The waiting room of this event is full. Please try again later.", null);
+            }
+            Ticket ticket = new Ticket(UUID.randomUUID().toString(), eventId, email, eventQueue.nextSequence.incrementAndGet());
+            eventQueue.liveTickets.incrementAndGet();
+            tickets.put(ticket.id, ticket);
+            issued[0] = ticket;
+            return eventQueue;
+        });
+        return issued[0];
+    }
+
+    private Ticket findTicket(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        return ticket != null ? ticket : ticketsInUse.get(ticketId);
+    }
+
+    private void discard(Ticket ticket) {
+        ticketIdByHolder.remove(ticket.eventId + ":" + ticket.email, ticket.id);
+        queues.get(ticket.eventId).liveTickets.decrementAndGet();
+    }
+
+    private static class EventQueue {
+        private final AtomicLong nextSequence = new AtomicLong();
+        private final AtomicLong admittedThrough = new AtomicLong();
+        // Tickets that are waiting, admitted or in use by a booking
+        private final AtomicInteger liveTickets = new AtomicInteger();
+    }
+
+    private static class Ticket {
+        private final String id;
+        private final Long eventId;
+        private final String email;
+        private final long sequence;
+        private volatile Instant expiresAt;
+
+        Ticket(String id, Long eventId, String email, long sequence) {
+            this.id = id;
+            this.eventId = eventId;
+            this.email = email;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.avaneesh.yodha.Eventify;
+
+import com.avaneesh.yodha.Eventify.dto.request.EventRequestDTO;
+import com.avaneesh.yodha.Eventify.entities.Users;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.Gender;
+import com.avaneesh.yodha.Eventify.enums.SeatInventoryMode;
+import com.avaneesh.yodha.Eventify.enums.UserTypes;
+import com.avaneesh.yodha.Eventify.repository.UserRepository;
+import com.avaneesh.yodha.Eventify.services.BookingCleanupService;
+import com.avaneesh.yodha.Eventify.services.BookingSequencer;
+import com.avaneesh.yodha.Eventify.services.EventSeatCounterService;
+import com.avaneesh.yodha.Eventify.services.EventService;
+import com.avaneesh.yodha.Eventify.utils.JWTUtility;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Checks that the booked seat count of an event, which is flushed to the sharded counter asynchronously,
+ * settles at the number of seats its bookings actually hold.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BookedSeatCountTests {
+
+	private static final AtomicInteger USERS = new AtomicInteger();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private EventSeatCounterService eventSeatCounterService;
+
+	@Autowired
+	private BookingCleanupService bookingCleanupService;
+
+	@Autowired
+	private BookingSequencer bookingSequencer;
+
+	@Autowired
+	private JWTUtility jwtUtility;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private DataSource dataSource;
+
+	private String customerToken;
+
+	@BeforeEach
+	void setUp() {
+		Users customer = new Users();
+		int number = USERS.incrementAndGet();
+		customer.setName("Seat Count Customer " + number);
+		customer.setEmail("seatcounts" + number + "@eventify.test");
+		customer.setPassword("password");
+		customer.setPhone(String.format("7%09d", number));
+		customer.setUserType(UserTypes.CUSTOMER);
+		customer.setGender(Gender.Other);
+		userRepository.save(customer);
+		customerToken = "Bearer " + jwtUtility.generateToken(customer.getEmail(), List.of(UserTypes.CUSTOMER.name()));
+	}
+
+	@Test
+	void replayedFailedWebhookReleasesTheSeatsOnce() throws Exception {
+		Long eventId = createEvent(SeatInventoryMode.PHYSICAL);
+		book(eventId);
+		Long failedBookingId = book(eventId);
+		initiatePayment(failedBookingId);
+
+		webhook(failedBookingId, "FAILED");
+		webhook(failedBookingId, "FAILED");
+
+		assertBookedSeats(eventId, 4);
+	}
+
+	@Test
+	void failedWebhookAfterExpiryReleasesNothing() throws Exception {
+		Long eventId = createEvent(SeatInventoryMode.PHYSICAL);
+		book(eventId);
+		Long expiredBookingId = book(eventId);
+		initiatePayment(expiredBookingId);
+		bookingCleanupService.expirePendingBooking(expiredBookingId);
+
+		webhook(expiredBookingId, "FAILED");
+
+		assertBookedSeats(eventId, 4);
+	}
+
+	@Test
+	void releasesCountTheSeatsOfVirtualEvents() throws Exception {
+		Long eventId = createEvent(SeatInventoryMode.VIRTUAL);
+		book(eventId);
+		Long cancelledBookingId = book(eventId);
+		Long failedBookingId = book(eventId);
+		initiatePayment(failedBookingId);
+
+		mockMvc.perform(patch("/bookings/" + cancelledBookingId + "/cancel").header(HttpHeaders.AUTHORIZATION, customerToken));
+		webhook(failedBookingId, "FAILED");
+
+		assertBookedSeats(eventId, 4);
+	}
+
+	@Test
+	void lostDeltasAreReconciledFromTheSeats() throws Exception {
+		Long eventId = createEvent(SeatInventoryMode.PHYSICAL);
+		book(eventId);
+		book(eventId);
+		assertBookedSeats(eventId, 8);
+		// A crash lost the flush of one booking and a stale slot survived from another run
+		jdbcTemplate.update("DELETE FROM event_seat_counters WHERE event_id = ?", eventId);
+		jdbcTemplate.update("INSERT INTO event_seat_counters (event_id, slot, booked_seats) VALUES (?, 0, 4)", eventId);
+
+		bookingSequencer.reconcileUpcoming();
+
+		assertBookedSeats(eventId, 8);
+	}
+
+	@Test
+	void countersOfDeletedEventsAreRemoved() throws Exception {
+		long deletedEventId = createEvent(SeatInventoryMode.PHYSICAL) + 1000;
+		jdbcTemplate.update("INSERT INTO event_seat_counters (event_id, slot, booked_seats) VALUES (?, 0, 4)", deletedEventId);
+
+		bookingSequencer.reconcileUpcoming();
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (orphanedSlots(deletedEventId) > 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertEquals(0, orphanedSlots(deletedEventId));
+	}
+
+	@Test
+	void eventDetailsCountSeatsBeforeTheirFlush() throws Exception {
+		Long eventId = createEvent(SeatInventoryMode.PHYSICAL);
+		assertEquals(40, availableSeats(eventId));
+
+		// Holding the counter slots of the event keeps the sequencer from flushing the booking
+		for (int slot = 0; slot < 8; slot++) {
+			jdbcTemplate.update("INSERT INTO event_seat_counters (event_id, slot, booked_seats) VALUES (?, ?, 0)", eventId, slot);
+		}
+		try (Connection connection = dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			try (PreparedStatement lock = connection.prepareStatement("UPDATE event_seat_counters SET booked_seats = booked_seats WHERE event_id = ?")) {
+				lock.setLong(1, eventId);
+				lock.executeUpdate();
+			}
+			book(eventId);
+
+			assertEquals(0, eventSeatCounterService.getBookedSeats(eventId));
+			assertEquals(36, availableSeats(eventId));
+			connection.commit();
+		}
+		assertBookedSeats(eventId, 4);
+		assertEquals(36, availableSeats(eventId));
+	}
+
+	@Test
+	void correctedCountsChangeTheEventETag() throws Exception {
+		Long eventId = createEvent(SeatInventoryMode.PHYSICAL);
+		// A stale slot survived from another run, so the details show seats that nobody holds
+		jdbcTemplate.update("INSERT INTO event_seat_counters (event_id, slot, booked_seats) VALUES (?, 0, 4)", eventId);
+		MvcResult stale = mockMvc.perform(get("/events/" + eventId).header(HttpHeaders.AUTHORIZATION, customerToken)).andReturn();
+		assertEquals(36, (int) JsonPath.read(stale.getResponse().getContentAsString(), "$.data.availableSeats"));
+
+		bookingSequencer.reconcileUpcoming();
+		assertBookedSeats(eventId, 0);
+
+		MvcResult corrected = mockMvc.perform(get("/events/" + eventId).header(HttpHeaders.AUTHORIZATION, customerToken)
+				.header(HttpHeaders.IF_NONE_MATCH, stale.getResponse().getHeader(HttpHeaders.ETAG))).andReturn();
+		assertEquals(200, corrected.getResponse().getStatus());
+		assertEquals(40, (int) JsonPath.read(corrected.getResponse().getContentAsString(), "$.data.availableSeats"));
+	}
+
+	// --- Private Helper Methods ---
+
+	private int orphanedSlots(long eventId) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_seat_counters WHERE event_id = ?", Integer.class, eventId);
+	}
+
+	/**
+	 * Waits for the sequencer to flush the seat count changes of an event, then checks that the committed
+	 * count settled at the expected value rather than passing through it.
+	 */
+	private void assertBookedSeats(Long eventId, long expected) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (eventSeatCounterService.getBookedSeats(eventId) != expected && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		Thread.sleep(500);
+		assertEquals(expected, eventSeatCounterService.getBookedSeats(eventId));
+	}
+
+	private int availableSeats(Long eventId) throws Exception {
+		MvcResult result = mockMvc.perform(get("/events/" + eventId).header(HttpHeaders.AUTHORIZATION, customerToken)).andReturn();
+		return JsonPath.read(result.getResponse().getContentAsString(), "$.data.availableSeats");
+	}
+
+	private Long createEvent(SeatInventoryMode inventoryMode) {
+		EventRequestDTO event = new EventRequestDTO();
+		event.setName("Seat Count Night");
+		event.setDescription("An event to count booked seats of");
+		event.setVenue("Arena");
+		event.setEventTimestamp(LocalDateTime.now().plusDays(7));
+		event.setTotalSeats(40);
+		event.setSeatsPerRow(10);
+		event.setSeatPricing(List.of(100.0, 90.0, 80.0, 70.0));
+		event.setCategory(CategoryEnum.MUSIC);
+		event.setInventoryMode(inventoryMode);
+		return eventService.createEvent(event).getId();
+	}
+
+	private Long book(Long eventId) throws Exception {
+		MvcResult result = mockMvc.perform(post("/bookings").header(HttpHeaders.AUTHORIZATION, customerToken)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"eventId\":" + eventId + ",\"seatCount\":4}"))
+				.andReturn();
+		Number bookingId = JsonPath.read(result.getResponse().getContentAsString(), "$.data.id");
+		return bookingId.longValue();
+	}
+
+	private void initiatePayment(Long bookingId) throws Exception {
+		mockMvc.perform(post("/payments/initiate/" + bookingId).header(HttpHeaders.AUTHORIZATION, customerToken));
+	}
+
+	private void webhook(Long bookingId, String status) throws Exception {
+		String transactionId = jdbcTemplate.queryForObject(
+				"SELECT transaction_id FROM payments WHERE booking_id = ?", String.class, bookingId);
+		mockMvc.perform(post("/payments/webhook").header(HttpHeaders.AUTHORIZATION, customerToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"transactionId\":\"" + transactionId + "\",\"paymentMethod\":\"UPI\",\"paymentStatus\":\"" + status + "\"}"));
+	}
+}
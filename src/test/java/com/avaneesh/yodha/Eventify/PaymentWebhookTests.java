@@ -0,0 +1,160 @@
+package com.avaneesh.yodha.Eventify;
+
+import com.avaneesh.yodha.Eventify.dto.request.EventRequestDTO;
+import com.avaneesh.yodha.Eventify.entities.Users;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.Gender;
+import com.avaneesh.yodha.Eventify.enums.UserTypes;
+import com.avaneesh.yodha.Eventify.repository.UserRepository;
+import com.avaneesh.yodha.Eventify.services.BookingCleanupService;
+import com.avaneesh.yodha.Eventify.services.EventService;
+import com.avaneesh.yodha.Eventify.utils.JWTUtility;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Checks that payment webhooks only settle bookings that are still pending, whatever order they arrive in.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PaymentWebhookTests {
+
+	private static final AtomicInteger USERS = new AtomicInteger();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private BookingCleanupService bookingCleanupService;
+
+	@Autowired
+	private JWTUtility jwtUtility;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private String customerToken;
+	private Long eventId;
+
+	@BeforeEach
+	void setUp() {
+		Users customer = new Users();
+		int number = USERS.incrementAndGet();
+		customer.setName("Webhook Customer " + number);
+		customer.setEmail("webhooks" + number + "@eventify.test");
+		customer.setPassword("password");
+		customer.setPhone(String.format("8%09d", number));
+		customer.setUserType(UserTypes.CUSTOMER);
+		customer.setGender(Gender.Other);
+		userRepository.save(customer);
+		customerToken = "Bearer " + jwtUtility.generateToken(customer.getEmail(), List.of(UserTypes.CUSTOMER.name()));
+
+		EventRequestDTO event = new EventRequestDTO();
+		event.setName("Webhook Night");
+		event.setDescription("An event to pay for late");
+		event.setVenue("Arena");
+		event.setEventTimestamp(LocalDateTime.now().plusDays(7));
+		event.setTotalSeats(40);
+		event.setSeatsPerRow(10);
+		List<Double> pricing = new ArrayList<>();
+		for (int row = 0; row < 4; row++) {
+			pricing.add(100.0 + row);
+		}
+		event.setSeatPricing(pricing);
+		event.setCategory(CategoryEnum.MUSIC);
+		eventId = eventService.createEvent(event).getId();
+	}
+
+	@Test
+	void paymentCompletingAfterExpiryIsRefunded() throws Exception {
+		Long bookingId = book();
+		initiatePayment(bookingId);
+		bookingCleanupService.expirePendingBooking(bookingId);
+		// Another customer takes the released seats
+		Long resoldBookingId = book();
+
+		String body = webhook(bookingId, "COMPLETED").getResponse().getContentAsString();
+
+		assertEquals("CANCELLED", JsonPath.read(body, "$.data.status"));
+		assertEquals(false, JsonPath.read(body, "$.success"));
+		assertEquals("CANCELLED", bookingStatus(bookingId));
+		assertEquals("REFUNDED", paymentStatus(bookingId));
+		assertEquals(0, seatsOf(bookingId));
+		assertEquals(4, seatsOf(resoldBookingId));
+	}
+
+	@Test
+	void replayedWebhooksLeaveTheBookingAsSettled() throws Exception {
+		Long bookingId = book();
+		initiatePayment(bookingId);
+		webhook(bookingId, "COMPLETED");
+
+		String body = webhook(bookingId, "FAILED").getResponse().getContentAsString();
+
+		assertEquals("CONFIRMED", JsonPath.read(body, "$.data.status"));
+		assertEquals("CONFIRMED", bookingStatus(bookingId));
+		assertEquals("COMPLETED", paymentStatus(bookingId));
+		assertEquals(4, seatsOf(bookingId));
+	}
+
+	// --- Private Helper Methods ---
+
+	private Long book() throws Exception {
+		MvcResult result = mockMvc.perform(post("/bookings").header(HttpHeaders.AUTHORIZATION, customerToken)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"eventId\":" + eventId + ",\"seatCount\":4}"))
+				.andReturn();
+		Number bookingId = JsonPath.read(result.getResponse().getContentAsString(), "$.data.id");
+		return bookingId.longValue();
+	}
+
+	private void initiatePayment(Long bookingId) throws Exception {
+		mockMvc.perform(post("/payments/initiate/" + bookingId).header(HttpHeaders.AUTHORIZATION, customerToken));
+	}
+
+	private MvcResult webhook(Long bookingId, String status) throws Exception {
+		String transactionId = jdbcTemplate.queryForObject(
+				"SELECT transaction_id FROM payments WHERE booking_id = ?", String.class, bookingId);
+		return mockMvc.perform(post("/payments/webhook").header(HttpHeaders.AUTHORIZATION, customerToken)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"transactionId\":\"" + transactionId + "\",\"paymentMethod\":\"UPI\",\"paymentStatus\":\"" + status + "\"}"))
+				.andReturn();
+	}
+
+	private String bookingStatus(Long bookingId) {
+		return jdbcTemplate.queryForObject("SELECT status FROM bookings WHERE id = ?", String.class, bookingId);
+	}
+
+	private String paymentStatus(Long bookingId) {
+		return jdbcTemplate.queryForObject("SELECT status FROM payments WHERE booking_id = ?", String.class, bookingId);
+	}
+
+	private int seatsOf(Long bookingId) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM seats WHERE booking_id = ?", Integer.class, bookingId);
+	}
+}
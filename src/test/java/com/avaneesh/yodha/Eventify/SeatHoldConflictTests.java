@@ -0,0 +1,131 @@
+package com.avaneesh.yodha.Eventify;
+
+import com.avaneesh.yodha.Eventify.dto.request.EventRequestDTO;
+import com.avaneesh.yodha.Eventify.entities.Users;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.Gender;
+import com.avaneesh.yodha.Eventify.enums.SeatInventoryMode;
+import com.avaneesh.yodha.Eventify.enums.SeatStatus;
+import com.avaneesh.yodha.Eventify.enums.UserTypes;
+import com.avaneesh.yodha.Eventify.inventory.EventSeatInventory;
+import com.avaneesh.yodha.Eventify.repository.UserRepository;
+import com.avaneesh.yodha.Eventify.services.EventService;
+import com.avaneesh.yodha.Eventify.services.SeatInventoryService;
+import com.avaneesh.yodha.Eventify.utils.JWTUtility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Checks that a hold the database rejects because the in-memory seat inventory was stale corrects the
+ * inventory instead of reverting the rejected seats to AVAILABLE.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SeatHoldConflictTests {
+
+	private static final AtomicInteger USERS = new AtomicInteger();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private SeatInventoryService seatInventoryService;
+
+	@Autowired
+	private JWTUtility jwtUtility;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private String customerToken;
+
+	@BeforeEach
+	void setUp() {
+		Users customer = new Users();
+		int number = USERS.incrementAndGet();
+		customer.setName("Hold Conflict Customer " + number);
+		customer.setEmail("holdconflicts" + number + "@eventify.test");
+		customer.setPassword("password");
+		customer.setPhone(String.format("6%09d", number));
+		customer.setUserType(UserTypes.CUSTOMER);
+		customer.setGender(Gender.Other);
+		userRepository.save(customer);
+		customerToken = "Bearer " + jwtUtility.generateToken(customer.getEmail(), List.of(UserTypes.CUSTOMER.name()));
+	}
+
+	@Test
+	void rejectedStoredSeatsTakeTheirStoredStatus() throws Exception {
+		Long eventId = createEvent(SeatInventoryMode.PHYSICAL);
+		EventSeatInventory inventory = seatInventoryService.inventoryFor(eventId);
+		// Booked behind the inventory's back, e.g. by another instance
+		jdbcTemplate.update("UPDATE seats SET status = 'BOOKED' WHERE event_id = ? AND seat_number = 'A2'", eventId);
+
+		assertNotEquals(201, book(eventId, "A1", "A2", "A3"));
+
+		assertEquals(SeatStatus.AVAILABLE, inventory.statusAt(inventory.positionOf("A1")));
+		assertEquals(SeatStatus.BOOKED, inventory.statusAt(inventory.positionOf("A2")));
+		assertEquals(SeatStatus.AVAILABLE, inventory.statusAt(inventory.positionOf("A3")));
+		assertEquals(201, book(eventId, "A1", "A3"));
+	}
+
+	@Test
+	void rejectedVirtualSeatsRebuildTheInventory() throws Exception {
+		Long eventId = createEvent(SeatInventoryMode.VIRTUAL);
+		seatInventoryService.inventoryFor(eventId);
+		jdbcTemplate.update("INSERT INTO seats (seat_number, status, event_id, seat_pricing, version) VALUES ('B1', 'LOCKED', ?, 90.0, 0)", eventId);
+
+		assertNotEquals(201, book(eventId, "B1", "B2"));
+
+		EventSeatInventory inventory = seatInventoryService.inventoryFor(eventId);
+		assertEquals(SeatStatus.LOCKED, inventory.statusAt(inventory.positionOf("B1")));
+		assertEquals(SeatStatus.AVAILABLE, inventory.statusAt(inventory.positionOf("B2")));
+		assertEquals(201, book(eventId, "B2"));
+	}
+
+	// --- Private Helper Methods ---
+
+	private Long createEvent(SeatInventoryMode inventoryMode) {
+		EventRequestDTO event = new EventRequestDTO();
+		event.setName("Hold Conflict Night");
+		event.setDescription("An event whose seats are taken behind the inventory's back");
+		event.setVenue("Arena");
+		event.setEventTimestamp(LocalDateTime.now().plusDays(7));
+		event.setTotalSeats(40);
+		event.setSeatsPerRow(10);
+		event.setSeatPricing(List.of(100.0, 90.0, 80.0, 70.0));
+		event.setCategory(CategoryEnum.MUSIC);
+		event.setInventoryMode(inventoryMode);
+		return eventService.createEvent(event).getId();
+	}
+
+	private int book(Long eventId, String... seatNumbers) throws Exception {
+		String seats = String.join("\",\"", seatNumbers);
+		return mockMvc.perform(post("/bookings").header(HttpHeaders.AUTHORIZATION, customerToken)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"eventId\":" + eventId + ",\"seatNumbers\":[\"" + seats + "\"]}"))
+				.andReturn().getResponse().getStatus();
+	}
+}
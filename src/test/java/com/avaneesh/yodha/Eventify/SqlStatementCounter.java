@@ -0,0 +1,29 @@
+package com.avaneesh.yodha.Eventify;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL statements Hibernate prepares, per thread, so a test can count the statements of the
+ * requests it performs without picking up background work.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+	private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+	@Override
+	public String inspect(String sql) {
+		STATEMENTS.get().add(sql);
+		return sql;
+	}
+
+	public static void reset() {
+		STATEMENTS.get().clear();
+	}
+
+	public static List<String> statements() {
+		return List.copyOf(STATEMENTS.get());
+	}
+}
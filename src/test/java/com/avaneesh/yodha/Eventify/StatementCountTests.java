@@ -0,0 +1,225 @@
+package com.avaneesh.yodha.Eventify;
+
+import com.avaneesh.yodha.Eventify.dto.request.EventRequestDTO;
+import com.avaneesh.yodha.Eventify.entities.Users;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.Gender;
+import com.avaneesh.yodha.Eventify.enums.UserTypes;
+import com.avaneesh.yodha.Eventify.repository.UserRepository;
+import com.avaneesh.yodha.Eventify.services.EventService;
+import com.avaneesh.yodha.Eventify.utils.JWTUtility;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Asserts how many SQL statements each endpoint runs, so that a lazy association that starts loading row by
+ * row fails the build. Every scenario uses bookings of several seats and lists several bookings, so an N+1
+ * query shows up as statements beyond the budget. The counts include the user lookup of the JWT filter.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StatementCountTests {
+
+	private static final AtomicInteger USERS = new AtomicInteger();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private JWTUtility jwtUtility;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private String customerToken;
+	private String adminToken;
+	private Long eventId;
+
+	@BeforeEach
+	void setUp() {
+		customerToken = tokenFor(createUser(UserTypes.CUSTOMER));
+		adminToken = tokenFor(createUser(UserTypes.ADMIN));
+
+		EventRequestDTO event = new EventRequestDTO();
+		event.setName("Statement Count Night");
+		event.setDescription("An event to count statements with");
+		event.setVenue("Arena");
+		event.setEventTimestamp(LocalDateTime.now().plusDays(7));
+		event.setTotalSeats(100);
+		event.setSeatsPerRow(10);
+		List<Double> pricing = new ArrayList<>();
+		for (int row = 0; row < 10; row++) {
+			pricing.add(100.0 + row);
+		}
+		event.setSeatPricing(pricing);
+		event.setCategory(CategoryEnum.MUSIC);
+		eventId = eventService.createEvent(event).getId();
+	}
+
+	@Test
+	void eventDetails() throws Exception {
+		book();
+		book();
+		book();
+		perform(3, get("/events/" + eventId));
+	}
+
+	@Test
+	void eventListing() throws Exception {
+		perform(2, get("/events").param("pageSize", "5").param("sortBy", "name"));
+	}
+
+	@Test
+	void createBooking() throws Exception {
+		perform(8, post("/bookings").header(HttpHeaders.AUTHORIZATION, customerToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"eventId\":" + eventId + ",\"seatCount\":4}"));
+	}
+
+	@Test
+	void bookingReads() throws Exception {
+		Long bookingId = book();
+		book();
+		book();
+		perform(2, get("/bookings/" + bookingId).header(HttpHeaders.AUTHORIZATION, customerToken));
+	}
+
+	@Test
+	void bookingHistory() throws Exception {
+		Long oldestBookingId = book();
+		Long cancelledBookingId = book();
+		Long newestBookingId = book();
+		mockMvc.perform(patch("/bookings/" + cancelledBookingId + "/cancel").header(HttpHeaders.AUTHORIZATION, customerToken));
+
+		MvcResult firstPage = perform(3, get("/bookings/user").param("pageSize", "2")
+				.header(HttpHeaders.AUTHORIZATION, customerToken));
+		String firstPageBody = firstPage.getResponse().getContentAsString();
+		assertEquals(List.of(newestBookingId.intValue(), cancelledBookingId.intValue()), JsonPath.read(firstPageBody, "$.data.content[*].id"));
+		String cursor = JsonPath.read(firstPageBody, "$.data.nextCursor");
+
+		MvcResult lastPage = perform(3, get("/bookings/user").param("pageSize", "2").param("cursor", cursor)
+				.header(HttpHeaders.AUTHORIZATION, customerToken));
+		String lastPageBody = lastPage.getResponse().getContentAsString();
+		assertEquals(List.of(oldestBookingId.intValue()), JsonPath.read(lastPageBody, "$.data.content[*].id"));
+		assertEquals(false, JsonPath.read(lastPageBody, "$.data.hasNext"));
+
+		MvcResult cancelled = perform(3, get("/bookings/user").param("status", "CANCELLED")
+				.header(HttpHeaders.AUTHORIZATION, customerToken));
+		assertEquals(List.of(cancelledBookingId.intValue()),
+				JsonPath.read(cancelled.getResponse().getContentAsString(), "$.data.content[*].id"));
+	}
+
+	@Test
+	void cancellation() throws Exception {
+		Long pendingBookingId = book();
+		perform(4, patch("/bookings/" + pendingBookingId + "/cancel").header(HttpHeaders.AUTHORIZATION, customerToken));
+
+		Long confirmedBookingId = book();
+		pay(confirmedBookingId, "COMPLETED");
+		perform(5, patch("/bookings/" + confirmedBookingId + "/cancel").header(HttpHeaders.AUTHORIZATION, customerToken));
+	}
+
+	@Test
+	void paymentWebhook() throws Exception {
+		Long confirmedBookingId = book();
+		perform(3, post("/payments/initiate/" + confirmedBookingId).header(HttpHeaders.AUTHORIZATION, customerToken));
+		perform(6, webhook(confirmedBookingId, "COMPLETED"));
+
+		Long failedBookingId = book();
+		perform(3, post("/payments/initiate/" + failedBookingId).header(HttpHeaders.AUTHORIZATION, customerToken));
+		perform(6, webhook(failedBookingId, "FAILED"));
+	}
+
+	@Test
+	void adminListings() throws Exception {
+		book();
+		book();
+		book();
+		perform(2, get("/admin/bookings").header(HttpHeaders.AUTHORIZATION, adminToken));
+		perform(2, get("/admin/users").header(HttpHeaders.AUTHORIZATION, adminToken));
+	}
+
+	// --- Private Helper Methods ---
+
+	/**
+	 * Performs a request and fails unless it succeeds within the given number of SQL statements.
+	 */
+	private MvcResult perform(int maxStatements, MockHttpServletRequestBuilder request) throws Exception {
+		SqlStatementCounter.reset();
+		MvcResult result = mockMvc.perform(request).andReturn();
+		List<String> statements = SqlStatementCounter.statements();
+		String endpoint = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+		assertTrue(result.getResponse().getStatus() < 300,
+				() -> endpoint + " failed with status " + result.getResponse().getStatus());
+		assertTrue(statements.size() <= maxStatements, () -> endpoint + " ran " + statements.size()
+				+ " SQL statements, at most " + maxStatements + " expected:\n" + String.join("\n", statements));
+		return result;
+	}
+
+	private Long book() throws Exception {
+		MvcResult result = mockMvc.perform(post("/bookings").header(HttpHeaders.AUTHORIZATION, customerToken)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"eventId\":" + eventId + ",\"seatCount\":4}"))
+				.andReturn();
+		Number bookingId = JsonPath.read(result.getResponse().getContentAsString(), "$.data.id");
+		return bookingId.longValue();
+	}
+
+	private void pay(Long bookingId, String status) throws Exception {
+		mockMvc.perform(post("/payments/initiate/" + bookingId).header(HttpHeaders.AUTHORIZATION, customerToken));
+		mockMvc.perform(webhook(bookingId, status));
+	}
+
+	private MockHttpServletRequestBuilder webhook(Long bookingId, String status) {
+		String transactionId = jdbcTemplate.queryForObject(
+				"SELECT transaction_id FROM payments WHERE booking_id = ?", String.class, bookingId);
+		return post("/payments/webhook").header(HttpHeaders.AUTHORIZATION, customerToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"transactionId\":\"" + transactionId + "\",\"paymentMethod\":\"UPI\",\"paymentStatus\":\"" + status + "\"}");
+	}
+
+	private Users createUser(UserTypes userType) {
+		int number = USERS.incrementAndGet();
+		Users user = new Users();
+		user.setName("Statement Counter " + number);
+		user.setEmail("statements" + number + "@eventify.test");
+		user.setPassword("password");
+		user.setPhone(String.format("9%09d", number));
+		user.setUserType(userType);
+		user.setGender(Gender.Other);
+		return userRepository.save(user);
+	}
+
+	private String tokenFor(Users user) {
+		return "Bearer " + jwtUtility.generateToken(user.getEmail(), List.of(user.getUserType().name()));
+	}
+}
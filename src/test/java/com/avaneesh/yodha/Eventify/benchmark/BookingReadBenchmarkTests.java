@@ -0,0 +1,145 @@
+package com.avaneesh.yodha.Eventify.benchmark;
+
+import com.avaneesh.yodha.Eventify.SqlStatementCounter;
+import com.avaneesh.yodha.Eventify.dto.request.EventRequestDTO;
+import com.avaneesh.yodha.Eventify.entities.Users;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.Gender;
+import com.avaneesh.yodha.Eventify.enums.UserTypes;
+import com.avaneesh.yodha.Eventify.repository.UserRepository;
+import com.avaneesh.yodha.Eventify.services.EventService;
+import com.avaneesh.yodha.Eventify.utils.JWTUtility;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Measures the booking read endpoints that serialize {@code BookingResponse}: a single booking, the booking
+ * history of a user and the admin listing, over 25 bookings of 4 seats each. Reports the response size, the
+ * SQL statements of a request (including the user lookup of the JWT filter) and the latency percentiles of
+ * the requests.
+ * <p>
+ * Requests go through {@link MockMvc} with open-in-view, against the in-memory H2 database of the
+ * {@code test} profile.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BookingReadBenchmarkTests {
+
+	private static final int BOOKINGS = 25;
+	private static final int SEATS_PER_BOOKING = 4;
+	private static final int WARMUP_REQUESTS = 500;
+	private static final int REQUESTS = 2000;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private JWTUtility jwtUtility;
+
+	@Test
+	void measureBookingReads() throws Exception {
+		String customerToken = tokenFor(createUser("booking-reads@eventify.test", UserTypes.CUSTOMER));
+		String adminToken = tokenFor(createUser("booking-reads-admin@eventify.test", UserTypes.ADMIN));
+		Long eventId = createEvent();
+		Long bookingId = null;
+		for (int i = 0; i < BOOKINGS; i++) {
+			bookingId = book(customerToken, eventId);
+		}
+
+		measure("/bookings/{id}", get("/bookings/" + bookingId).header(HttpHeaders.AUTHORIZATION, customerToken));
+		measure("/bookings/user", get("/bookings/user").param("pageSize", String.valueOf(BOOKINGS))
+				.header(HttpHeaders.AUTHORIZATION, customerToken));
+		measure("/admin/bookings", get("/admin/bookings").header(HttpHeaders.AUTHORIZATION, adminToken));
+	}
+
+	// --- Private Helper Methods ---
+
+	private void measure(String endpoint, MockHttpServletRequestBuilder request) throws Exception {
+		for (int i = 0; i < WARMUP_REQUESTS; i++) {
+			mockMvc.perform(request);
+		}
+		SqlStatementCounter.reset();
+		MvcResult result = mockMvc.perform(request).andReturn();
+		assertEquals(200, result.getResponse().getStatus(), endpoint);
+		int statements = SqlStatementCounter.statements().size();
+		int bytes = result.getResponse().getContentAsByteArray().length;
+
+		long[] latencies = new long[REQUESTS];
+		for (int i = 0; i < REQUESTS; i++) {
+			long start = System.nanoTime();
+			mockMvc.perform(request);
+			latencies[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(latencies);
+		System.out.printf("%-16s %,7d bytes  %d statements  p50 %6.3f ms  p99 %6.3f ms%n", endpoint, bytes, statements,
+				percentile(latencies, 0.50), percentile(latencies, 0.99));
+	}
+
+	private static double percentile(long[] sortedLatencies, double percentile) {
+		return sortedLatencies[(int) Math.ceil(percentile * sortedLatencies.length) - 1] / 1e6;
+	}
+
+	private Long book(String token, Long eventId) throws Exception {
+		MvcResult result = mockMvc.perform(post("/bookings").header(HttpHeaders.AUTHORIZATION, token)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"eventId\":" + eventId + ",\"seatCount\":" + SEATS_PER_BOOKING + "}"))
+				.andReturn();
+		Number bookingId = JsonPath.read(result.getResponse().getContentAsString(), "$.data.id");
+		return bookingId.longValue();
+	}
+
+	private Long createEvent() {
+		EventRequestDTO event = new EventRequestDTO();
+		event.setName("Booking Read Night");
+		event.setDescription("An event whose bookings are read");
+		event.setVenue("Arena");
+		event.setEventTimestamp(LocalDateTime.now().plusDays(7));
+		event.setTotalSeats(200);
+		event.setSeatsPerRow(10);
+		event.setSeatPricing(Collections.nCopies(20, 100.0));
+		event.setCategory(CategoryEnum.MUSIC);
+		return eventService.createEvent(event).getId();
+	}
+
+	private Users createUser(String email, UserTypes userType) {
+		Users user = new Users();
+		user.setName("Booking Reader");
+		user.setEmail(email);
+		user.setPassword("password");
+		user.setPhone(userType == UserTypes.ADMIN ? "5000000004" : "5000000003");
+		user.setUserType(userType);
+		user.setGender(Gender.Other);
+		return userRepository.save(user);
+	}
+
+	private String tokenFor(Users user) {
+		return "Bearer " + jwtUtility.generateToken(user.getEmail(), List.of(user.getUserType().name()));
+	}
+}
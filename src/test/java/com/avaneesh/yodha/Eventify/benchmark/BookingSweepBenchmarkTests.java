@@ -0,0 +1,167 @@
+package com.avaneesh.yodha.Eventify.benchmark;
+
+import com.avaneesh.yodha.Eventify.dto.request.EventRequestDTO;
+import com.avaneesh.yodha.Eventify.entities.Users;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.Gender;
+import com.avaneesh.yodha.Eventify.enums.SeatInventoryMode;
+import com.avaneesh.yodha.Eventify.enums.UserTypes;
+import com.avaneesh.yodha.Eventify.repository.BookingRepository;
+import com.avaneesh.yodha.Eventify.repository.EventRepository;
+import com.avaneesh.yodha.Eventify.repository.SeatRepository;
+import com.avaneesh.yodha.Eventify.repository.UserRepository;
+import com.avaneesh.yodha.Eventify.services.BookingCleanupService;
+import com.avaneesh.yodha.Eventify.services.BookingSequencer;
+import com.avaneesh.yodha.Eventify.services.EventService;
+import com.avaneesh.yodha.Eventify.services.SeatInventoryService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures how long the expiry sweep of {@link BookingCleanupService} takes to clear a backlog of 100k
+ * expired one-seat holds, with one and several workers and different chunk sizes, against expiring the same
+ * backlog booking by booking in one transaction each, the way {@code HoldExpiryScheduler} expires a hold.
+ * Every run gets a backlog of its own on a fresh event, and the scheduled sweep of the application is held
+ * off so that it cannot clear a backlog in the middle of a run.
+ * <p>
+ * Runs against the in-memory H2 database of the {@code test} profile and its default connection pool.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "app.booking.expiry.sweep-interval-ms=86400000")
+@ActiveProfiles("test")
+class BookingSweepBenchmarkTests {
+
+	private static final int BACKLOG = 100_000;
+	private static final int SEATS_PER_ROW = 100;
+	private static final int INSERT_BATCH = 5000;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private BookingSequencer bookingSequencer;
+
+	@Autowired
+	private SeatInventoryService seatInventoryService;
+
+	@Autowired
+	private BookingCleanupService bookingCleanupService;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void compareSweeps() {
+		Long userId = createCustomer().getId();
+
+		List<Long> bookingIds = createBacklog(userId);
+		long start = System.nanoTime();
+		bookingIds.forEach(bookingCleanupService::expirePendingBooking);
+		report("per booking", System.nanoTime() - start);
+
+		for (int[] config : new int[][] { { 1, 500 }, { 4, 500 }, { 4, 100 }, { 4, 2000 }, { 8, 500 } }) {
+			createBacklog(userId);
+			BookingCleanupService sweep = new BookingCleanupService(bookingRepository, seatRepository, bookingSequencer,
+					seatInventoryService, transactionTemplate, config[0], config[1]);
+			try {
+				start = System.nanoTime();
+				sweep.cancelExpiredPendingBookings();
+				report(config[0] + " x " + config[1], System.nanoTime() - start);
+			} finally {
+				sweep.stop();
+			}
+		}
+	}
+
+	// --- Private Helper Methods ---
+
+	private static void report(String sweep, long elapsedNanos) {
+		System.out.printf("%-12s %8.2f s  %8.0f bookings/s%n", sweep, elapsedNanos / 1e9, BACKLOG / (elapsedNanos / 1e9));
+	}
+
+	/**
+	 * Creates an event with one seat per booking and the backlog of expired PENDING bookings holding them,
+	 * and loads the inventory of the event.
+	 *
+	 * @return The IDs of the bookings, in ascending order.
+	 */
+	private List<Long> createBacklog(Long userId) {
+		Long eventId = createEvent();
+		Timestamp expired = Timestamp.valueOf(LocalDateTime.now().minusHours(1));
+		List<Object[]> bookings = new ArrayList<>(INSERT_BATCH);
+		for (int i = 0; i < BACKLOG; i++) {
+			bookings.add(new Object[] { expired, 100.0, 1, "PENDING", userId, eventId });
+			if (bookings.size() == INSERT_BATCH || i == BACKLOG - 1) {
+				jdbcTemplate.batchUpdate("INSERT INTO bookings (booking_timestamp, total_amount, number_of_seats, status, user_id, event_id) " +
+						"VALUES (?, ?, ?, ?, ?, ?)", bookings);
+				bookings.clear();
+			}
+		}
+		List<Long> bookingIds = jdbcTemplate.queryForList("SELECT id FROM bookings WHERE event_id = ? ORDER BY id", Long.class, eventId);
+		List<Long> seatIds = jdbcTemplate.queryForList("SELECT id FROM seats WHERE event_id = ? ORDER BY id", Long.class, eventId);
+		assertEquals(BACKLOG, bookingIds.size());
+		List<Object[]> holds = new ArrayList<>(INSERT_BATCH);
+		for (int i = 0; i < BACKLOG; i++) {
+			holds.add(new Object[] { bookingIds.get(i), seatIds.get(i) });
+			if (holds.size() == INSERT_BATCH || i == BACKLOG - 1) {
+				jdbcTemplate.batchUpdate("UPDATE seats SET status = 'LOCKED', booking_id = ? WHERE id = ?", holds);
+				holds.clear();
+			}
+		}
+		seatInventoryService.reload(eventRepository.findById(eventId).orElseThrow());
+		return bookingIds;
+	}
+
+	private Long createEvent() {
+		EventRequestDTO event = new EventRequestDTO();
+		event.setName("Abandoned On-Sale");
+		event.setDescription("An event whose holds all expired");
+		event.setVenue("Stadium");
+		event.setEventTimestamp(LocalDateTime.now().plusDays(7));
+		event.setTotalSeats(BACKLOG);
+		event.setSeatsPerRow(SEATS_PER_ROW);
+		event.setSeatPricing(Collections.nCopies(BACKLOG / SEATS_PER_ROW, 100.0));
+		event.setCategory(CategoryEnum.MUSIC);
+		event.setInventoryMode(SeatInventoryMode.PHYSICAL);
+		return eventService.createEvent(event).getId();
+	}
+
+	private Users createCustomer() {
+		Users customer = new Users();
+		customer.setName("Sweep Customer");
+		customer.setEmail("sweep@eventify.test");
+		customer.setPassword("password");
+		customer.setPhone("5000000002");
+		customer.setUserType(UserTypes.CUSTOMER);
+		customer.setGender(Gender.Other);
+		return userRepository.save(customer);
+	}
+}
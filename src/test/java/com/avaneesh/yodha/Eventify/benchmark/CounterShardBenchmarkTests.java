@@ -0,0 +1,155 @@
+package com.avaneesh.yodha.Eventify.benchmark;
+
+import com.avaneesh.yodha.Eventify.dto.request.EventRequestDTO;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.SeatInventoryMode;
+import com.avaneesh.yodha.Eventify.repository.EventRepository;
+import com.avaneesh.yodha.Eventify.repository.EventSeatCounterRepository;
+import com.avaneesh.yodha.Eventify.repository.SeatRepository;
+import com.avaneesh.yodha.Eventify.services.BookingSequencer;
+import com.avaneesh.yodha.Eventify.services.EventSeatCounterService;
+import com.avaneesh.yodha.Eventify.services.EventService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures booking throughput on a single hot event when every booking transaction adds its seats to the
+ * sharded counter of {@link EventSeatCounterService} with 1, 8 and 32 slots, and when it hands them to the
+ * {@link BookingSequencer} instead. Besides the count, each transaction reads the seat states of the event,
+ * standing in for the rest of a booking during which the counter slot stays locked.
+ * <p>
+ * Runs against the in-memory H2 database of the {@code test} profile and its default connection pool.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class CounterShardBenchmarkTests {
+
+	private static final int THREADS = 64;
+	private static final long WARMUP_MILLIS = 3000;
+	private static final long MEASURE_MILLIS = 10000;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private EventSeatCounterRepository counterRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private BookingSequencer bookingSequencer;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void compareShardCounts() throws Exception {
+		ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+		try {
+			for (int shards : new int[] { 1, 8, 32 }) {
+				EventSeatCounterService counter = new EventSeatCounterService(counterRepository, eventRepository, shards);
+				report(shards + (shards == 1 ? " shard" : " shards"), run(threads, counter::increment));
+			}
+			report("sequencer", run(threads, bookingSequencer::hold));
+		} finally {
+			threads.shutdownNow();
+		}
+	}
+
+	// --- Private Helper Methods ---
+
+	/**
+	 * Books one seat per transaction on every thread, first for the warm-up and then for the measured period,
+	 * on an event of its own.
+	 */
+	private RunResult run(ExecutorService threads, SeatCount seatCount) throws Exception {
+		Long eventId = createEvent();
+		book(threads, eventId, seatCount, WARMUP_MILLIS, latency -> { });
+		List<Long> latencies = new ArrayList<>();
+		long bookings = book(threads, eventId, seatCount, MEASURE_MILLIS, latencies::add);
+		long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+		Arrays.sort(sorted);
+		return new RunResult(bookings, sorted);
+	}
+
+	private long book(ExecutorService threads, Long eventId, SeatCount seatCount, long millis, Consumer<Long> latencies) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<long[]>> workers = new ArrayList<>(THREADS);
+		for (int thread = 0; thread < THREADS; thread++) {
+			workers.add(threads.submit(() -> {
+				start.await();
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+				List<Long> own = new ArrayList<>();
+				while (System.nanoTime() < deadline) {
+					long startedAt = System.nanoTime();
+					transactionTemplate.executeWithoutResult(status -> {
+						seatCount.add(eventId, 1);
+						seatRepository.findSeatStatesByEventId(eventId);
+					});
+					own.add(System.nanoTime() - startedAt);
+				}
+				return own.stream().mapToLong(Long::longValue).toArray();
+			}));
+		}
+		start.countDown();
+		long bookings = 0;
+		for (Future<long[]> worker : workers) {
+			long[] own = worker.get();
+			bookings += own.length;
+			Arrays.stream(own).forEach(latencies::accept);
+		}
+		return bookings;
+	}
+
+	private static void report(String counter, RunResult result) {
+		long[] latencies = result.latencies();
+		System.out.printf("%-10s %8.0f bookings/s  p50 %6.2f ms  p99 %6.2f ms%n", counter,
+				result.bookings() / (MEASURE_MILLIS / 1000.0), percentile(latencies, 0.50), percentile(latencies, 0.99));
+	}
+
+	private static double percentile(long[] sortedLatencies, double percentile) {
+		return sortedLatencies[(int) Math.ceil(percentile * sortedLatencies.length) - 1] / 1e6;
+	}
+
+	private Long createEvent() {
+		EventRequestDTO event = new EventRequestDTO();
+		event.setName("Hot On-Sale");
+		event.setDescription("A single event everyone books at once");
+		event.setVenue("Stadium");
+		event.setEventTimestamp(LocalDateTime.now().plusDays(7));
+		event.setTotalSeats(50);
+		event.setSeatsPerRow(10);
+		event.setSeatPricing(List.of(100.0, 90.0, 80.0, 70.0, 60.0));
+		event.setCategory(CategoryEnum.MUSIC);
+		event.setInventoryMode(SeatInventoryMode.PHYSICAL);
+		return eventService.createEvent(event).getId();
+	}
+
+	@FunctionalInterface
+	private interface SeatCount {
+		void add(Long eventId, int seats);
+	}
+
+	private record RunResult(long bookings, long[] latencies) {
+	}
+}
@@ -0,0 +1,131 @@
+package com.avaneesh.yodha.Eventify.benchmark;
+
+import com.avaneesh.yodha.Eventify.EventifyApplication;
+import com.avaneesh.yodha.Eventify.dto.request.EventRequestDTO;
+import com.avaneesh.yodha.Eventify.dto.response.EventSummaryResponse;
+import com.avaneesh.yodha.Eventify.dto.response.EventsResponse;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.SeatInventoryMode;
+import com.avaneesh.yodha.Eventify.services.EventCacheService;
+import com.avaneesh.yodha.Eventify.services.EventService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of cache hits and misses of {@link EventCacheService}: reading the details of an event and
+ * the first listing page through {@link EventService} with the entry cached, and right after it was
+ * invalidated, so that the read loads it from the database and maps it again. Every read runs in a
+ * transaction, standing in for the session a web request keeps open while its response is written.
+ * <p>
+ * Each fork starts the application on the in-memory H2 database of the {@code test} profile and creates 50
+ * events whose details carry {@code seats} seats. A miss also pays for the invalidation, which is a few map
+ * operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class EventCacheBenchmarkTests {
+
+	private static final int EVENTS = 50;
+	private static final int SEATS_PER_ROW = 50;
+	private static final int PAGE_SIZE = 20;
+
+	@Param({ "500", "5000" })
+	public int seats;
+
+	private ConfigurableApplicationContext context;
+	private EventService eventService;
+	private EventCacheService eventCacheService;
+	private TransactionTemplate transactionTemplate;
+	private Long eventId;
+
+	@Test
+	@Tag("benchmark")
+	void compareHitsAndMisses() throws RunnerException {
+		new Runner(new OptionsBuilder().include(EventCacheBenchmarkTests.class.getName()).build()).run();
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(EventifyApplication.class)
+				.profiles("test")
+				.properties("spring.main.banner-mode=off", "logging.level.root=WARN")
+				.run();
+		eventService = context.getBean(EventService.class);
+		eventCacheService = context.getBean(EventCacheService.class);
+		transactionTemplate = context.getBean(TransactionTemplate.class);
+		for (int i = 0; i < EVENTS; i++) {
+			eventId = createEvent(i);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public EventsResponse eventDetailsHit() {
+		return transactionTemplate.execute(status -> eventService.getEventById(eventId));
+	}
+
+	@Benchmark
+	public EventsResponse eventDetailsMiss() {
+		eventCacheService.evictEvent(eventId);
+		return transactionTemplate.execute(status -> eventService.getEventById(eventId));
+	}
+
+	@Benchmark
+	public Page<EventSummaryResponse> listingPageHit() {
+		return transactionTemplate.execute(status -> eventService.getAllEvents(0, PAGE_SIZE, "eventTimestamp"));
+	}
+
+	@Benchmark
+	public Page<EventSummaryResponse> listingPageMiss() {
+		eventCacheService.evictEventAndListings(eventId);
+		return transactionTemplate.execute(status -> eventService.getAllEvents(0, PAGE_SIZE, "eventTimestamp"));
+	}
+
+	// --- Private Helper Methods ---
+
+	private Long createEvent(int index) {
+		EventRequestDTO event = new EventRequestDTO();
+		event.setName("Cached Event " + index);
+		event.setDescription("An event that is read over and over");
+		event.setVenue("Arena " + index % 5);
+		event.setEventTimestamp(LocalDateTime.now().plusDays(7 + index));
+		event.setTotalSeats(seats);
+		event.setSeatsPerRow(SEATS_PER_ROW);
+		event.setSeatPricing(Collections.nCopies(seats / SEATS_PER_ROW, 100.0));
+		event.setCategory(CategoryEnum.MUSIC);
+		event.setInventoryMode(SeatInventoryMode.PHYSICAL);
+		return eventService.createEvent(event).getId();
+	}
+}
@@ -0,0 +1,162 @@
+package com.avaneesh.yodha.Eventify.benchmark;
+
+import com.avaneesh.yodha.Eventify.enums.SeatStatus;
+import com.avaneesh.yodha.Eventify.inventory.EventSeatInventory;
+import com.avaneesh.yodha.Eventify.inventory.SeatLayout;
+import com.avaneesh.yodha.Eventify.repository.projections.SeatStateView;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the seat availability check of a booking request: fetching the requested seat rows and
+ * checking their status one by one, as {@code BookingService} did before the in-memory inventory, against
+ * answering it from the {@link EventSeatInventory} bitmap.
+ * <p>
+ * The seats live in an in-process H2 database, so the database path pays neither a network round trip nor
+ * the materialization of {@code Seat} entities, and its numbers are a lower bound of the MySQL path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeatAvailabilityBenchmarkTests {
+
+	private static final long EVENT_ID = 1L;
+	private static final int SEATS_PER_ROW = 50;
+	private static final int SEATS_PER_REQUEST = 4;
+	private static final int REQUESTS = 4096;
+
+	@Param({ "10000", "50000", "100000" })
+	public int seats;
+
+	private Connection connection;
+	private PreparedStatement findSeats;
+	private EventSeatInventory inventory;
+	// Seat IDs of pre-drawn requests, so both paths check the same seats without paying for the draw
+	private long[] requestedSeatIds;
+	private int nextRequest;
+
+	@Test
+	@Tag("benchmark")
+	void compareAvailabilityChecks() throws RunnerException {
+		new Runner(new OptionsBuilder().include(SeatAvailabilityBenchmarkTests.class.getName()).build()).run();
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:h2:mem:seat-availability-" + seats + ";MODE=MySQL", "sa", "");
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE seats (id BIGINT PRIMARY KEY, seat_number VARCHAR(16) NOT NULL, " +
+					"status VARCHAR(16) NOT NULL, event_id BIGINT NOT NULL, seat_pricing DOUBLE NOT NULL)");
+		}
+		// A third of the seats are taken, as in the middle of an on-sale
+		SplittableRandom random = new SplittableRandom(42);
+		List<SeatStateView> states = new ArrayList<>(seats);
+		try (PreparedStatement insert = connection.prepareStatement("INSERT INTO seats VALUES (?, ?, ?, ?, ?)")) {
+			for (int position = 0; position < seats; position++) {
+				SeatState seat = new SeatState(position + 1L, SeatLayout.seatNumber(position / SEATS_PER_ROW, position % SEATS_PER_ROW),
+						random.nextInt(3) == 0 ? SeatStatus.BOOKED : SeatStatus.AVAILABLE, 100.0);
+				insert.setLong(1, seat.getId());
+				insert.setString(2, seat.getSeatNumber());
+				insert.setString(3, seat.getStatus().name());
+				insert.setLong(4, EVENT_ID);
+				insert.setDouble(5, seat.getSeatPricing());
+				insert.addBatch();
+				states.add(seat);
+			}
+			insert.executeBatch();
+		}
+		findSeats = connection.prepareStatement("SELECT id, status FROM seats WHERE id IN (?, ?, ?, ?)");
+		inventory = EventSeatInventory.of(EVENT_ID, SEATS_PER_ROW, states);
+		requestedSeatIds = random.longs(REQUESTS * SEATS_PER_REQUEST, 1, seats + 1L).toArray();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	public boolean fetchAndCheckRows() throws SQLException {
+		int first = nextRequestOffset();
+		for (int i = 0; i < SEATS_PER_REQUEST; i++) {
+			findSeats.setLong(i + 1, requestedSeatIds[first + i]);
+		}
+		boolean available = true;
+		try (ResultSet rows = findSeats.executeQuery()) {
+			while (rows.next()) {
+				available &= SeatStatus.valueOf(rows.getString(2)) == SeatStatus.AVAILABLE;
+			}
+		}
+		return available;
+	}
+
+	@Benchmark
+	public boolean checkInventory() {
+		int first = nextRequestOffset();
+		int[] positions = new int[SEATS_PER_REQUEST];
+		for (int i = 0; i < SEATS_PER_REQUEST; i++) {
+			positions[i] = inventory.positionOf(requestedSeatIds[first + i]);
+		}
+		return inventory.firstNotIn(positions, SeatStatus.AVAILABLE) < 0;
+	}
+
+	// --- Private Helper Methods ---
+
+	private int nextRequestOffset() {
+		nextRequest = (nextRequest + 1) % REQUESTS;
+		return nextRequest * SEATS_PER_REQUEST;
+	}
+
+	private record SeatState(Long id, String seatNumber, SeatStatus status, Double seatPricing) implements SeatStateView {
+
+		@Override
+		public Long getId() {
+			return id;
+		}
+
+		@Override
+		public String getSeatNumber() {
+			return seatNumber;
+		}
+
+		@Override
+		public SeatStatus getStatus() {
+			return status;
+		}
+
+		@Override
+		public Double getSeatPricing() {
+			return seatPricing;
+		}
+	}
+}
@@ -0,0 +1,261 @@
+package com.avaneesh.yodha.Eventify.benchmark;
+
+import com.avaneesh.yodha.Eventify.dto.request.EventRequestDTO;
+import com.avaneesh.yodha.Eventify.entities.Booking;
+import com.avaneesh.yodha.Eventify.entities.Events;
+import com.avaneesh.yodha.Eventify.entities.Seat;
+import com.avaneesh.yodha.Eventify.entities.Users;
+import com.avaneesh.yodha.Eventify.enums.BookingStatus;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.Gender;
+import com.avaneesh.yodha.Eventify.enums.SeatInventoryMode;
+import com.avaneesh.yodha.Eventify.enums.SeatStatus;
+import com.avaneesh.yodha.Eventify.enums.UserTypes;
+import com.avaneesh.yodha.Eventify.repository.BookingRepository;
+import com.avaneesh.yodha.Eventify.repository.EventRepository;
+import com.avaneesh.yodha.Eventify.repository.SeatRepository;
+import com.avaneesh.yodha.Eventify.repository.UserRepository;
+import com.avaneesh.yodha.Eventify.repository.projections.SeatStateView;
+import com.avaneesh.yodha.Eventify.services.EventService;
+import com.avaneesh.yodha.Eventify.services.SeatInventoryService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Races 500 threads for the same 50 seats, each claiming 2 random seats at once, and compares the claim
+ * {@code BookingService} used to make (load the seats, check their status in Java, {@code saveAll} and let
+ * the {@code @Version} check reject lost races at flush) with the single conditional UPDATE of
+ * {@link SeatRepository#claimAvailableSeats}, alone and behind the in-memory inventory check that
+ * {@link SeatInventoryService#hold} runs first. Reports throughput and latency percentiles of the attempts.
+ * <p>
+ * Runs against the in-memory H2 database of the {@code test} profile and its default connection pool.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatClaimBenchmarkTests {
+
+	private static final int THREADS = 500;
+	private static final int SEATS = 50;
+	private static final int SEATS_PER_CLAIM = 2;
+	private static final int WARMUP_ROUNDS = 5;
+	private static final int ROUNDS = 20;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private SeatInventoryService seatInventoryService;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void compareSeatClaims() throws Exception {
+		Long eventId = createEvent();
+		List<Long> seatIds = seatRepository.findSeatStatesByEventId(eventId).stream().map(SeatStateView::getId).toList();
+		List<Long> bookingIds = createBookings(eventId);
+
+		ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+		try {
+			for (int round = 0; round < WARMUP_ROUNDS; round++) {
+				race(threads, eventId, seatIds, bookingIds, this::loadCheckAndSave);
+				race(threads, eventId, seatIds, bookingIds, this::claimInOneStatement);
+				race(threads, eventId, seatIds, bookingIds, this::holdThroughInventory);
+			}
+			report("load-check-saveAll", race(threads, eventId, seatIds, bookingIds, this::loadCheckAndSave));
+			report("conditional UPDATE", race(threads, eventId, seatIds, bookingIds, this::claimInOneStatement));
+			report("inventory + UPDATE", race(threads, eventId, seatIds, bookingIds, this::holdThroughInventory));
+		} finally {
+			threads.shutdownNow();
+		}
+	}
+
+	// --- Private Helper Methods ---
+
+	private Outcome loadCheckAndSave(Long eventId, List<Long> seatIds, Long bookingId) {
+		return transactionTemplate.execute(status -> {
+			List<Seat> seats = seatRepository.findAllById(seatIds);
+			for (Seat seat : seats) {
+				if (seat.getStatus() != SeatStatus.AVAILABLE) {
+					return Outcome.REJECTED;
+				}
+			}
+			Booking booking = bookingRepository.getReferenceById(bookingId);
+			seats.forEach(seat -> {
+				seat.setStatus(SeatStatus.LOCKED);
+				seat.setBooking(booking);
+			});
+			seatRepository.saveAll(seats);
+			return Outcome.CLAIMED;
+		});
+	}
+
+	private Outcome claimInOneStatement(Long eventId, List<Long> seatIds, Long bookingId) {
+		return transactionTemplate.execute(status -> {
+			int claimed = seatRepository.claimAvailableSeats(seatIds, eventId, bookingRepository.getReferenceById(bookingId));
+			if (claimed != seatIds.size()) {
+				status.setRollbackOnly();
+				return Outcome.REJECTED;
+			}
+			return Outcome.CLAIMED;
+		});
+	}
+
+	private Outcome holdThroughInventory(Long eventId, List<Long> seatIds, Long bookingId) {
+		return transactionTemplate.execute(status -> {
+			seatInventoryService.hold(eventId, seatIds, null, bookingRepository.getReferenceById(bookingId));
+			return Outcome.CLAIMED;
+		});
+	}
+
+	/**
+	 * Runs {@link #ROUNDS} rounds in which every thread makes one claim at the same moment, freeing the seats
+	 * between rounds.
+	 */
+	private RaceResult race(ExecutorService threads, Long eventId, List<Long> seatIds, List<Long> bookingIds, Claim claim) throws Exception {
+		long[] latencies = new long[THREADS * ROUNDS];
+		int[] outcomes = new int[Outcome.values().length];
+		long elapsed = 0;
+		for (int round = 0; round < ROUNDS; round++) {
+			jdbcTemplate.update("UPDATE seats SET status = 'AVAILABLE', booking_id = NULL WHERE event_id = ?", eventId);
+			seatInventoryService.reload(eventRepository.findById(eventId).orElseThrow());
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<long[]>> attempts = new ArrayList<>(THREADS);
+			for (int thread = 0; thread < THREADS; thread++) {
+				Long bookingId = bookingIds.get(thread);
+				attempts.add(threads.submit(() -> {
+					List<Long> requested = pickSeats(seatIds);
+					start.await();
+					long startedAt = System.nanoTime();
+					Outcome outcome;
+					try {
+						outcome = claim.attempt(eventId, requested, bookingId);
+					} catch (IllegalStateException e) {
+						outcome = Outcome.REJECTED;
+					} catch (ObjectOptimisticLockingFailureException e) {
+						outcome = Outcome.CONFLICT;
+					} catch (RuntimeException e) {
+						outcome = Outcome.FAILED;
+					}
+					return new long[] { System.nanoTime() - startedAt, outcome.ordinal() };
+				}));
+			}
+			long roundStart = System.nanoTime();
+			start.countDown();
+			for (int thread = 0; thread < THREADS; thread++) {
+				long[] attempt = attempts.get(thread).get();
+				latencies[round * THREADS + thread] = attempt[0];
+				outcomes[(int) attempt[1]]++;
+			}
+			elapsed += System.nanoTime() - roundStart;
+		}
+		Arrays.sort(latencies);
+		return new RaceResult(latencies, outcomes, elapsed);
+	}
+
+	private static List<Long> pickSeats(List<Long> seatIds) {
+		List<Long> requested = new ArrayList<>(SEATS_PER_CLAIM);
+		while (requested.size() < SEATS_PER_CLAIM) {
+			Long seatId = seatIds.get(ThreadLocalRandom.current().nextInt(seatIds.size()));
+			if (!requested.contains(seatId)) {
+				requested.add(seatId);
+			}
+		}
+		return requested;
+	}
+
+	private static void report(String path, RaceResult result) {
+		long[] latencies = result.latencies();
+		System.out.printf("%-20s %8.0f claims/s  p50 %7.2f ms  p99 %7.2f ms  max %7.2f ms  claimed %d  rejected %d  version conflicts %d  failed %d%n",
+				path, latencies.length / (result.elapsedNanos() / 1e9),
+				percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6,
+				result.outcomes()[Outcome.CLAIMED.ordinal()], result.outcomes()[Outcome.REJECTED.ordinal()],
+				result.outcomes()[Outcome.CONFLICT.ordinal()], result.outcomes()[Outcome.FAILED.ordinal()]);
+	}
+
+	private static double percentile(long[] sortedLatencies, double percentile) {
+		return sortedLatencies[(int) Math.ceil(percentile * sortedLatencies.length) - 1] / 1e6;
+	}
+
+	private Long createEvent() {
+		EventRequestDTO event = new EventRequestDTO();
+		event.setName("Seat Claim Race");
+		event.setDescription("An event whose seats are raced for");
+		event.setVenue("Arena");
+		event.setEventTimestamp(LocalDateTime.now().plusDays(7));
+		event.setTotalSeats(SEATS);
+		event.setSeatsPerRow(10);
+		event.setSeatPricing(List.of(100.0, 90.0, 80.0, 70.0, 60.0));
+		event.setCategory(CategoryEnum.MUSIC);
+		event.setInventoryMode(SeatInventoryMode.PHYSICAL);
+		return eventService.createEvent(event).getId();
+	}
+
+	private List<Long> createBookings(Long eventId) {
+		Users customer = new Users();
+		customer.setName("Seat Claim Customer");
+		customer.setEmail("seatclaims@eventify.test");
+		customer.setPassword("password");
+		customer.setPhone("5000000001");
+		customer.setUserType(UserTypes.CUSTOMER);
+		customer.setGender(Gender.Other);
+		userRepository.save(customer);
+		Events event = eventRepository.getReferenceById(eventId);
+		List<Booking> bookings = new ArrayList<>(THREADS);
+		for (int thread = 0; thread < THREADS; thread++) {
+			Booking booking = new Booking();
+			booking.setUser(customer);
+			booking.setEvent(event);
+			booking.setBookingTimestamp(LocalDateTime.now());
+			booking.setStatus(BookingStatus.PENDING);
+			booking.setTotalAmount(0.0);
+			booking.setNumberOfSeats(SEATS_PER_CLAIM);
+			bookings.add(booking);
+		}
+		return bookingRepository.saveAll(bookings).stream().map(Booking::getId).toList();
+	}
+
+	private enum Outcome {
+		CLAIMED, REJECTED, CONFLICT, FAILED
+	}
+
+	@FunctionalInterface
+	private interface Claim {
+		Outcome attempt(Long eventId, List<Long> seatIds, Long bookingId);
+	}
+
+	private record RaceResult(long[] latencies, int[] outcomes, long elapsedNanos) {
+	}
+}
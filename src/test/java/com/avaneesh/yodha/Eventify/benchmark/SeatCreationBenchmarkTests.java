@@ -0,0 +1,125 @@
+package com.avaneesh.yodha.Eventify.benchmark;
+
+import com.avaneesh.yodha.Eventify.dto.request.EventRequestDTO;
+import com.avaneesh.yodha.Eventify.entities.Events;
+import com.avaneesh.yodha.Eventify.entities.Seat;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.SeatInventoryMode;
+import com.avaneesh.yodha.Eventify.enums.SeatStatus;
+import com.avaneesh.yodha.Eventify.inventory.SeatLayout;
+import com.avaneesh.yodha.Eventify.repository.EventRepository;
+import com.avaneesh.yodha.Eventify.repository.SeatBulkWriter;
+import com.avaneesh.yodha.Eventify.repository.SeatRepository;
+import com.avaneesh.yodha.Eventify.services.EventService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Measures the time to store the seat layout of a new event against its seat count, comparing
+ * {@code saveAll} of generated {@link Seat} entities, which {@code EventService} used before, with the
+ * multi-row INSERTs of {@link SeatBulkWriter}. Each write runs in a transaction of its own on a fresh event,
+ * and the median of a few runs is reported.
+ * <p>
+ * The events are created in {@link SeatInventoryMode#VIRTUAL} mode so that creating them stores no seats of
+ * their own. Runs against the in-memory H2 database of the {@code test} profile.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatCreationBenchmarkTests {
+
+	private static final int SEATS_PER_ROW = 100;
+	private static final int[] SEAT_COUNTS = { 1_000, 10_000, 60_000, 100_000 };
+	private static final int RUNS = 3;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private SeatBulkWriter seatBulkWriter;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void compareSeatCreation() {
+		// Warm up both paths before measuring
+		time(10_000, this::saveAllSeats);
+		time(10_000, this::bulkWriteSeats);
+
+		System.out.printf("%8s %12s %12s%n", "seats", "saveAll", "bulk writer");
+		for (int seats : SEAT_COUNTS) {
+			System.out.printf("%,8d %9d ms %9d ms%n", seats, time(seats, this::saveAllSeats), time(seats, this::bulkWriteSeats));
+		}
+	}
+
+	// --- Private Helper Methods ---
+
+	/**
+	 * Returns the median time in milliseconds of writing a layout of {@code seats} seats to a fresh event.
+	 */
+	private long time(int seats, BiConsumer<Long, Integer> write) {
+		long[] millis = new long[RUNS];
+		for (int run = 0; run < RUNS; run++) {
+			Long eventId = createEvent(seats);
+			long start = System.nanoTime();
+			transactionTemplate.executeWithoutResult(status -> write.accept(eventId, seats));
+			millis[run] = (System.nanoTime() - start) / 1_000_000;
+		}
+		Arrays.sort(millis);
+		return millis[RUNS / 2];
+	}
+
+	private void saveAllSeats(Long eventId, int totalSeats) {
+		Events event = eventRepository.getReferenceById(eventId);
+		List<Seat> seats = new ArrayList<>(totalSeats);
+		for (int position = 0; position < totalSeats; position++) {
+			Seat seat = new Seat();
+			seat.setSeatNumber(SeatLayout.seatNumber(position / SEATS_PER_ROW, position % SEATS_PER_ROW));
+			seat.setStatus(SeatStatus.AVAILABLE);
+			seat.setEvent(event);
+			seat.setSeatPricing(100.0);
+			seats.add(seat);
+		}
+		seatRepository.saveAll(seats);
+	}
+
+	private void bulkWriteSeats(Long eventId, int totalSeats) {
+		seatBulkWriter.insertLayout(eventId, totalSeats, SEATS_PER_ROW, rowPricing(totalSeats));
+	}
+
+	private static List<Double> rowPricing(int totalSeats) {
+		return Collections.nCopies((totalSeats + SEATS_PER_ROW - 1) / SEATS_PER_ROW, 100.0);
+	}
+
+	private Long createEvent(int totalSeats) {
+		EventRequestDTO event = new EventRequestDTO();
+		event.setName("Seat Creation");
+		event.setDescription("An event whose seats are written");
+		event.setVenue("Arena");
+		event.setEventTimestamp(LocalDateTime.now().plusDays(7));
+		event.setTotalSeats(totalSeats);
+		event.setSeatsPerRow(SEATS_PER_ROW);
+		event.setSeatPricing(rowPricing(totalSeats));
+		event.setCategory(CategoryEnum.MUSIC);
+		event.setInventoryMode(SeatInventoryMode.VIRTUAL);
+		return eventService.createEvent(event).getId();
+	}
+}
@@ -0,0 +1,155 @@
+package com.avaneesh.yodha.Eventify.benchmark;
+
+import com.avaneesh.yodha.Eventify.dto.response.EventsResponse;
+import com.avaneesh.yodha.Eventify.dto.response.SeatsResponse;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.SeatInventoryMode;
+import com.avaneesh.yodha.Eventify.enums.SeatStatus;
+import com.avaneesh.yodha.Eventify.inventory.EventSeatInventory;
+import com.avaneesh.yodha.Eventify.inventory.SeatLayout;
+import com.avaneesh.yodha.Eventify.inventory.SeatMapBinaryEncoder;
+import com.avaneesh.yodha.Eventify.repository.projections.SeatStateView;
+import com.avaneesh.yodha.Eventify.services.SeatInventoryService;
+import com.avaneesh.yodha.Eventify.utils.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the payloads that send the seat map of a 50k-seat event (25 rows of 2000 seats, 5 price
+ * tiers): the full {@link EventsResponse} JSON with one object per seat, the compact JSON of
+ * {@code GET /events/{id}/seat-map} and its {@code application/octet-stream} encoding. The payload sizes are
+ * printed before the benchmarks run.
+ * <p>
+ * The full response is serialized from a prebuilt DTO, while the compact payloads are built from the
+ * inventory on every call, as the endpoint does; the full JSON numbers are a lower bound of that path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeatMapPayloadBenchmarkTests {
+
+	private static final long EVENT_ID = 1L;
+	private static final int ROWS = 25;
+	private static final int SEATS_PER_ROW = 2000;
+	private static final double[] TIER_PRICES = { 250.0, 180.0, 120.0, 80.0, 50.0 };
+
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+			.findAndAddModules()
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+	private EventsResponse event;
+	private EventSeatInventory inventory;
+
+	@Test
+	@Tag("benchmark")
+	void compareSeatMapPayloads() throws RunnerException, JsonProcessingException {
+		SeatMapPayloadBenchmarkTests payloads = new SeatMapPayloadBenchmarkTests();
+		payloads.setUp();
+		System.out.printf("full EventsResponse JSON %,10d bytes%n", payloads.fullEventJson().length);
+		System.out.printf("compact JSON             %,10d bytes%n", payloads.compactJson().length);
+		System.out.printf("binary                   %,10d bytes%n", payloads.binary().length);
+		new Runner(new OptionsBuilder().include(SeatMapPayloadBenchmarkTests.class.getName()).build()).run();
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		// A third of the seats are taken and a few are held, as in the middle of an on-sale
+		SplittableRandom random = new SplittableRandom(42);
+		List<SeatStateView> states = new ArrayList<>(ROWS * SEATS_PER_ROW);
+		List<SeatsResponse> seats = new ArrayList<>(ROWS * SEATS_PER_ROW);
+		for (int position = 0; position < ROWS * SEATS_PER_ROW; position++) {
+			int row = position / SEATS_PER_ROW;
+			int draw = random.nextInt(30);
+			SeatStatus status = draw < 10 ? SeatStatus.BOOKED : draw == 10 ? SeatStatus.LOCKED : SeatStatus.AVAILABLE;
+			SeatState seat = new SeatState(position + 1L, SeatLayout.seatNumber(row, position % SEATS_PER_ROW), status,
+					TIER_PRICES[row * TIER_PRICES.length / ROWS]);
+			states.add(seat);
+			SeatsResponse response = new SeatsResponse();
+			response.setId(seat.getId());
+			response.setSeatNumber(seat.getSeatNumber());
+			response.setStatus(seat.getStatus());
+			response.setSeatPricing(seat.getSeatPricing());
+			seats.add(response);
+		}
+		inventory = EventSeatInventory.of(EVENT_ID, SEATS_PER_ROW, states);
+
+		event = new EventsResponse();
+		event.setId(EVENT_ID);
+		event.setName("Stadium Tour");
+		event.setDescription("The final night of the tour");
+		event.setVenue("City Stadium");
+		event.setEventTimestamp(LocalDateTime.of(2030, 6, 1, 20, 0));
+		event.setTotalSeats(ROWS * SEATS_PER_ROW);
+		event.setAvailableSeats(inventory.getAvailableCount());
+		event.setSeats(seats);
+		event.setImageUrls(List.of());
+		event.setCategory(CategoryEnum.MUSIC);
+		event.setInventoryMode(SeatInventoryMode.PHYSICAL);
+	}
+
+	@Benchmark
+	public byte[] fullEventJson() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(new ApiResponse<>(true, "Event fetched successfully", event));
+	}
+
+	@Benchmark
+	public byte[] compactJson() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(new ApiResponse<>(true, "Seat map fetched successfully",
+				SeatInventoryService.snapshotOf(inventory)));
+	}
+
+	@Benchmark
+	public byte[] binary() {
+		return SeatMapBinaryEncoder.encode(inventory);
+	}
+
+	private record SeatState(Long id, String seatNumber, SeatStatus status, Double seatPricing) implements SeatStateView {
+
+		@Override
+		public Long getId() {
+			return id;
+		}
+
+		@Override
+		public String getSeatNumber() {
+			return seatNumber;
+		}
+
+		@Override
+		public SeatStatus getStatus() {
+			return status;
+		}
+
+		@Override
+		public Double getSeatPricing() {
+			return seatPricing;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+package com.avaneesh.yodha.Eventify.inventory;
+
+import com.avaneesh.yodha.Eventify.enums.SeatStatus;
+import com.avaneesh.yodha.Eventify.repository.projections.SeatStateView;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventSeatInventoryTests {
+
+	private static final Long EVENT_ID = 1L;
+
+	@Test
+	void resolvesSeatsByIdAndNumber() {
+		EventSeatInventory inventory = EventSeatInventory.of(EVENT_ID, 4, seats(10, 4, 100L, 100.0, 50.0, 25.0));
+
+		assertEquals(10, inventory.getCapacity());
+		assertEquals(3, inventory.getRowCount());
+		assertEquals(0, inventory.positionOf(100L));
+		assertEquals(9, inventory.positionOf(109L));
+		assertEquals(-1, inventory.positionOf(99L));
+		assertEquals(5, inventory.positionOf("B2"));
+		assertEquals(-1, inventory.positionOf("C3"));
+		assertEquals("C2", inventory.seatNumberAt(9));
+		assertEquals(105L, inventory.seatIdAt(5));
+		assertEquals(50.0, inventory.priceAt(5));
+		assertEquals(List.of(100.0, 50.0, 25.0), inventory.getPriceTiers());
+		assertEquals(1, inventory.seatIdRanges().size());
+		assertArrayEquals(new long[] { 0, 100, 10 }, inventory.seatIdRanges().get(0));
+	}
+
+	@Test
+	void compareAndSetMovesAllSeatsOrNone() {
+		EventSeatInventory inventory = EventSeatInventory.of(EVENT_ID, 4, seats(8, 4, 1L, 100.0, 50.0));
+
+		assertTrue(inventory.compareAndSet(new int[] { 0, 1 }, SeatStatus.AVAILABLE, SeatStatus.LOCKED));
+		assertFalse(inventory.compareAndSet(new int[] { 1, 2 }, SeatStatus.AVAILABLE, SeatStatus.LOCKED));
+		assertEquals(SeatStatus.AVAILABLE, inventory.statusAt(2));
+		assertEquals(1, inventory.firstNotIn(new int[] { 2, 1 }, SeatStatus.AVAILABLE));
+		assertEquals(-1, inventory.firstNotIn(new int[] { 2, 3 }, SeatStatus.AVAILABLE));
+		assertEquals(6, inventory.getAvailableCount());
+
+		inventory.set(new int[] { 0 }, SeatStatus.AVAILABLE);
+		assertEquals(7, inventory.getAvailableCount());
+		inventory.set(new int[] { 1 }, SeatStatus.BOOKED);
+		assertEquals(7, inventory.getAvailableCount());
+	}
+
+	@Test
+	void statusBitmapPacksFourSeatsPerByte() {
+		EventSeatInventory inventory = EventSeatInventory.of(EVENT_ID, 4, seats(5, 4, 1L, 100.0, 50.0));
+		inventory.set(new int[] { 1 }, SeatStatus.LOCKED);
+		inventory.set(new int[] { 4 }, SeatStatus.BOOKED);
+
+		byte[] bitmap = inventory.statusBitmap();
+
+		assertEquals(2, bitmap.length);
+		assertEquals(SeatStatus.LOCKED.ordinal() << 2, bitmap[0]);
+		assertEquals(SeatStatus.BOOKED.ordinal(), bitmap[1]);
+	}
+
+	@Test
+	void bestAvailableTakesTheLeftmostRunOfTheFrontMostRow() {
+		EventSeatInventory inventory = EventSeatInventory.of(EVENT_ID, 4, seats(12, 4, 1L, 100.0, 100.0, 50.0));
+		inventory.set(new int[] { 1 }, SeatStatus.BOOKED);
+
+		assertArrayEquals(new int[] { 2, 3 }, inventory.claimBestAvailable(2, null));
+		assertArrayEquals(new int[] { 4, 5, 6 }, inventory.claimBestAvailable(3, null));
+		assertArrayEquals(new int[] { 0 }, inventory.claimBestAvailable(1, null));
+		assertArrayEquals(new int[] { 8, 9, 10, 11 }, inventory.claimBestAvailable(4, null));
+		assertNull(inventory.claimBestAvailable(2, null));
+		assertNull(inventory.claimBestAvailable(5, null));
+		assertEquals(SeatStatus.LOCKED, inventory.statusAt(9));
+	}
+
+	@Test
+	void bestAvailableStaysWithinThePriceTier() {
+		EventSeatInventory inventory = EventSeatInventory.of(EVENT_ID, 4, seats(12, 4, 1L, 100.0, 50.0, 50.0));
+
+		assertArrayEquals(new int[] { 4, 5, 6 }, inventory.claimBestAvailable(3, 50.0));
+		assertArrayEquals(new int[] { 8, 9 }, inventory.claimBestAvailable(2, 50.0));
+		assertNull(inventory.claimBestAvailable(3, 50.0));
+		assertNull(inventory.claimBestAvailable(1, 75.0));
+		assertArrayEquals(new int[] { 0, 1, 2 }, inventory.claimBestAvailable(3, 100.0));
+
+		inventory.set(new int[] { 8, 9 }, SeatStatus.AVAILABLE);
+		assertArrayEquals(new int[] { 8, 9, 10 }, inventory.claimBestAvailable(3, 50.0));
+	}
+
+	@Test
+	void raggedLastRowCannotBeClaimed() {
+		EventSeatInventory inventory = EventSeatInventory.of(EVENT_ID, 4, seats(6, 4, 1L, 100.0, 50.0));
+
+		assertEquals(6, inventory.getCapacity());
+		assertNull(inventory.claimBestAvailable(3, 50.0));
+		assertArrayEquals(new int[] { 4, 5 }, inventory.claimBestAvailable(2, 50.0));
+	}
+
+	@Test
+	void virtualInventoryDerivesItsSeatsFromTheLayout() {
+		List<SeatStateView> stored = List.of(new SeatState(7L, "A2", SeatStatus.BOOKED, 100.0),
+				new SeatState(8L, "B1", SeatStatus.LOCKED, 50.0));
+		EventSeatInventory inventory = EventSeatInventory.ofLayout(EVENT_ID, 10, 4, List.of(100.0, 50.0, 25.0), stored);
+
+		assertTrue(inventory.isVirtual());
+		assertEquals(8, inventory.getAvailableCount());
+		assertEquals(SeatStatus.BOOKED, inventory.statusAt(1));
+		assertEquals(SeatStatus.LOCKED, inventory.statusAt(4));
+		assertEquals(9, inventory.positionOf("C2"));
+		assertEquals(-1, inventory.positionOf("C3"));
+		assertEquals(-1, inventory.positionOf(7L));
+		assertEquals(0, inventory.seatIdAt(1));
+		assertTrue(inventory.seatIdRanges().isEmpty());
+		assertEquals(25.0, inventory.priceAt(8));
+		assertArrayEquals(new int[] { 5, 6, 7 }, inventory.claimBestAvailable(3, null));
+	}
+
+	@Test
+	void rejectsSeatNumbersOutsideTheLayout() {
+		List<SeatStateView> seats = List.of(new SeatState(1L, "A5", SeatStatus.AVAILABLE, 100.0));
+
+		assertThrows(IllegalStateException.class, () -> EventSeatInventory.of(EVENT_ID, 4, seats));
+	}
+
+	// --- Private Helper Methods ---
+
+	/**
+	 * Returns {@code count} available seats in layout order with consecutive IDs, priced per row.
+	 */
+	private static List<SeatStateView> seats(int count, int seatsPerRow, long firstId, Double... rowPrices) {
+		List<SeatStateView> seats = new ArrayList<>(count);
+		for (int position = 0; position < count; position++) {
+			int row = position / seatsPerRow;
+			seats.add(new SeatState(firstId + position, SeatLayout.seatNumber(row, position % seatsPerRow),
+					SeatStatus.AVAILABLE, rowPrices[row]));
+		}
+		return seats;
+	}
+
+	private record SeatState(Long id, String seatNumber, SeatStatus status, Double seatPricing) implements SeatStateView {
+
+		@Override
+		public Long getId() {
+			return id;
+		}
+
+		@Override
+		public String getSeatNumber() {
+			return seatNumber;
+		}
+
+		@Override
+		public SeatStatus getStatus() {
+			return status;
+		}
+
+		@Override
+		public Double getSeatPricing() {
+			return seatPricing;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.avaneesh.yodha.Eventify.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RowRunIndexTests {
+
+	@Test
+	void findsTheFrontMostRowThatFits() {
+		RowRunIndex index = new RowRunIndex(5);
+		index.update(0, 2);
+		index.update(1, 4);
+		index.update(2, 6);
+		index.update(3, 4);
+		index.update(4, 8);
+
+		assertEquals(0, index.firstAtLeast(1));
+		assertEquals(0, index.firstAtLeast(2));
+		assertEquals(1, index.firstAtLeast(3));
+		assertEquals(2, index.firstAtLeast(5));
+		assertEquals(4, index.firstAtLeast(7));
+		assertEquals(-1, index.firstAtLeast(9));
+	}
+
+	@Test
+	void followsUpdatedRuns() {
+		RowRunIndex index = new RowRunIndex(3);
+		index.update(0, 4);
+		index.update(1, 4);
+		index.update(2, 4);
+
+		index.update(0, 1);
+		assertEquals(1, index.firstAtLeast(2));
+		index.update(1, 0);
+		assertEquals(2, index.firstAtLeast(2));
+		index.update(2, 1);
+		assertEquals(-1, index.firstAtLeast(2));
+		index.update(0, 3);
+		assertEquals(0, index.firstAtLeast(2));
+	}
+
+	@Test
+	void emptyAndSingleRowIndexes() {
+		assertEquals(-1, new RowRunIndex(0).firstAtLeast(1));
+		RowRunIndex single = new RowRunIndex(1);
+		assertEquals(-1, single.firstAtLeast(1));
+		single.update(0, 3);
+		assertEquals(0, single.firstAtLeast(3));
+	}
+
+	@Test
+	void matchesALinearScanAfterRandomUpdates() {
+		SplittableRandom random = new SplittableRandom(7);
+		int rows = 37;
+		int[] runs = new int[rows];
+		RowRunIndex index = new RowRunIndex(rows);
+		for (int step = 0; step < 2000; step++) {
+			int row = random.nextInt(rows);
+			runs[row] = random.nextInt(11);
+			index.update(row, runs[row]);
+			int minRun = 1 + random.nextInt(10);
+			assertEquals(linearScan(runs, minRun), index.firstAtLeast(minRun), "step " + step);
+		}
+	}
+
+	// --- Private Helper Methods ---
+
+	private static int linearScan(int[] runs, int minRun) {
+		for (int row = 0; row < runs.length; row++) {
+			if (runs[row] >= minRun) {
+				return row;
+			}
+		}
+		return -1;
+	}
+}
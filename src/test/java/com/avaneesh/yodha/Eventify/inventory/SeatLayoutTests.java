@@ -0,0 +1,64 @@
+package com.avaneesh.yodha.Eventify.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeatLayoutTests {
+
+	@Test
+	void rowKeysContinuePastZWithMultipleLetters() {
+		assertEquals("A", SeatLayout.rowKey(0));
+		assertEquals("Z", SeatLayout.rowKey(25));
+		assertEquals("AA", SeatLayout.rowKey(26));
+		assertEquals("AB", SeatLayout.rowKey(27));
+		assertEquals("AZ", SeatLayout.rowKey(51));
+		assertEquals("BA", SeatLayout.rowKey(52));
+		assertEquals("ZZ", SeatLayout.rowKey(701));
+		assertEquals("AAA", SeatLayout.rowKey(702));
+	}
+
+	@Test
+	void seatNumbersAreDistinctIgnoringCase() {
+		Set<String> seatNumbers = new HashSet<>();
+		for (int row = 0; row < 2000; row++) {
+			for (int seatInRow = 0; seatInRow < 12; seatInRow++) {
+				String seatNumber = SeatLayout.seatNumber(row, seatInRow);
+				assertTrue(seatNumber.matches("[A-Z]+[0-9]+"), seatNumber);
+				assertTrue(seatNumbers.add(seatNumber.toLowerCase(Locale.ROOT)), seatNumber);
+			}
+		}
+	}
+
+	@Test
+	void positionOfInvertsSeatNumber() {
+		int seatsPerRow = 7;
+		for (int position = 0; position < 5000; position++) {
+			String seatNumber = SeatLayout.seatNumber(position / seatsPerRow, position % seatsPerRow);
+			assertEquals(position, SeatLayout.positionOf(seatNumber, seatsPerRow), seatNumber);
+		}
+	}
+
+	@Test
+	void positionOfRejectsMalformedSeatNumbers() {
+		for (String seatNumber : List.of("", "A", "7", "A0", "A8", "a1", "[1", "A1B", "A-1", "AAAAAAA1", "A9999999999")) {
+			assertEquals(-1, SeatLayout.positionOf(seatNumber, 7), seatNumber);
+		}
+		assertEquals(-1, SeatLayout.positionOf(null, 7));
+	}
+
+	@Test
+	void rowsAreFilledUpToTotalSeats() {
+		SeatLayout layout = new SeatLayout(95, 10, List.of());
+		assertEquals(10, layout.rowCount());
+		assertEquals(10, layout.seatsInRow(8));
+		assertEquals(5, layout.seatsInRow(9));
+		assertEquals(0, layout.seatsInRow(10));
+	}
+}
@@ -0,0 +1,144 @@
+package com.avaneesh.yodha.Eventify.repository;
+
+import com.avaneesh.yodha.Eventify.dto.request.EventRequestDTO;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.SeatInventoryMode;
+import com.avaneesh.yodha.Eventify.inventory.SeatLayout;
+import com.avaneesh.yodha.Eventify.repository.projections.SeatStateView;
+import com.avaneesh.yodha.Eventify.services.EventService;
+import com.avaneesh.yodha.Eventify.services.SeatInventoryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that layout changes written as a seat diff leave exactly the seats a freshly generated layout
+ * would have, with their prices, including layouts of more than 26 rows.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatBulkWriterTests {
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private SeatBulkWriter seatBulkWriter;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private SeatInventoryService seatInventoryService;
+
+	@Test
+	void dropsRowsPastZ() {
+		Long eventId = createEvent(120, 3, prices(40, 100.0));
+		Map<String, Long> idsBefore = seatIds(eventId);
+
+		// Rows AE (index 30) and up leave the layout
+		updateLayout(eventId, 90, 3, prices(30, 100.0));
+
+		assertLayout(eventId, new SeatLayout(90, 3, prices(30, 100.0)));
+		seatIds(eventId).forEach((seatNumber, id) -> assertEquals(idsBefore.get(seatNumber), id, seatNumber));
+	}
+
+	@Test
+	void repricesOnlyTheChangedRowsPastZ() {
+		Long eventId = createEvent(120, 3, prices(40, 100.0));
+		List<Double> repriced = prices(40, 100.0);
+		repriced.set(27, 5.0);
+		repriced.set(30, 7.0);
+		repriced.set(32, 7.0);
+
+		updateLayout(eventId, 120, 3, repriced);
+
+		assertLayout(eventId, new SeatLayout(120, 3, repriced));
+	}
+
+	@Test
+	void shrinksAndGrowsRowsPastZ() {
+		Long eventId = createEvent(120, 3, prices(40, 100.0));
+
+		updateLayout(eventId, 79, 2, prices(40, 50.0));
+		assertLayout(eventId, new SeatLayout(79, 2, prices(40, 50.0)));
+
+		updateLayout(eventId, 250, 5, prices(50, 20.0));
+		assertLayout(eventId, new SeatLayout(250, 5, prices(50, 20.0)));
+		assertEquals(250, seatInventoryService.inventoryFor(eventId).getAvailableCount());
+	}
+
+	@Test
+	void countsTheChangedSeats() {
+		Long eventId = createEvent(12, 4, List.of(300.0, 200.0, 100.0));
+
+		int changed = seatBulkWriter.applyLayoutChange(eventId, new SeatLayout(12, 4, List.of(300.0, 200.0, 100.0)),
+				new SeatLayout(10, 4, List.of(300.0, 250.0, 100.0)));
+
+		// B1..B4 repriced, C3 and C4 deleted
+		assertEquals(6, changed);
+		assertLayout(eventId, new SeatLayout(10, 4, List.of(300.0, 250.0, 100.0)));
+	}
+
+	// --- Private Helper Methods ---
+
+	private Long createEvent(int totalSeats, int seatsPerRow, List<Double> seatPricing) {
+		return eventService.createEvent(request(totalSeats, seatsPerRow, seatPricing)).getId();
+	}
+
+	private void updateLayout(Long eventId, int totalSeats, int seatsPerRow, List<Double> seatPricing) {
+		eventService.updateEvent(eventId, request(totalSeats, seatsPerRow, seatPricing));
+	}
+
+	private void assertLayout(Long eventId, SeatLayout layout) {
+		Map<String, Double> expected = new TreeMap<>();
+		for (int position = 0; position < layout.totalSeats(); position++) {
+			int row = position / layout.seatsPerRow();
+			expected.put(SeatLayout.seatNumber(row, position % layout.seatsPerRow()), layout.priceOf(row));
+		}
+		Map<String, Double> actual = new TreeMap<>();
+		for (SeatStateView seat : seatRepository.findSeatStatesByEventId(eventId)) {
+			actual.put(seat.getSeatNumber(), seat.getSeatPricing());
+		}
+		assertEquals(expected, actual);
+	}
+
+	private Map<String, Long> seatIds(Long eventId) {
+		Map<String, Long> ids = new TreeMap<>();
+		for (SeatStateView seat : seatRepository.findSeatStatesByEventId(eventId)) {
+			ids.put(seat.getSeatNumber(), seat.getId());
+		}
+		return ids;
+	}
+
+	private static List<Double> prices(int rows, double frontRowPrice) {
+		List<Double> prices = new ArrayList<>();
+		for (int row = 0; row < rows; row++) {
+			prices.add(frontRowPrice - row);
+		}
+		return prices;
+	}
+
+	private static EventRequestDTO request(int totalSeats, int seatsPerRow, List<Double> seatPricing) {
+		EventRequestDTO event = new EventRequestDTO();
+		event.setName("Layout Diff Night");
+		event.setDescription("An event to change the layout of");
+		event.setVenue("Arena");
+		event.setEventTimestamp(LocalDateTime.now().plusDays(7));
+		event.setTotalSeats(totalSeats);
+		event.setSeatsPerRow(seatsPerRow);
+		event.setSeatPricing(seatPricing);
+		event.setCategory(CategoryEnum.MUSIC);
+		event.setInventoryMode(SeatInventoryMode.PHYSICAL);
+		return event;
+	}
+}
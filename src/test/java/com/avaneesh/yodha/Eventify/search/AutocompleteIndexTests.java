@@ -0,0 +1,97 @@
+package com.avaneesh.yodha.Eventify.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AutocompleteIndexTests {
+
+	@Test
+	void completesAnyWordOfTheText() {
+		AutocompleteIndex<String> index = new AutocompleteIndex.Builder<String>()
+				.add("jazz", "Summer Jazz Night", 1.0)
+				.add("rock", "Rock Arena", 2.0)
+				.build(10);
+
+		assertEquals(List.of("jazz"), index.complete("summ", 10));
+		assertEquals(List.of("jazz"), index.complete("jaz", 10));
+		assertEquals(List.of("jazz"), index.complete("jazz ni", 10));
+		assertEquals(List.of("rock"), index.complete("are", 10));
+		assertTrue(index.complete("azz", 10).isEmpty());
+	}
+
+	@Test
+	void ignoresCaseAndRepeatedWhitespace() {
+		AutocompleteIndex<String> index = new AutocompleteIndex.Builder<String>()
+				.add("jazz", "Summer  Jazz\tNight", 1.0)
+				.build(10);
+
+		assertEquals(List.of("jazz"), index.complete("  JAZZ   night ", 10));
+		assertTrue(index.complete("   ", 10).isEmpty());
+		assertTrue(index.complete(null, 10).isEmpty());
+	}
+
+	@Test
+	void ranksByScoreAndThenByInsertionOrder() {
+		AutocompleteIndex<String> index = new AutocompleteIndex.Builder<String>()
+				.add("first", "Stadium One", 1.0)
+				.add("second", "Stadium Two", 3.0)
+				.add("third", "Stadium Three", 1.0)
+				.add("fourth", "Stadium Four", 2.0)
+				.build(10);
+
+		// Both the precomputed short prefixes and the searched longer ones rank the same
+		assertEquals(List.of("second", "fourth", "first", "third"), index.complete("s", 10));
+		assertEquals(List.of("second", "fourth", "first", "third"), index.complete("stad", 10));
+		assertEquals(List.of("second", "fourth"), index.complete("st", 2));
+		assertEquals(List.of("second", "fourth"), index.complete("stadium", 2));
+	}
+
+	@Test
+	void suggestsATextOnceWhenSeveralOfItsWordsMatch() {
+		AutocompleteIndex<String> index = new AutocompleteIndex.Builder<String>()
+				.add("echo", "Echo Echo Echoes", 1.0)
+				.add("other", "Echo Park", 0.5)
+				.build(10);
+
+		assertEquals(List.of("echo", "other"), index.complete("ec", 10));
+		assertEquals(List.of("echo", "other"), index.complete("echo", 10));
+	}
+
+	@Test
+	void limitsCompletionsToTheBuiltLimit() {
+		AutocompleteIndex.Builder<String> builder = new AutocompleteIndex.Builder<>();
+		for (int i = 0; i < 20; i++) {
+			builder.add("event " + i, "Festival " + i, i);
+		}
+		AutocompleteIndex<String> index = builder.build(5);
+
+		assertEquals(List.of("event 19", "event 18", "event 17", "event 16", "event 15"), index.complete("fe", 50));
+		assertEquals(List.of("event 19", "event 18", "event 17", "event 16", "event 15"), index.complete("festival", 50));
+		assertTrue(index.complete("fe", 0).isEmpty());
+	}
+
+	@Test
+	void completesPrefixesLongerThanTheKeys() {
+		String name = "A Very Long Conference Name That Keeps Going Well Past The Key Length";
+		AutocompleteIndex<String> index = new AutocompleteIndex.Builder<String>()
+				.add("conference", name, 1.0)
+				.build(10);
+
+		assertEquals(List.of("conference"), index.complete(name, 10));
+		assertEquals(List.of("conference"), index.complete("conference name that keeps going well past the key length", 10));
+	}
+
+	@Test
+	void skipsBlankTexts() {
+		AutocompleteIndex<String> index = new AutocompleteIndex.Builder<String>()
+				.add("blank", "  ", 1.0)
+				.build(10);
+
+		assertEquals(0, index.size());
+		assertTrue(index.complete("b", 10).isEmpty());
+	}
+}
@@ -0,0 +1,138 @@
+package com.avaneesh.yodha.Eventify.search;
+
+import com.avaneesh.yodha.Eventify.search.EventTextIndex.Clause;
+import com.avaneesh.yodha.Eventify.search.EventTextIndex.Field;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EventTextIndexTests {
+
+	@Test
+	void findsCaseInsensitiveSubstrings() {
+		EventTextIndex index = new EventTextIndex();
+		index.put(1L, "Summer Jazz Night", "Riverside Hall", "Smooth jazz by the river");
+		index.put(2L, "Rock Arena", "Stadium", "Loud guitars");
+
+		assertEquals(Set.of(1L), index.find(List.of(Clause.anywhere("MER JA")), 10));
+		assertEquals(Set.of(1L), index.find(List.of(Clause.anywhere("river")), 10));
+		assertEquals(Set.of(2L), index.find(List.of(Clause.anywhere("guitar")), 10));
+		assertEquals(Set.of(), index.find(List.of(Clause.anywhere("piano")), 10));
+	}
+
+	@Test
+	void restrictsClausesToTheirFields() {
+		EventTextIndex index = new EventTextIndex();
+		index.put(1L, "Riverside Festival", "Park", "Open air");
+		index.put(2L, "Open Mic", "Riverside Hall", "Anyone can sing");
+
+		assertEquals(Set.of(1L), index.find(List.of(Clause.in(Field.NAME, "riverside")), 10));
+		assertEquals(Set.of(2L), index.find(List.of(Clause.in(Field.VENUE, "riverside")), 10));
+		assertEquals(Set.of(1L, 2L), index.find(List.of(Clause.anywhere("riverside")), 10));
+		assertEquals(Set.of(1L), index.find(List.of(Clause.in(Field.DESCRIPTION, "open")), 10));
+	}
+
+	@Test
+	void requiresEveryClause() {
+		EventTextIndex index = new EventTextIndex();
+		index.put(1L, "Jazz Night", "Riverside Hall", null);
+		index.put(2L, "Jazz Brunch", "City Cafe", null);
+
+		assertEquals(Set.of(1L), index.find(List.of(Clause.in(Field.NAME, "jazz"), Clause.in(Field.VENUE, "hall")), 10));
+		assertEquals(Set.of(), index.find(List.of(Clause.in(Field.NAME, "brunch"), Clause.in(Field.VENUE, "hall")), 10));
+	}
+
+	@Test
+	void clausesShorterThanATrigramCheckEveryEvent() {
+		EventTextIndex index = new EventTextIndex();
+		index.put(1L, "Jazz Night", "Hall", "");
+		index.put(2L, "Rock", "Arena", "");
+
+		assertEquals(Set.of(1L), index.find(List.of(Clause.anywhere("zz")), 10));
+		assertEquals(Set.of(1L, 2L), index.find(List.of(Clause.anywhere("a")), 10));
+		assertEquals(Set.of(1L, 2L), index.find(List.of(Clause.anywhere("")), 10));
+	}
+
+	@Test
+	void replacedAndRemovedEventsStopMatching() {
+		EventTextIndex index = new EventTextIndex();
+		index.put(1L, "Jazz Night", "Hall", "");
+		index.put(2L, "Jazz Brunch", "Cafe", "");
+
+		index.put(1L, "Blues Night", "Hall", "");
+		assertEquals(Set.of(2L), index.find(List.of(Clause.anywhere("jazz")), 10));
+		assertEquals(Set.of(1L), index.find(List.of(Clause.anywhere("blues")), 10));
+
+		index.remove(2L);
+		index.remove(3L);
+		assertEquals(1, index.size());
+		assertEquals(Set.of(), index.find(List.of(Clause.anywhere("jazz")), 10));
+
+		// The freed slot is reused by the next event
+		index.put(3L, "Jazz Brunch", "Cafe", "");
+		assertEquals(Set.of(3L), index.find(List.of(Clause.anywhere("jazz")), 10));
+		assertEquals(2, index.size());
+	}
+
+	@Test
+	void returnsNullPastTheLimit() {
+		EventTextIndex index = new EventTextIndex();
+		for (long eventId = 1; eventId <= 5; eventId++) {
+			index.put(eventId, "Concert " + eventId, "Hall", "");
+		}
+
+		assertEquals(5, index.find(List.of(Clause.anywhere("concert")), 5).size());
+		assertNull(index.find(List.of(Clause.anywhere("concert")), 4));
+		assertNull(index.find(List.of(Clause.anywhere("c")), 4));
+	}
+
+	@Test
+	void matchesAScanOfTheValuesAfterRandomChanges() {
+		SplittableRandom random = new SplittableRandom(11);
+		String[] words = { "jazz", "rock", "night", "hall", "river", "arena", "open", "air", "festival", "brunch" };
+		EventTextIndex index = new EventTextIndex();
+		Map<Long, String[]> events = new HashMap<>();
+		for (int step = 0; step < 3000; step++) {
+			long eventId = 1 + random.nextInt(200);
+			if (random.nextInt(4) == 0) {
+				index.remove(eventId);
+				events.remove(eventId);
+			} else {
+				String[] values = { phrase(random, words), phrase(random, words), phrase(random, words) };
+				index.put(eventId, values[0], values[1], values[2]);
+				events.put(eventId, values);
+			}
+			if (step % 10 == 0) {
+				String word = words[random.nextInt(words.length)];
+				String text = word.substring(0, Math.min(word.length(), 2 + random.nextInt(3)));
+				Field field = Field.values()[random.nextInt(Field.values().length)];
+				assertEquals(scan(events, field, text), index.find(List.of(Clause.in(field, text)), Integer.MAX_VALUE), "step " + step);
+			}
+		}
+	}
+
+	// --- Private Helper Methods ---
+
+	private static String phrase(SplittableRandom random, String[] words) {
+		return words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)].toUpperCase(Locale.ROOT);
+	}
+
+	private static Set<Long> scan(Map<Long, String[]> events, Field field, String text) {
+		Set<Long> matches = new HashSet<>();
+		events.forEach((eventId, values) -> {
+			if (values[field.ordinal()].toLowerCase(Locale.ROOT).contains(text)) {
+				matches.add(eventId);
+			}
+		});
+		return matches;
+	}
+}
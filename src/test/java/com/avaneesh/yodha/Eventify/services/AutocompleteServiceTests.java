@@ -0,0 +1,71 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import com.avaneesh.yodha.Eventify.dto.response.AutocompleteSuggestion;
+import com.avaneesh.yodha.Eventify.enums.CategoryEnum;
+import com.avaneesh.yodha.Eventify.enums.SuggestionType;
+import com.avaneesh.yodha.Eventify.repository.EventRepository;
+import com.avaneesh.yodha.Eventify.repository.projections.EventRankView;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AutocompleteServiceTests {
+
+	@Test
+	void suggestsOnlyCategoriesWithUpcomingEvents() {
+		EventRepository eventRepository = mock(EventRepository.class);
+		when(eventRepository.findUpcomingRanks(any())).thenReturn(List.of(
+				new EventRank(1L, "Summer Sessions", "Riverside", CategoryEnum.MUSIC, LocalDateTime.now().plusDays(3), 10)));
+		AutocompleteService autocomplete = new AutocompleteService(eventRepository, 20);
+
+		autocomplete.refresh();
+
+		List<AutocompleteSuggestion> music = autocomplete.complete("mus", 10);
+		assertEquals(1, music.size());
+		assertEquals(SuggestionType.CATEGORY, music.get(0).getType());
+		assertEquals(1, music.get(0).getUpcomingEvents());
+		assertTrue(autocomplete.complete("sports", 10).isEmpty());
+		assertTrue(autocomplete.complete("work", 10).isEmpty());
+	}
+
+	private record EventRank(Long id, String name, String venue, CategoryEnum category, LocalDateTime eventTimestamp,
+							 int bookedSeats) implements EventRankView {
+
+		@Override
+		public Long getId() {
+			return id;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public String getVenue() {
+			return venue;
+		}
+
+		@Override
+		public CategoryEnum getCategory() {
+			return category;
+		}
+
+		@Override
+		public LocalDateTime getEventTimestamp() {
+			return eventTimestamp;
+		}
+
+		@Override
+		public int getBookedSeats() {
+			return bookedSeats;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingSequencerTests {
+
+	private EventSeatCounterService counterService;
+	private BookingSequencer sequencer;
+
+	@BeforeEach
+	void setUp() {
+		counterService = mock(EventSeatCounterService.class);
+		when(counterService.findExistingEventIds(anyCollection()))
+				.thenAnswer(invocation -> new HashSet<>(invocation.<Collection<Long>>getArgument(0)));
+		TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+		sequencer = new BookingSequencer(counterService, transactionTemplate, mock(ApplicationEventPublisher.class), 1, 2, 5, 60000);
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		sequencer.stop();
+	}
+
+	@Test
+	void groupCommitsAtMostTheBatchSizeOfEvents() throws InterruptedException {
+		for (long eventId = 1; eventId <= 5; eventId++) {
+			sequencer.hold(eventId, 2);
+		}
+		sequencer.hold(1L, 1);
+
+		sequencer.start();
+		awaitFlushed(List.of(1L, 2L, 3L, 4L, 5L));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Collection<Long>> groups = ArgumentCaptor.forClass(Collection.class);
+		verify(counterService, atLeastOnce()).findExistingEventIds(groups.capture());
+		Set<Long> committed = new HashSet<>();
+		for (Collection<Long> group : groups.getAllValues()) {
+			assertTrue(group.size() <= 2, "group of " + group.size() + " events");
+			committed.addAll(group);
+		}
+		assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), committed);
+		verify(counterService).increment(1L, 3);
+		for (long eventId = 2; eventId <= 5; eventId++) {
+			verify(counterService).increment(eventId, 2);
+		}
+	}
+
+	// --- Private Helper Methods ---
+
+	private void awaitFlushed(List<Long> eventIds) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (eventIds.stream().anyMatch(eventId -> sequencer.pendingDelta(eventId) != 0)) {
+			if (System.currentTimeMillis() > deadline) {
+				throw new AssertionError("The sequencer did not flush its deltas in time.");
+			}
+			Thread.sleep(10);
+		}
+	}
+}
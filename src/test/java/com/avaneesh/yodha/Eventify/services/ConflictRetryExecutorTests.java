@@ -0,0 +1,71 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import com.avaneesh.yodha.Eventify.dto.response.BookingConflictStatsResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConflictRetryExecutorTests {
+
+	@Test
+	void statsTrackABoundedNumberOfEvents() {
+		ConflictRetryExecutor executor = new ConflictRetryExecutor(4, 0, 0, 1000, 16, 24);
+
+		for (long eventId = 1; eventId <= 1000; eventId++) {
+			executor.execute("createBooking", eventId, () -> "booked");
+		}
+
+		List<BookingConflictStatsResponse> stats = executor.getConflictStats();
+		assertTrue(stats.size() <= 16, "tracked " + stats.size() + " events");
+		assertTrue(stats.stream().anyMatch(event -> event.getEventId() == 1000L));
+	}
+
+	@Test
+	void retriedConflictsAreCounted() {
+		ConflictRetryExecutor executor = new ConflictRetryExecutor(4, 0, 0, 1000, 16, 24);
+		AtomicBoolean conflicted = new AtomicBoolean();
+
+		executor.execute("createBooking", 7L, () -> {
+			if (conflicted.compareAndSet(false, true)) {
+				throw new ObjectOptimisticLockingFailureException("Seat", 1L);
+			}
+			return "booked";
+		});
+
+		BookingConflictStatsResponse stats = executor.getConflictStats().get(0);
+		assertEquals(1, stats.getCalls());
+		assertEquals(1, stats.getVersionConflicts());
+		assertEquals(1, stats.getRecovered());
+	}
+
+	@Test
+	void concurrentFirstCallsOfAnEventAreAllCounted() throws Exception {
+		ConflictRetryExecutor executor = new ConflictRetryExecutor(4, 0, 0, 1000, 16, 24);
+		ExecutorService threads = Executors.newFixedThreadPool(32);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<String>> calls = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			calls.add(threads.submit(() -> {
+				start.await();
+				return executor.execute("createBooking", 7L, () -> "booked");
+			}));
+		}
+		start.countDown();
+		for (Future<String> call : calls) {
+			call.get();
+		}
+		threads.shutdown();
+
+		assertEquals(200, executor.getConflictStats().get(0).getCalls());
+	}
+}
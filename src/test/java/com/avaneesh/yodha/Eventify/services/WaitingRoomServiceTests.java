@@ -0,0 +1,136 @@
+package com.avaneesh.yodha.Eventify.services;
+
+import com.avaneesh.yodha.Eventify.dto.response.WaitingRoomTicketResponse;
+import com.avaneesh.yodha.Eventify.exception.AdmissionRequiredException;
+import com.avaneesh.yodha.Eventify.exception.ConcurrencyConflictException;
+import com.avaneesh.yodha.Eventify.exception.ResourceNotFoundException;
+import com.avaneesh.yodha.Eventify.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WaitingRoomServiceTests {
+
+	private static final Long EVENT_ID = 1L;
+	private static final String EMAIL = "fan@eventify.test";
+
+	private EventRepository eventRepository;
+
+	@BeforeEach
+	void setUp() {
+		eventRepository = mock(EventRepository.class);
+		when(eventRepository.existsByIdAndEventTimestampAfter(eq(EVENT_ID), any())).thenReturn(true);
+	}
+
+	@Test
+	void admissionTokenAdmitsOneBooking() {
+		WaitingRoomService waitingRoom = waitingRoom(10);
+		String token = admittedTicket(waitingRoom);
+
+		waitingRoom.admit(EVENT_ID, EMAIL, token);
+		assertThrows(AdmissionRequiredException.class, () -> waitingRoom.admit(EVENT_ID, EMAIL, token));
+		waitingRoom.complete(token);
+
+		assertThrows(AdmissionRequiredException.class, () -> waitingRoom.admit(EVENT_ID, EMAIL, token));
+		assertThrows(ResourceNotFoundException.class, () -> waitingRoom.getTicket(token));
+	}
+
+	@Test
+	void concurrentBookingsWithOneTokenAdmitOnlyOne() throws Exception {
+		WaitingRoomService waitingRoom = waitingRoom(10);
+		String token = admittedTicket(waitingRoom);
+		ExecutorService threads = Executors.newFixedThreadPool(16);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> attempts = new ArrayList<>();
+		Callable<Boolean> attempt = () -> {
+			start.await();
+			try {
+				waitingRoom.admit(EVENT_ID, EMAIL, token);
+				return true;
+			} catch (AdmissionRequiredException e) {
+				return false;
+			}
+		};
+		for (int i = 0; i < 16; i++) {
+			attempts.add(threads.submit(attempt));
+		}
+		start.countDown();
+
+		int admitted = 0;
+		for (Future<Boolean> result : attempts) {
+			admitted += result.get() ? 1 : 0;
+		}
+		threads.shutdown();
+		assertEquals(1, admitted);
+	}
+
+	@Test
+	void abandonedTokenCanBeUsedAgain() {
+		WaitingRoomService waitingRoom = waitingRoom(10);
+		String token = admittedTicket(waitingRoom);
+
+		waitingRoom.admit(EVENT_ID, EMAIL, token);
+		waitingRoom.abandon(token);
+
+		assertDoesNotThrow(() -> waitingRoom.admit(EVENT_ID, EMAIL, token));
+	}
+
+	@Test
+	void tokenInUseKeepsItsTicket() {
+		WaitingRoomService waitingRoom = waitingRoom(10);
+		String token = admittedTicket(waitingRoom);
+
+		waitingRoom.admit(EVENT_ID, EMAIL, token);
+
+		assertTrue(waitingRoom.getTicket(token).isAdmitted());
+		assertEquals(token, waitingRoom.join(EVENT_ID, EMAIL).getTicketId());
+	}
+
+	@Test
+	void onlyUpcomingEventsCanBeJoined() {
+		WaitingRoomService waitingRoom = waitingRoom(10);
+
+		assertThrows(ResourceNotFoundException.class, () -> waitingRoom.join(2L, EMAIL));
+	}
+
+	@Test
+	void fullQueueTurnsArrivalsAway() {
+		WaitingRoomService waitingRoom = waitingRoom(2);
+		waitingRoom.join(EVENT_ID, "first@eventify.test");
+		waitingRoom.join(EVENT_ID, "second@eventify.test");
+
+		assertThrows(ConcurrencyConflictException.class, () -> waitingRoom.join(EVENT_ID, "third@eventify.test"));
+		assertEquals(2, waitingRoom.join(EVENT_ID, "second@eventify.test").getPosition());
+
+		waitingRoom.admitNextBatch();
+		assertDoesNotThrow(() -> waitingRoom.join(EVENT_ID, "third@eventify.test"));
+	}
+
+	// --- Private Helper Methods ---
+
+	private WaitingRoomService waitingRoom(long maxQueueLength) {
+		return new WaitingRoomService(eventRepository, true, 50, 300, maxQueueLength);
+	}
+
+	private String admittedTicket(WaitingRoomService waitingRoom) {
+		WaitingRoomTicketResponse ticket = waitingRoom.join(EVENT_ID, EMAIL);
+		waitingRoom.admitNextBatch();
+		return ticket.getTicketId();
+	}
+}